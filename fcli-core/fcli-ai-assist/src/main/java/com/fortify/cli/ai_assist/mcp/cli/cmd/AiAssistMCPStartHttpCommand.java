@@ -42,6 +42,7 @@ import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.http.ssl.trust.FcliTrustManager;
 import com.fortify.cli.common.log.LogMaskContext;
 import com.fortify.cli.common.mcp.MCPExclude;
+import com.fortify.cli.common.rest.unirest.config.UnirestHttpClientConfigurer;
 import com.fortify.cli.common.session.helper.AbstractSessionHelper;
 import com.fortify.cli.common.util.DateTimePeriodHelper;
 import com.fortify.cli.common.util.DateTimePeriodHelper.Period;
@@ -183,6 +184,7 @@ public class AiAssistMCPStartHttpCommand extends AbstractRunnableCommand impleme
             asyncJobManager.shutdown();
             scopeCleanupScheduler.shutdown();
             sessionDescriptorResolver.shutdown();
+            UnirestHttpClientConfigurer.shutdownPools();
             latch.countDown();
         }, "mcp-http-shutdown-hook"));
         latch.await();
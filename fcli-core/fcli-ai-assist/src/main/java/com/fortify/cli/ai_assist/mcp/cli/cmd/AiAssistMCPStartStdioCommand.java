@@ -63,6 +63,7 @@ import com.fortify.cli.common.exception.FcliBugException;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.http.ssl.trust.FcliTrustManager;
 import com.fortify.cli.common.mcp.MCPExclude;
+import com.fortify.cli.common.rest.unirest.config.UnirestHttpClientConfigurer;
 import com.fortify.cli.common.util.DateTimePeriodHelper;
 import com.fortify.cli.common.util.DateTimePeriodHelper.Period;
 import com.fortify.cli.common.util.DisableTest;
@@ -170,6 +171,7 @@ public class AiAssistMCPStartStdioCommand extends AbstractRunnableCommand implem
         // handshake could complete. The latch approach eliminates that race entirely.
         Runtime.getRuntime().addShutdownHook(new Thread(latch::countDown, "mcp-shutdown-hook"));
         latch.await();
+        UnirestHttpClientConfigurer.shutdownPools();
         return 0;
     }
 
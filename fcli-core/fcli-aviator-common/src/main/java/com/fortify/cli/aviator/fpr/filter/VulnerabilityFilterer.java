@@ -13,9 +13,7 @@
 package com.fortify.cli.aviator.fpr.filter;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -39,15 +37,7 @@ public class VulnerabilityFilterer {
         }
 
         try {
-            SearchTree searchTree;
-            // Automatically detect which parser to use based on the presence of AND/OR
-            if (MODERN_SYNTAX_DETECTOR.matcher(queryString).find()) {
-                logger.trace("Modern syntax (AND/OR) detected for query: '{}'", queryString);
-                searchTree = FilterParser.parse(queryString);
-            } else {
-                logger.trace("Legacy syntax detected for query: '{}'", queryString);
-                searchTree = FilterParser.parseLegacy(queryString);
-            }
+            SearchTree searchTree = parse(queryString);
 
             return vulnerabilities.stream()
                     .filter(vuln -> VulnerabilityEvaluator.evaluate(searchTree, vuln))
@@ -61,39 +51,71 @@ public class VulnerabilityFilterer {
         }
     }
 
+    /**
+     * Apply the given {@link FilterSet} to the given vulnerabilities. Filters are applied in order;
+     * a 'hide' filter removes matching vulnerabilities from consideration by any subsequent filters,
+     * whereas a 'setFolder' filter marks matching (not yet hidden) vulnerabilities as being in a folder.
+     * If the filter set contains any 'setFolder' filters, only vulnerabilities that are in a folder
+     * are returned.
+     * <p>
+     * Each filter query is parsed only once, after which all filters are evaluated against each
+     * vulnerability in a single pass, avoiding repeated list copies and O(n*m) list removals.
+     */
     public static List<Vulnerability> filterVulnerabilities(List<Vulnerability> vulnerabilities, FilterSet fs) {
         if (fs == null || fs.getFilters() == null || fs.getFilters().isEmpty() || vulnerabilities == null) {
             return vulnerabilities;
         }
 
-        // Start with all
-        List<Vulnerability> current = new ArrayList<>(vulnerabilities);
-        boolean hasFolderFilters = false;
-        Set<Vulnerability> inFolder = new HashSet<>();
-
-        for (Filter f : fs.getFilters()) {
-            String action = f.getAction().toLowerCase();
-            String query = f.getQuery();
-            SearchTree tree = MODERN_SYNTAX_DETECTOR.matcher(query).find() ? FilterParser.parse(query) : FilterParser.parseLegacy(query);
+        List<CompiledFilter> compiledFilters = compile(fs.getFilters());
+        boolean hasFolderFilters = compiledFilters.stream().anyMatch(CompiledFilter::isSetFolder);
+        List<Vulnerability> result = new ArrayList<>();
+        for (Vulnerability v : vulnerabilities) {
+            if (isKept(v, compiledFilters, hasFolderFilters)) {
+                result.add(v);
+            }
+        }
 
-            List<Vulnerability> matching = current.stream()
-                    .filter(v -> VulnerabilityEvaluator.evaluate(tree, v))
-                    .collect(Collectors.toList());
+        logger.info("FilterSet '{}' applied. {} of {} vulnerabilities remain.", fs.getTitle(), result.size(), vulnerabilities.size());
+        return result;
+    }
 
-            if ("setfolder".equals(action)) {
-                hasFolderFilters = true;
-                inFolder.addAll(matching); // Assign to folder (mark as inFolder)
-            } else if ("hide".equals(action)) {
-                current.removeAll(matching); // Hide (remove from current)
+    private static boolean isKept(Vulnerability v, List<CompiledFilter> compiledFilters, boolean hasFolderFilters) {
+        boolean inFolder = false;
+        for (CompiledFilter f : compiledFilters) {
+            if (f.isHide()) {
+                if (VulnerabilityEvaluator.evaluate(f.tree(), v)) {
+                    return false; // Hidden vulnerabilities are not considered by any subsequent filters
+                }
+            } else if (f.isSetFolder() && !inFolder) {
+                // Once in a folder, subsequent setFolder filters can't change the outcome
+                inFolder = VulnerabilityEvaluator.evaluate(f.tree(), v);
             }
         }
+        return !hasFolderFilters || inFolder;
+    }
 
-        // Final kept: from current (not hidden), and if folders present, only those inFolder
-        if (hasFolderFilters) {
-            current = current.stream().filter(inFolder::contains).collect(Collectors.toList());
+    private static List<CompiledFilter> compile(List<Filter> filters) {
+        List<CompiledFilter> result = new ArrayList<>(filters.size());
+        for (Filter f : filters) {
+            // Filters with other actions are parsed (to report invalid queries) but never evaluated
+            result.add(new CompiledFilter(f.getAction().toLowerCase(), parse(f.getQuery())));
         }
+        return result;
+    }
+
+    private static SearchTree parse(String query) {
+        // Automatically detect which parser to use based on the presence of AND/OR
+        if (MODERN_SYNTAX_DETECTOR.matcher(query).find()) {
+            logger.trace("Modern syntax (AND/OR) detected for query: '{}'", query);
+            return FilterParser.parse(query);
+        } else {
+            logger.trace("Legacy syntax detected for query: '{}'", query);
+            return FilterParser.parseLegacy(query);
+        }
+    }
 
-        logger.info("FilterSet '{}' applied. {} of {} vulnerabilities remain.", fs.getTitle(), current.size(), vulnerabilities.size());
-        return current;
+    private static record CompiledFilter(String action, SearchTree tree) {
+        boolean isSetFolder() { return "setfolder".equals(action); }
+        boolean isHide() { return "hide".equals(action); }
     }
 }
\ No newline at end of file
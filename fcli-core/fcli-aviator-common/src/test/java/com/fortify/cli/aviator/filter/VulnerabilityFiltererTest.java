@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.aviator.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.fpr.filter.Filter;
+import com.fortify.cli.aviator.fpr.filter.FilterSet;
+import com.fortify.cli.aviator.fpr.filter.SearchTree;
+import com.fortify.cli.aviator.fpr.filter.VulnerabilityFilterer;
+import com.fortify.cli.aviator.fpr.filter.engine.FilterParser;
+import com.fortify.cli.aviator.fpr.filter.engine.VulnerabilityEvaluator;
+
+/**
+ * Verifies that {@link VulnerabilityFilterer#filterVulnerabilities(List, FilterSet)} produces
+ * the same results as the original implementation, which applied filters one by one through
+ * list copies and {@link List#removeAll(java.util.Collection)}, for filter sets with overlapping
+ * folder, hide and other (for example suppress) filters.
+ */
+class VulnerabilityFiltererTest {
+    private static final Pattern MODERN_SYNTAX_DETECTOR = Pattern.compile("\\b(AND|OR)\\b", Pattern.CASE_INSENSITIVE);
+    private static final String[] PRIORITIES = {"Critical", "High", "Medium", "Low"};
+    private static final String[] CATEGORIES = {"SQL Injection", "Cross-Site Scripting: Reflected", "Insecure Dependency: Vulnerable Component", "Path Manipulation"};
+    private static final String[] ANALYZERS = {"Dataflow", "Structural", "Configuration"};
+    private static final String[] AUDIENCES = {"broad,fod", "broad", "fod"};
+    private static final String[] ACTIONS = {"setFolder", "hide", "suppress", "SetFolder", "Hide"};
+    private static final String[] QUERIES = {
+        "[fortify priority order]:critical",
+        "[fortify priority order]:high",
+        "[fortify priority order]:critical OR [fortify priority order]:high OR [fortify priority order]:medium",
+        "[fortify priority order]:low",
+        "category:\"SQL Injection\"",
+        "[category]:\"Insecure Dependency\\: Vulnerable Component\"",
+        "category:/.*scripting.*/",
+        "analyzer:Dataflow",
+        "analyzer:!Dataflow",
+        "audience:!fod analyzer:!pentest category:!docker",
+        "audience:fod AND [fortify priority order]:medium",
+        "impact:![2.5, 5.0]",
+        "likelihood:![1.0,5.0]",
+        "analyzer:Structural category:\"Path Manipulation\"",
+    };
+    private static List<Vulnerability> vulnerabilities;
+
+    @BeforeAll
+    static void setupVulnerabilities() {
+        var random = new Random(1);
+        vulnerabilities = new ArrayList<>();
+        for ( int i=0; i<200; i++ ) {
+            var vuln = new Vulnerability();
+            vuln.setInstanceID("VULN_"+i);
+            vuln.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            vuln.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            vuln.setAnalyzerName(ANALYZERS[random.nextInt(ANALYZERS.length)]);
+            vuln.setAudience(AUDIENCES[random.nextInt(AUDIENCES.length)]);
+            vuln.setImpact((double)random.nextInt(6));
+            vuln.setLikelihood(Double.toString(random.nextInt(11)/2.0));
+            vuln.setConfidence(5.0);
+            vulnerabilities.add(vuln);
+        }
+    }
+
+    @Test
+    void testSameResultAsOriginalImplementation() {
+        var random = new Random(1);
+        for ( int i=0; i<300; i++ ) {
+            var filterSet = new FilterSet();
+            filterSet.setTitle("Random "+i);
+            var filters = new ArrayList<Filter>();
+            for ( int j=random.nextInt(7)+1; j>0; j-- ) {
+                filters.add(createFilter(ACTIONS[random.nextInt(ACTIONS.length)], QUERIES[random.nextInt(QUERIES.length)]));
+            }
+            filterSet.setFilters(filters);
+            var expected = filterOriginal(vulnerabilities, filterSet);
+            var actual = VulnerabilityFilterer.filterVulnerabilities(vulnerabilities, filterSet);
+            assertEquals(ids(expected), ids(actual), "Filters: "+describe(filters));
+        }
+    }
+
+    @Test
+    void testOverlappingFolderAndHideFilters() {
+        var filterSet = new FilterSet();
+        filterSet.setFilters(List.of(
+            // Critical issues are assigned to a folder before being hidden by a later filter
+            createFilter("setFolder", "[fortify priority order]:critical"),
+            createFilter("hide", "category:\"SQL Injection\""),
+            createFilter("suppress", "analyzer:Dataflow"),
+            // Hidden issues can't be assigned to a folder anymore
+            createFilter("setFolder", "category:\"SQL Injection\" OR [fortify priority order]:high"),
+            createFilter("setFolder", "[fortify priority order]:high"),
+            createFilter("hide", "audience:!fod")
+        ));
+        var expected = filterOriginal(vulnerabilities, filterSet);
+        var actual = VulnerabilityFilterer.filterVulnerabilities(vulnerabilities, filterSet);
+        assertEquals(ids(expected), ids(actual));
+        assertEquals(ids(vulnerabilities.stream()
+                .filter(v->Set.of("Critical", "High").contains(v.getPriority()))
+                .filter(v->!"SQL Injection".equals(v.getCategory()))
+                .filter(v->v.getAudience().contains("fod"))
+                .collect(Collectors.toList())), ids(actual));
+    }
+
+    @Test
+    void testHideOnlyFilters() {
+        var filterSet = new FilterSet();
+        filterSet.setFilters(List.of(
+            createFilter("hide", "impact:![2.5, 5.0]"),
+            createFilter("suppress", "[fortify priority order]:critical"),
+            createFilter("hide", "analyzer:Structural")
+        ));
+        assertEquals(ids(filterOriginal(vulnerabilities, filterSet)), ids(VulnerabilityFilterer.filterVulnerabilities(vulnerabilities, filterSet)));
+    }
+
+    /**
+     * Original implementation of {@link VulnerabilityFilterer#filterVulnerabilities(List, FilterSet)},
+     * used as a reference for the single-pass implementation.
+     */
+    private static List<Vulnerability> filterOriginal(List<Vulnerability> vulnerabilities, FilterSet fs) {
+        List<Vulnerability> current = new ArrayList<>(vulnerabilities);
+        boolean hasFolderFilters = false;
+        Set<Vulnerability> inFolder = new HashSet<>();
+        for (Filter f : fs.getFilters()) {
+            String action = f.getAction().toLowerCase();
+            String query = f.getQuery();
+            SearchTree tree = MODERN_SYNTAX_DETECTOR.matcher(query).find() ? FilterParser.parse(query) : FilterParser.parseLegacy(query);
+            List<Vulnerability> matching = current.stream()
+                    .filter(v -> VulnerabilityEvaluator.evaluate(tree, v))
+                    .collect(Collectors.toList());
+            if ("setfolder".equals(action)) {
+                hasFolderFilters = true;
+                inFolder.addAll(matching);
+            } else if ("hide".equals(action)) {
+                current.removeAll(matching);
+            }
+        }
+        if (hasFolderFilters) {
+            current = current.stream().filter(inFolder::contains).collect(Collectors.toList());
+        }
+        return current;
+    }
+
+    private static Filter createFilter(String action, String query) {
+        Filter f = new Filter();
+        f.setAction(action);
+        f.setQuery(query);
+        return f;
+    }
+
+    private static List<String> ids(List<Vulnerability> vulnerabilities) {
+        return vulnerabilities.stream().map(Vulnerability::getInstanceID).collect(Collectors.toList());
+    }
+
+    private static String describe(List<Filter> filters) {
+        return filters.stream().map(f->f.getAction()+"("+f.getQuery()+")").collect(Collectors.joining(", "));
+    }
+}
@@ -14,6 +14,7 @@ package com.fortify.cli.common.concurrent.job;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +26,7 @@ import java.util.function.Supplier;
 import com.fortify.cli.common.cli.util.FcliExecutionContext;
 import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.cli.util.StdioHelper;
+import com.fortify.cli.common.concurrent.job.PagedRecordStore.RecordStoreStats;
 import com.fortify.cli.common.exception.FcliBugException;
 
 import lombok.Builder;
@@ -100,7 +102,7 @@ public class AsyncJobManager {
         var parentContext = FcliExecutionContextHolder.current();
         var executionContextSupplier = descriptor.getExecutionContextSupplier();
         var scopeState = getScopeState();
-        var entry = new JobEntry(jobId, description);
+        var entry = new JobEntry(jobId, description, listener);
         scopeState.jobs.put(jobId, entry);
 
         listener.onJobStarted(jobId, description);
@@ -193,6 +195,18 @@ public class AsyncJobManager {
                 : null;
     }
 
+    /**
+     * Return record store statistics (total record count, in-memory versus spilled
+     * record counts and spill file size) for the given job, if the job is tracked
+     * and its listener stores records.
+     */
+    public Optional<RecordStoreStats> getRecordStoreStats(String jobId) {
+        var entry = getScopeState().jobs.get(jobId);
+        return entry != null && entry.listener instanceof IJobRecordStatsProvider p
+                ? p.getRecordStoreStats(jobId)
+                : Optional.empty();
+    }
+
     /** Remove a completed job from tracking. */
     public void removeJob(String jobId) {
         var entry = getScopeState().jobs.get(jobId);
@@ -229,6 +243,7 @@ public class AsyncJobManager {
     private static final class JobEntry {
         final String jobId;
         final String description;
+        final IJobEventListener listener;
         final long created = System.currentTimeMillis();
         volatile CompletableFuture<Void> future;
         volatile Thread thread;
@@ -237,9 +252,10 @@ public class AsyncJobManager {
         volatile String stderr;
         volatile String stdout;
 
-        JobEntry(String jobId, String description) {
+        JobEntry(String jobId, String description, IJobEventListener listener) {
             this.jobId = jobId;
             this.description = description;
+            this.listener = listener;
         }
     }
 
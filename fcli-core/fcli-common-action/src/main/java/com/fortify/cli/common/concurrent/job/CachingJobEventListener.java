@@ -13,15 +13,17 @@
 package com.fortify.cli.common.concurrent.job;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.concurrent.job.PagedRecordStore.RecordStoreStats;
+import com.fortify.cli.common.util.EnvHelper;
 
 import lombok.Builder;
 import lombok.Data;
@@ -35,13 +37,34 @@ import lombok.extern.slf4j.Slf4j;
  * @author Ruud Senden
  */
 @Slf4j
-public final class CachingJobEventListener implements IJobEventListener {
+public final class CachingJobEventListener implements IJobEventListener, IJobRecordStatsProvider {
+    /** Environment variable for configuring the maximum number of records per job to retain in memory */
+    public static final String ENV_MAX_IN_MEMORY_RECORDS = "FCLI_JOB_CACHE_MAX_IN_MEMORY_RECORDS";
     private final Map<String, JobRecordCache> caches = new ConcurrentHashMap<>();
+    private final int maxInMemoryRecords;
     private volatile ScheduledExecutorService evictionScheduler;
 
+    /**
+     * Create a listener that retains up to the number of records per job configured through the
+     * {@value #ENV_MAX_IN_MEMORY_RECORDS} environment variable in memory (unlimited if not set),
+     * spilling any further records to a temporary file.
+     */
+    public CachingJobEventListener() {
+        this(getDefaultMaxInMemoryRecords());
+    }
+
+    /**
+     * Create a listener that retains up to the given number of records per job in memory,
+     * spilling any further records to a temporary file. Values &lt;= 0 disable spilling.
+     */
+    public CachingJobEventListener(int maxInMemoryRecords) {
+        this.maxInMemoryRecords = maxInMemoryRecords;
+    }
+
     @Override
     public void onJobStarted(String jobId, String description) {
-        caches.put(jobId, new JobRecordCache(jobId));
+        var previous = caches.put(jobId, new JobRecordCache(jobId, new PagedRecordStore(maxInMemoryRecords)));
+        if (previous != null) { previous.close(); }
         log.debug("Cache created for job: {}", jobId);
     }
 
@@ -69,8 +92,12 @@ public final class CachingJobEventListener implements IJobEventListener {
 
     /**
      * Return a page of cached records for the given job. Takes a consistent
-     * snapshot of all mutable cache state under synchronization to avoid
-     * TOCTOU races between the writer thread and polling readers.
+     * snapshot of the cache state (record count and completion state) under
+     * synchronization to avoid TOCTOU races between the writer thread and
+     * polling readers; records are then read from the underlying append-only
+     * {@link PagedRecordStore} up to the snapshot record count, so the cost
+     * of each call is proportional to the page size rather than the total
+     * number of records.
      */
     public PageResult getPage(String jobId, int offset, int limit) {
         var cache = caches.get(jobId);
@@ -78,10 +105,9 @@ public final class CachingJobEventListener implements IJobEventListener {
             return PageResult.notFound(jobId);
         }
         var snap = cache.snapshot();
-        var totalLoaded = snap.records().size();
-        var endIndex = Math.min(offset + limit, totalLoaded);
-        var pageRecords = offset >= totalLoaded ? List.<JsonNode>of() : snap.records().subList(offset, endIndex);
-        var hasMore = (offset + limit < totalLoaded) || !snap.completed();
+        var totalLoaded = snap.recordCount();
+        var pageRecords = cache.store.getPage(offset, limit, totalLoaded);
+        var hasMore = ((long)offset + limit < totalLoaded) || !snap.completed();
         return PageResult.builder()
                 .jobId(jobId)
                 .status(snap.completed() ? (snap.exitCode() == 0 ? "complete" : "error") : "loading")
@@ -114,14 +140,24 @@ public final class CachingJobEventListener implements IJobEventListener {
         return caches.containsKey(jobId);
     }
 
+    /** Statistics for the record store of the given job, if a cache exists for that job. */
+    @Override
+    public Optional<RecordStoreStats> getRecordStoreStats(String jobId) {
+        var cache = caches.get(jobId);
+        return cache != null ? Optional.of(cache.store.getStats()) : Optional.empty();
+    }
+
     /** Remove the cache for a specific job. */
     public void remove(String jobId) {
-        caches.remove(jobId);
+        var cache = caches.remove(jobId);
+        if (cache != null) { cache.close(); }
     }
 
     /** Remove all caches. */
     public void clear() {
-        caches.clear();
+        for (var jobId : List.copyOf(caches.keySet())) {
+            remove(jobId);
+        }
     }
 
     /**
@@ -160,25 +196,31 @@ public final class CachingJobEventListener implements IJobEventListener {
         }
     }
 
+    private static int getDefaultMaxInMemoryRecords() {
+        return EnvHelper.envInteger(ENV_MAX_IN_MEMORY_RECORDS, 0);
+    }
+
     /**
-     * Per-job record cache with synchronized access to ensure consistent
-     * snapshots across records and completion state.
+     * Per-job record cache. Records are stored in an append-only {@link PagedRecordStore};
+     * completion state is guarded by 'this' to ensure consistent snapshots of record count
+     * and completion state.
      */
-    private static final class JobRecordCache {
+    private static final class JobRecordCache implements AutoCloseable {
         final String jobId;
+        final PagedRecordStore store;
         // All mutable state guarded by 'this'
-        private final List<JsonNode> records = new ArrayList<>();
         private boolean completed;
         private int exitCode;
         private String stderr;
         private String stdout;
 
-        JobRecordCache(String jobId) {
+        JobRecordCache(String jobId, PagedRecordStore store) {
             this.jobId = jobId;
+            this.store = store;
         }
 
         synchronized void addRecord(JsonNode record) {
-            records.add(record);
+            store.append(record);
         }
 
         synchronized void markComplete(int exitCode, String stderr, String stdout) {
@@ -188,18 +230,18 @@ public final class CachingJobEventListener implements IJobEventListener {
             this.completed = true;
         }
 
-        synchronized int recordCount() {
-            return records.size();
+        int recordCount() {
+            return store.size();
         }
 
         synchronized boolean isCompleted() {
             return completed;
         }
 
-        /** Take a consistent snapshot of all mutable state. */
+        /** Take a consistent snapshot of record count and completion state. */
         synchronized CacheSnapshot snapshot() {
             return new CacheSnapshot(
-                List.copyOf(records),
+                store.size(),
                 completed,
                 exitCode,
                 stderr,
@@ -207,8 +249,13 @@ public final class CachingJobEventListener implements IJobEventListener {
             );
         }
 
+        @Override
+        public void close() {
+            store.close();
+        }
+
         record CacheSnapshot(
-            List<JsonNode> records,
+            int recordCount,
             boolean completed,
             int exitCode,
             String stderr,
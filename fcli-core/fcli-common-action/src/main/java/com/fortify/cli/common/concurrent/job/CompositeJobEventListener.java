@@ -13,9 +13,11 @@
 package com.fortify.cli.common.concurrent.job;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.concurrent.job.PagedRecordStore.RecordStoreStats;
 
 /**
  * Composite {@link IJobEventListener} that fans out all events to multiple delegates.
@@ -23,7 +25,7 @@ import com.fasterxml.jackson.databind.JsonNode;
  *
  * @author Ruud Senden
  */
-public final class CompositeJobEventListener implements IJobEventListener {
+public final class CompositeJobEventListener implements IJobEventListener, IJobRecordStatsProvider {
     private final List<IJobEventListener> delegates;
 
     public CompositeJobEventListener(IJobEventListener... delegates) {
@@ -53,4 +55,16 @@ public final class CompositeJobEventListener implements IJobEventListener {
     public void onJobComplete(String jobId, int exitCode, String stderr, String stdout) {
         for (var d : delegates) { d.onJobComplete(jobId, exitCode, stderr, stdout); }
     }
+
+    /** Record store statistics from the first delegate that provides statistics for the given job. */
+    @Override
+    public Optional<RecordStoreStats> getRecordStoreStats(String jobId) {
+        for (var d : delegates) {
+            if (d instanceof IJobRecordStatsProvider p) {
+                var stats = p.getRecordStoreStats(jobId);
+                if (stats.isPresent()) { return stats; }
+            }
+        }
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.concurrent.job;
+
+import java.util.Optional;
+
+import com.fortify.cli.common.concurrent.job.PagedRecordStore.RecordStoreStats;
+
+/**
+ * Optional interface for {@link IJobEventListener} implementations that store job
+ * records, allowing {@link AsyncJobManager} to expose record count and memory
+ * usage metrics for a job.
+ */
+public interface IJobRecordStatsProvider {
+    /** Record store statistics for the given job, or empty if no records are stored for that job. */
+    Optional<RecordStoreStats> getRecordStoreStats(String jobId);
+}
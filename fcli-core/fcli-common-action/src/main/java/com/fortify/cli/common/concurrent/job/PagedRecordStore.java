@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.concurrent.job;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.json.JsonHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only record store that provides O(page size) page lookups without copying
+ * previously stored records. Records are stored in fixed-size chunks; as the chunk
+ * directory is only ever replaced by a larger copy before the record count is published,
+ * readers can access any record below the published count without locking.
+ *
+ * <p>Optionally, the number of records retained in memory can be capped; any records
+ * beyond this cap are spilled as JSON to a temporary file that is deleted when this
+ * store is closed. Spilled records are read back through positional reads, so readers
+ * don't interfere with each other or with the writer.</p>
+ *
+ * <p>This class supports a single writer and any number of concurrent readers.</p>
+ */
+@Slf4j
+public final class PagedRecordStore implements AutoCloseable {
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private final int maxInMemoryRecords;
+    // Guarded by 'this' for writes; published to readers through the volatile 'size' field
+    private volatile JsonNode[][] recordChunks = new JsonNode[8][];
+    private volatile long[][] spillEndOffsetChunks = new long[8][];
+    private volatile int size;
+    private volatile long spilledBytes;
+    private volatile FileChannel spillChannel;
+    private volatile boolean closed;
+
+    /**
+     * Create a new store.
+     * @param maxInMemoryRecords Maximum number of records to retain in memory; any records
+     *        beyond this number are spilled to a temporary file. Values &lt;= 0 disable spilling.
+     */
+    public PagedRecordStore(int maxInMemoryRecords) {
+        this.maxInMemoryRecords = maxInMemoryRecords <= 0 ? Integer.MAX_VALUE : maxInMemoryRecords;
+    }
+
+    /** Append the given record to this store. */
+    public synchronized void append(JsonNode record) {
+        if (closed) { return; }
+        int index = size;
+        if (index < maxInMemoryRecords) {
+            recordChunks = ensureChunk(recordChunks, index, () -> new JsonNode[CHUNK_SIZE]);
+            recordChunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = record;
+        } else {
+            int spillIndex = index - maxInMemoryRecords;
+            long endOffset = spill(record);
+            spillEndOffsetChunks = ensureChunk(spillEndOffsetChunks, spillIndex, () -> new long[CHUNK_SIZE]);
+            spillEndOffsetChunks[spillIndex >>> CHUNK_SHIFT][spillIndex & CHUNK_MASK] = endOffset;
+        }
+        size = index + 1; // Publish record to readers
+    }
+
+    /** Number of records stored so far. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the records in the range [offset, offset+limit), limited to the records
+     * stored at the time of invocation.
+     */
+    public List<JsonNode> getPage(int offset, int limit) {
+        return getPage(offset, limit, size);
+    }
+
+    /**
+     * Return the records in the range [offset, offset+limit), limited to the given
+     * record count. This allows callers to retrieve a page that is consistent with
+     * a previously obtained record count. If this store is (being) closed, an empty
+     * list is returned.
+     */
+    public List<JsonNode> getPage(int offset, int limit, int count) {
+        if (closed) { return List.of(); }
+        int available = size;
+        // Chunk directories must be read after size, as the writer publishes any larger
+        // directory before updating size; close() never replaces these directories.
+        var chunks = recordChunks;
+        int end = (int)Math.min((long)offset + Math.max(0, limit), Math.min(count, available));
+        if (offset < 0 || offset >= end) { return List.of(); }
+        var result = new ArrayList<JsonNode>(end - offset);
+        int inMemoryEnd = Math.min(end, maxInMemoryRecords);
+        for (int i = offset; i < inMemoryEnd; i++) {
+            result.add(chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK]);
+        }
+        for (int i = Math.max(offset, maxInMemoryRecords); i < end; i++) {
+            var record = readSpilled(i - maxInMemoryRecords);
+            if (record == null) { return List.of(); } // Store was closed while reading
+            result.add(record);
+        }
+        return result;
+    }
+
+    /** Return statistics for this store. */
+    public RecordStoreStats getStats() {
+        int total = size;
+        int inMemory = Math.min(total, maxInMemoryRecords);
+        return new RecordStoreStats(total, inMemory, total - inMemory, spilledBytes);
+    }
+
+    /**
+     * Close this store and delete the spill file, if any. In-memory records are released
+     * once this store is no longer referenced; the record arrays aren't replaced here,
+     * as concurrent readers may still be accessing them.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        size = 0;
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                log.debug("Error closing spill file", e);
+            }
+            spillChannel = null;
+        }
+    }
+
+    private long spill(JsonNode record) {
+        try {
+            if (spillChannel == null) {
+                var file = Files.createTempFile("fcli-job-records-", ".json");
+                spillChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+                log.debug("Spilling job records beyond {} records to {}", maxInMemoryRecords, file);
+            }
+            var buffer = ByteBuffer.wrap(JsonHelper.getObjectMapper().writeValueAsBytes(record));
+            long position = spilledBytes;
+            while (buffer.hasRemaining()) {
+                position += spillChannel.write(buffer, position);
+            }
+            spilledBytes = position;
+            return position;
+        } catch (IOException e) {
+            throw new FcliTechnicalException("Error spilling job record to temporary file", e);
+        }
+    }
+
+    /** Read the given spilled record, returning null if this store has been closed. */
+    private JsonNode readSpilled(int spillIndex) {
+        var endOffsets = spillEndOffsetChunks;
+        long end = endOffsets[spillIndex >>> CHUNK_SHIFT][spillIndex & CHUNK_MASK];
+        long start = spillIndex == 0 ? 0 : endOffsets[(spillIndex - 1) >>> CHUNK_SHIFT][(spillIndex - 1) & CHUNK_MASK];
+        var buffer = ByteBuffer.allocate((int)(end - start));
+        try {
+            var channel = spillChannel;
+            if (channel == null || closed) { return null; }
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of spill file");
+                }
+            }
+            return JsonHelper.getObjectMapper().readTree(buffer.array());
+        } catch (ClosedChannelException e) {
+            if (closed) { return null; }
+            throw new FcliTechnicalException("Error reading spilled job record", e);
+        } catch (IOException e) {
+            throw new FcliTechnicalException("Error reading spilled job record", e);
+        }
+    }
+
+    /**
+     * Make sure the chunk for the given index exists, returning either the given
+     * directory or a larger copy if the directory needed to grow.
+     */
+    private static <T> T[] ensureChunk(T[] directory, int index, Supplier<T> chunkFactory) {
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        var result = directory;
+        if (chunkIndex >= result.length) {
+            result = Arrays.copyOf(result, Math.max(chunkIndex + 1, result.length * 2));
+        }
+        if (result[chunkIndex] == null) {
+            result[chunkIndex] = chunkFactory.get();
+        }
+        return result;
+    }
+
+    /** Record store statistics. */
+    public static record RecordStoreStats(int totalCount, int inMemoryCount, int spilledCount, long spilledBytes) {}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.concurrent.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.json.JsonHelper;
+
+class PagedRecordStoreTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 1500})
+    void pagesAreReturnedInOrderWithOrWithoutSpilling(int maxInMemoryRecords) {
+        try (var store = new PagedRecordStore(maxInMemoryRecords)) {
+            for (int i = 0; i < 3000; i++) {
+                store.append(JsonHelper.getObjectMapper().createObjectNode().put("id", i));
+            }
+            assertEquals(3000, store.size());
+            for (int offset = 0; offset < 3100; offset += 700) {
+                var page = store.getPage(offset, 700);
+                assertEquals(Math.max(0, Math.min(700, 3000 - offset)), page.size());
+                for (int i = 0; i < page.size(); i++) {
+                    assertEquals(offset + i, page.get(i).get("id").asInt());
+                }
+            }
+            assertEquals(10, store.getPage(0, 100, 10).size());
+            var stats = store.getStats();
+            assertEquals(3000, stats.totalCount());
+            assertEquals(stats.totalCount(), stats.inMemoryCount() + stats.spilledCount());
+            assertEquals(stats.spilledCount() > 0, stats.spilledBytes() > 0);
+            assertTrue(maxInMemoryRecords <= 0 || stats.inMemoryCount() <= maxInMemoryRecords);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 5})
+    void cachingListenerReportsPagesAndStats(int maxInMemoryRecords) {
+        var listener = new CachingJobEventListener(maxInMemoryRecords);
+        listener.onJobStarted("job", "test");
+        for (int i = 0; i < 25; i++) {
+            listener.onRecord("job", JsonHelper.getObjectMapper().createObjectNode().put("id", i));
+        }
+        var page = listener.getPage("job", 20, 10);
+        assertEquals("loading", page.getStatus());
+        assertEquals(5, page.getRecords().size());
+        assertEquals(20, page.getRecords().get(0).get("id").asInt());
+        assertTrue(page.isHasMore());
+        listener.onJobComplete("job", 0, "", "");
+        page = listener.getPage("job", 20, 10);
+        assertEquals("complete", page.getStatus());
+        assertTrue(!page.isHasMore());
+        var stats = listener.getRecordStoreStats("job").orElseThrow();
+        assertEquals(25, stats.totalCount());
+        assertEquals(maxInMemoryRecords > 0 ? 20 : 0, stats.spilledCount());
+        listener.remove("job");
+        assertTrue(listener.getRecordStoreStats("job").isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100})
+    void closeWhileReadingReturnsConsistentOrEmptyPages(int maxInMemoryRecords) throws Exception {
+        var store = new PagedRecordStore(maxInMemoryRecords);
+        var readers = 4;
+        var started = new CountDownLatch(readers);
+        var closed = new AtomicBoolean();
+        var executor = Executors.newFixedThreadPool(readers);
+        try {
+            var futures = new ArrayList<Future<Integer>>();
+            for (int r = 0; r < readers; r++) {
+                futures.add(executor.submit((Callable<Integer>) () -> {
+                    started.countDown();
+                    int pagesAfterClose = 0;
+                    // Keep reading while records are appended, and for a number of pages after close
+                    while (pagesAfterClose < 100) {
+                        if (closed.get()) { pagesAfterClose++; }
+                        int count = store.size();
+                        int offset = count == 0 ? 0 : ThreadLocalRandom.current().nextInt(count);
+                        List<JsonNode> page = store.getPage(offset, 50, count);
+                        // Pages are either complete and consistent, or empty if the store was closed
+                        if (!page.isEmpty()) {
+                            assertEquals(Math.min(50, count - offset), page.size());
+                            for (int i = 0; i < page.size(); i++) {
+                                assertEquals(offset + i, page.get(i).get("id").asInt());
+                            }
+                        }
+                    }
+                    return pagesAfterClose;
+                }));
+            }
+            started.await();
+            for (int i = 0; i < 5000; i++) {
+                store.append(JsonHelper.getObjectMapper().createObjectNode().put("id", i));
+            }
+            store.close();
+            closed.set(true);
+            assertTrue(store.getPage(0, 50).isEmpty());
+            for (var f : futures) { f.get(30, TimeUnit.SECONDS); }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
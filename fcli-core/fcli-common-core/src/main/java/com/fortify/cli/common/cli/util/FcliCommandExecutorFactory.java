@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -57,6 +58,8 @@ public final class FcliCommandExecutorFactory {
     private final Consumer<Throwable> onException;
     public final String progressOptionValueIfNotPresent; // TODO Should we integrate this into defaultOptionsIfNotPresent?
     public final Map<String, String> defaultOptionsIfNotPresent;
+    // Leaf command templates for the current root command line, keyed by the subcommand names/aliases used to invoke the leaf command
+    private static volatile LeafCommandTemplates leafCommandTemplates = new LeafCommandTemplates(null, new ConcurrentHashMap<>());
     
     private static final CommandLine getRootCommandLine() {
         return FcliCommandSpecHelper.getRootCommandLine();
@@ -98,9 +101,19 @@ public final class FcliCommandExecutorFactory {
         
         public FcliCommandExecutor() {
             this.resolvedArgs = FcliVariableHelper.resolveVariables(args);
-            this.replicatedLeafCommandSpec = replicateLeafCommandSpecWithParents(parseArgs(resolvedArgs));
+            var template = getLeafCommandTemplate(resolvedArgs);
+            this.replicatedLeafCommandSpec = template!=null 
+                    ? template.replicate()
+                    : replicateLeafCommandSpecWithParents(parseArgs(resolvedArgs));
         }
 
+        /**
+         * Parse the given arguments using the shared root {@link CommandLine}. As parsing updates
+         * the state of the shared command tree, this requires synchronization on the root command
+         * line, so this is only used for arguments that don't resolve to a leaf command, see
+         * {@link #getLeafCommandTemplate(String[])}. For leaf commands, arguments are parsed by 
+         * the replicated command line upon execution.
+         */
         private ParseResult parseArgs(String[] resolvedArgs) {
             try {
                 var root = getRootCommandLine();
@@ -192,6 +205,7 @@ public final class FcliCommandExecutorFactory {
 
         private CommandLine createCommandLine() {
             var cl = new CommandLine(replicatedLeafCommandSpec.root());
+            cl.setParameterExceptionHandler(getRootCommandLine().getParameterExceptionHandler());
             cl.setExecutionExceptionHandler(FcliExecutionExceptionHandler.INSTANCE);
             FcliExecutionStrategyFactory.configureCommandLine(cl);
             return cl;
@@ -235,6 +249,41 @@ public final class FcliCommandExecutorFactory {
             throw new FcliCommandExecutionException(r);
         }
         
+        /**
+         * Get the (cached) {@link LeafCommandTemplate} for the leaf command identified by the
+         * leading subcommand names or aliases in the given arguments, or null if the arguments
+         * don't identify a leaf command (for example because of an unknown subcommand or
+         * options specified on a container command). This only reads the shared root command 
+         * tree, which isn't modified after fcli initialization, so doesn't need any locking.
+         */
+        private static final LeafCommandTemplate getLeafCommandTemplate(String[] resolvedArgs) {
+            var rootCommandLine = getRootCommandLine();
+            var commandPath = new ArrayList<String>();
+            var spec = rootCommandLine.getCommandSpec();
+            for ( var arg : resolvedArgs ) {
+                var subcommand = spec.subcommands().get(arg);
+                if ( subcommand==null ) { break; }
+                commandPath.add(arg);
+                spec = subcommand.getCommandSpec();
+            }
+            if ( !spec.subcommands().isEmpty() ) { return null; }
+            var leafSpec = spec;
+            return getLeafCommandTemplates(rootCommandLine).computeIfAbsent(List.copyOf(commandPath), k->new LeafCommandTemplate(leafSpec));
+        }
+        
+        /**
+         * Get the leaf command templates for the given root command line, discarding any templates
+         * that were created for a previously configured root command line.
+         */
+        private static final Map<List<String>, LeafCommandTemplate> getLeafCommandTemplates(CommandLine rootCommandLine) {
+            var current = leafCommandTemplates;
+            if ( current.rootCommandLine()!=rootCommandLine ) {
+                current = new LeafCommandTemplates(rootCommandLine, new ConcurrentHashMap<>());
+                leafCommandTemplates = current;
+            }
+            return current.templates();
+        }
+        
         // We want to replicate the CommandSpec with new command instances, at least for the 
         // leaf command, to make sure that each invocation uses a separate instance of the 
         // leaf command. Otherwise, instance variables might have the wrong values, somewhat
@@ -259,19 +308,54 @@ public final class FcliCommandExecutorFactory {
         }
 
         private static CommandSpec replicateSpecForSubcommand(ParseResult pr) {
-            var orgSpec = pr.commandSpec();
-            if ( !pr.hasSubcommand() ) {
-                // Create new spec from leaf command class
-                return CommandSpec.forAnnotatedObject(orgSpec.userObject().getClass());
-            } else {
-                // Create shallow copy of container command spec
-                var newSpec = CommandSpec.wrapWithoutInspection(orgSpec.userObject());
-                newSpec.name(orgSpec.name());
-                newSpec.aliases(orgSpec.aliases());
-                newSpec.resourceBundle(orgSpec.resourceBundle());
-                return newSpec;
+            return replicateSpec(pr.commandSpec(), !pr.hasSubcommand());
+        }
+        
+    }
+    
+    private static CommandSpec replicateSpec(CommandSpec orgSpec, boolean isLeaf) {
+        if ( isLeaf ) {
+            // Create new spec from leaf command class
+            return CommandSpec.forAnnotatedObject(orgSpec.userObject().getClass());
+        } else {
+            // Create shallow copy of container command spec
+            var newSpec = CommandSpec.wrapWithoutInspection(orgSpec.userObject());
+            newSpec.name(orgSpec.name());
+            newSpec.aliases(orgSpec.aliases());
+            newSpec.resourceBundle(orgSpec.resourceBundle());
+            return newSpec;
+        }
+    }
+    
+    private static final record LeafCommandTemplates(CommandLine rootCommandLine, Map<List<String>, LeafCommandTemplate> templates) {}
+    
+    /**
+     * Template for replicating the command spec for a given leaf command together with its 
+     * parent commands, as resolved from the shared root command tree. Leaf command instances
+     * hold per-invocation state, so every invocation still needs a new leaf command instance,
+     * but the command hierarchy only needs to be resolved once for every leaf command.
+     */
+    private static final class LeafCommandTemplate {
+        private final List<CommandSpec> orgSpecs;
+        
+        private LeafCommandTemplate(CommandSpec leafSpec) {
+            var specs = new ArrayList<CommandSpec>();
+            for ( var spec = leafSpec ; spec!=null ; spec = spec.parent() ) {
+                specs.add(0, spec);
             }
+            this.orgSpecs = List.copyOf(specs);
         }
         
+        private CommandSpec replicate() {
+            CommandSpec replicatedSpec = null;
+            for ( int i=0 ; i<orgSpecs.size() ; i++ ) {
+                var newSpec = replicateSpec(orgSpecs.get(i), i==orgSpecs.size()-1);
+                if ( replicatedSpec!=null ) {
+                    replicatedSpec.addSubcommand(newSpec.name(), newSpec);
+                }
+                replicatedSpec = newSpec;
+            }
+            return replicatedSpec;
+        }
     }
 }
\ No newline at end of file
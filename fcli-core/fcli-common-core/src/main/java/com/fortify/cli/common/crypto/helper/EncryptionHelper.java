@@ -15,7 +15,20 @@ package com.fortify.cli.common.crypto.helper;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
@@ -30,13 +43,39 @@ import lombok.RequiredArgsConstructor;
 /**
  * Instance-based helper for encrypting/decrypting text using a configured password.
  * A DEFAULT instance is provided for the standard fcli encryption password.
+ * <p>
+ * Text is encrypted using AES-GCM, with the AES key derived from the password through
+ * PBKDF2. Encrypted text is formatted as <code>$fcli2$&lt;iterations&gt;$&lt;salt&gt;$&lt;iv+ciphertext&gt;</code>,
+ * so salt and iteration count are stored with every message. As key derivation is
+ * relatively expensive, derived keys are cached per salt and iteration count, and
+ * new messages are encrypted using the first derived key; all messages written by
+ * a single fcli process (and any process that subsequently rewrites these messages)
+ * thus share the same salt, requiring only a single key derivation per process.
+ * <p>
+ * Text that doesn't start with the <code>$fcli2$</code> prefix is decrypted using the
+ * jasypt-based encryption used by previous fcli versions; such text will be written in
+ * the new format when re-encrypted.
  */
 public final class EncryptionHelper {
     public static final EncryptionHelper DEFAULT = new EncryptionHelper(getDefaultEncryptPassword());
-    private final StandardPBEStringEncryptor encryptor;
+    private static final String PREFIX = "$fcli2$";
+    private static final String KDF_ALGORITHM = "PBKDF2WithHmacSHA512";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int ITERATIONS = 10000;
+    private static final int MAX_ITERATIONS = 10_000_000;
+    private static final int MAX_CACHED_KEYS = 64;
+    private static final int SALT_LENGTH = 16;
+    private static final int IV_LENGTH = 12;
+    private static final int KEY_LENGTH_BITS = 256;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private final char[] password;
+    private final Map<String, SecretKey> keys = new ConcurrentHashMap<>();
+    private volatile DerivedKey encryptionKey;
+    private volatile StandardPBEStringEncryptor legacyEncryptor;
 
     public EncryptionHelper(String password) {
-        this.encryptor = createEncryptorWithPassword(password);
+        this.password = (password==null?"":password).toCharArray();
     }
 
     public void save(String contents, Path dest) {
@@ -59,21 +98,122 @@ public final class EncryptionHelper {
 
     public String encrypt(String source) {
         if ( source==null ) { return null; }
-        return encryptor.encrypt(source);
+        var key = getEncryptionKey();
+        try {
+            var iv = randomBytes(IV_LENGTH);
+            var cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, key.key(), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            var encrypted = cipher.doFinal(source.getBytes(StandardCharsets.UTF_8));
+            var ivAndEncrypted = new byte[iv.length+encrypted.length];
+            System.arraycopy(iv, 0, ivAndEncrypted, 0, iv.length);
+            System.arraycopy(encrypted, 0, ivAndEncrypted, iv.length, encrypted.length);
+            return PREFIX+key.iterations()+"$"+key.salt()+"$"+Base64.getEncoder().encodeToString(ivAndEncrypted);
+        } catch ( GeneralSecurityException e ) {
+            throw new FcliTechnicalException("Error encrypting data", e);
+        }
     }
+
     public String decrypt(String source) {
         if ( source==null ) { return null; }
-        return encryptor.decrypt(source);
+        if ( !source.startsWith(PREFIX) ) {
+            return getLegacyEncryptor().decrypt(source);
+        }
+        var parts = source.substring(PREFIX.length()).split("\\$", -1);
+        if ( parts.length!=3 ) {
+            throw new FcliTechnicalException("Invalid encrypted data format");
+        }
+        try {
+            int iterations = Integer.parseInt(parts[0]);
+            var ivAndEncrypted = Base64.getDecoder().decode(parts[2].trim());
+            if ( iterations<1 || iterations>MAX_ITERATIONS || ivAndEncrypted.length<IV_LENGTH ) {
+                throw new FcliTechnicalException("Invalid encrypted data format");
+            }
+            var cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, getKey(parts[1], iterations).key(), new GCMParameterSpec(TAG_LENGTH_BITS, ivAndEncrypted, 0, IV_LENGTH));
+            var decrypted = cipher.doFinal(ivAndEncrypted, IV_LENGTH, ivAndEncrypted.length-IV_LENGTH);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } catch ( IllegalArgumentException e ) {
+            throw new FcliTechnicalException("Invalid encrypted data format", e);
+        } catch ( GeneralSecurityException e ) {
+            throw new FcliTechnicalException("Error decrypting data", e);
+        }
+    }
+
+    /**
+     * Get the key for encrypting new messages; this is the first key that was derived by this
+     * instance, either for decrypting existing data or for encrypting new data, such that no
+     * additional key derivation is necessary if data is re-encrypted after being decrypted.
+     */
+    private DerivedKey getEncryptionKey() {
+        var result = encryptionKey;
+        if ( result==null ) {
+            synchronized (this) {
+                if ( encryptionKey==null ) {
+                    getKey(Base64.getEncoder().encodeToString(randomBytes(SALT_LENGTH)), ITERATIONS);
+                }
+                result = encryptionKey;
+            }
+        }
+        return result;
     }
 
-    private static final StandardPBEStringEncryptor createEncryptorWithPassword(String password) {
+    private DerivedKey getKey(String salt, int iterations) {
+        var cacheKey = iterations+"$"+salt;
+        var key = keys.get(cacheKey);
+        if ( key==null ) {
+            if ( keys.size()>=MAX_CACHED_KEYS ) { keys.clear(); }
+            key = keys.computeIfAbsent(cacheKey, k->deriveKey(salt, iterations));
+        }
+        var result = new DerivedKey(salt, iterations, key);
+        if ( encryptionKey==null && iterations>=ITERATIONS ) {
+            synchronized (this) {
+                if ( encryptionKey==null ) { encryptionKey = result; }
+            }
+        }
+        return result;
+    }
+
+    private SecretKey deriveKey(String salt, int iterations) {
+        var spec = new PBEKeySpec(password, Base64.getDecoder().decode(salt), iterations, KEY_LENGTH_BITS);
+        try {
+            var keyBytes = SecretKeyFactory.getInstance(KDF_ALGORITHM).generateSecret(spec).getEncoded();
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch ( GeneralSecurityException e ) {
+            throw new FcliTechnicalException("Error deriving encryption key", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private StandardPBEStringEncryptor getLegacyEncryptor() {
+        var result = legacyEncryptor;
+        if ( result==null ) {
+            synchronized (this) {
+                if ( legacyEncryptor==null ) {
+                    legacyEncryptor = createLegacyEncryptorWithPassword(new String(password));
+                }
+                result = legacyEncryptor;
+            }
+        }
+        return result;
+    }
+
+    private static final StandardPBEStringEncryptor createLegacyEncryptorWithPassword(String password) {
         var enc = new StandardPBEStringEncryptor();
         enc.setAlgorithm("PBEWithHMACSHA512AndAES_256");
         enc.setIvGenerator(new RandomIvGenerator());
-        enc.setPassword(password==null?"":password);
+        enc.setPassword(password);
         return enc;
     }
 
+    private static final byte[] randomBytes(int length) {
+        var result = new byte[length];
+        RANDOM.nextBytes(result);
+        return result;
+    }
+
+    private static final record DerivedKey(String salt, int iterations, SecretKey key) {}
+
     private static final String getDefaultEncryptPassword() {
         String userPassword = EnvHelper.env("FCLI_ENCRYPT_KEY");
         userPassword = StringUtils.isBlank(userPassword) ? "" : userPassword;
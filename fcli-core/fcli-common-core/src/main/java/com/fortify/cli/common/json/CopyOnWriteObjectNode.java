@@ -0,0 +1,313 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Copy-on-write {@link ObjectNode} overlay, recording local modifications over a base
+ * {@link ObjectNode} without copying the base node. Reads fall through to the base node
+ * for any fields that haven't been modified locally, and field order is the same as if
+ * the modifications had been applied to a copy of the base node. This allows transformers
+ * to add, replace, remove or rename top-level fields without modifying the input node, 
+ * and without having to copy all fields of the input node.
+ * <p>
+ * The base node must not be modified while this overlay is in use; like 
+ * {@link JsonHelper#shallowCopy(ObjectNode)}, nested nodes are shared with the base 
+ * node. Serialization and other read operations process the combined view directly; 
+ * the combined fields are only copied into a regular map when explicitly calling
+ * {@link #freeze()}, after which this node no longer references the base node.
+ */
+public final class CopyOnWriteObjectNode extends ObjectNode {
+    private static final long serialVersionUID = 1L;
+    
+    private CopyOnWriteObjectNode(ObjectNode base) {
+        super(JsonNodeFactory.instance, new OverlayMap(base));
+    }
+    
+    /**
+     * Create a new {@link CopyOnWriteObjectNode} instance on top of the given base node.
+     */
+    public static final CopyOnWriteObjectNode of(ObjectNode base) {
+        return new CopyOnWriteObjectNode(base);
+    }
+    
+    /**
+     * Rename the given field, keeping its current position. If a field with the new 
+     * name already exists, that field is replaced. This method does nothing if the
+     * given field doesn't exist.
+     * @return This instance
+     */
+    public final CopyOnWriteObjectNode rename(String oldName, String newName) {
+        overlay().rename(oldName, newName);
+        return this;
+    }
+    
+    /**
+     * Copy the combined fields into a regular map, removing the reference to the base node.
+     * @return This instance
+     */
+    public final CopyOnWriteObjectNode freeze() {
+        overlay().freeze();
+        return this;
+    }
+    
+    /**
+     * @return true if {@link #freeze()} has been called, false otherwise
+     */
+    public final boolean isFrozen() {
+        return overlay().isFrozen();
+    }
+    
+    private OverlayMap overlay() {
+        return (OverlayMap)_children;
+    }
+    
+    /**
+     * {@link Map} implementation backing {@link CopyOnWriteObjectNode}. Base fields may be
+     * renamed (keeping their position), removed, or replaced by local values; local values
+     * for fields that don't correspond to a visible base field are iterated after the base
+     * fields, in insertion order.
+     */
+    private static final class OverlayMap extends AbstractMap<String, JsonNode> {
+        private ObjectNode base;
+        /** Local values, either replacing visible base fields or added after base fields */
+        private Map<String, JsonNode> local = new LinkedHashMap<>();
+        /** Names of base fields that have been removed */
+        private Set<String> removed = new HashSet<>();
+        /** Current names of renamed base fields, by base field name, and vice versa */
+        private Map<String, String> namesByBaseName = new HashMap<>();
+        private Map<String, String> baseNamesByName = new HashMap<>();
+        /** Regular map holding all fields after freezing */
+        private Map<String, JsonNode> frozen;
+        
+        private OverlayMap(ObjectNode base) {
+            this.base = base;
+        }
+        
+        private boolean isFrozen() {
+            return frozen!=null;
+        }
+        
+        private void freeze() {
+            if ( frozen==null ) {
+                var result = new LinkedHashMap<String, JsonNode>(size()*4/3+1);
+                for ( var e : entrySet() ) { result.put(e.getKey(), e.getValue()); }
+                frozen = result;
+                base = null; local = null; removed = null; namesByBaseName = null; baseNamesByName = null;
+            }
+        }
+        
+        @Override
+        public JsonNode get(Object key) {
+            if ( frozen!=null ) { return frozen.get(key); }
+            if ( !(key instanceof String name) ) { return null; }
+            if ( local.containsKey(name) ) { return local.get(name); }
+            var baseName = getVisibleBaseName(name);
+            return baseName==null ? null : base.get(baseName);
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            if ( frozen!=null ) { return frozen.containsKey(key); }
+            return key instanceof String name && (local.containsKey(name) || getVisibleBaseName(name)!=null);
+        }
+        
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            if ( frozen!=null ) { return frozen.put(key, value); }
+            var previous = get(key);
+            local.put(key, value);
+            return previous;
+        }
+        
+        @Override
+        public JsonNode remove(Object key) {
+            if ( frozen!=null ) { return frozen.remove(key); }
+            if ( !(key instanceof String name) ) { return null; }
+            var previous = get(name);
+            local.remove(name);
+            var baseName = getVisibleBaseName(name);
+            if ( baseName!=null ) { removed.add(baseName); }
+            return previous;
+        }
+        
+        @Override
+        public void clear() {
+            if ( frozen!=null ) { frozen.clear(); }
+            else { freezeEmpty(); }
+        }
+        
+        @Override
+        public int size() {
+            if ( frozen!=null ) { return frozen.size(); }
+            int result = base.size()-removed.size();
+            for ( var name : local.keySet() ) {
+                if ( getVisibleBaseName(name)==null ) { result++; }
+            }
+            return result;
+        }
+        
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            if ( frozen!=null ) { return frozen.entrySet(); }
+            return new AbstractSet<Entry<String, JsonNode>>() {
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    return frozen!=null ? frozen.entrySet().iterator() : new OverlayIterator();
+                }
+                
+                @Override
+                public int size() {
+                    return OverlayMap.this.size();
+                }
+            };
+        }
+        
+        private void rename(String oldName, String newName) {
+            if ( oldName.equals(newName) || !containsKey(oldName) ) { return; }
+            if ( frozen!=null ) {
+                frozen = renamed(frozen, oldName, newName);
+            } else if ( containsKey(newName) ) {
+                // Replacing another field while renaming is rare, so we don't
+                // bother keeping track of this through the overlay.
+                freeze();
+                frozen = renamed(frozen, oldName, newName);
+            } else {
+                var baseName = getVisibleBaseName(oldName);
+                if ( baseName==null ) {
+                    local = renamed(local, oldName, newName);
+                } else {
+                    if ( local.containsKey(oldName) ) { local.put(newName, local.remove(oldName)); }
+                    baseNamesByName.remove(oldName);
+                    namesByBaseName.put(baseName, newName);
+                    baseNamesByName.put(newName, baseName);
+                }
+            }
+        }
+        
+        private void freezeEmpty() {
+            frozen = new LinkedHashMap<>();
+            base = null; local = null; removed = null; namesByBaseName = null; baseNamesByName = null;
+        }
+        
+        /**
+         * Get the name of the base field that is currently visible under the given
+         * name, or null if the given name doesn't refer to a visible base field.
+         */
+        private String getVisibleBaseName(String name) {
+            var baseName = baseNamesByName.get(name);
+            if ( baseName==null && !namesByBaseName.containsKey(name) ) { baseName = name; }
+            return baseName!=null && !removed.contains(baseName) && base.has(baseName) ? baseName : null;
+        }
+        
+        private static final Map<String, JsonNode> renamed(Map<String, JsonNode> map, String oldName, String newName) {
+            var result = new LinkedHashMap<String, JsonNode>(map.size()*4/3+1);
+            for ( var e : map.entrySet() ) {
+                var name = e.getKey();
+                if ( name.equals(oldName) ) {
+                    result.put(newName, e.getValue());
+                } else if ( !name.equals(newName) ) {
+                    result.put(name, e.getValue());
+                }
+            }
+            return result;
+        }
+        
+        /**
+         * Iterator over visible base fields (with their current names and values), 
+         * followed by local fields that don't correspond to a visible base field.
+         * Local fields are iterated from a snapshot that is taken once all base fields
+         * have been iterated, to allow for the map being modified during iteration.
+         */
+        private final class OverlayIterator implements Iterator<Entry<String, JsonNode>> {
+            private final Iterator<Entry<String, JsonNode>> baseIterator = base.fields();
+            private Iterator<Entry<String, JsonNode>> localIterator;
+            private Entry<String, JsonNode> next;
+            private Entry<String, JsonNode> current;
+            
+            @Override
+            public boolean hasNext() {
+                if ( next==null ) { next = findNext(); }
+                return next!=null;
+            }
+            
+            @Override
+            public Entry<String, JsonNode> next() {
+                if ( !hasNext() ) { throw new NoSuchElementException(); }
+                current = next;
+                next = null;
+                return current;
+            }
+            
+            @Override
+            public void remove() {
+                if ( current==null ) { throw new IllegalStateException(); }
+                OverlayMap.this.remove(current.getKey());
+                current = null;
+            }
+            
+            private Entry<String, JsonNode> findNext() {
+                if ( frozen!=null ) { throw new ConcurrentModificationException(); }
+                while ( baseIterator.hasNext() ) {
+                    var e = baseIterator.next();
+                    var baseName = e.getKey();
+                    if ( !removed.contains(baseName) ) {
+                        var name = namesByBaseName.getOrDefault(baseName, baseName);
+                        return new OverlayEntry(name, local.containsKey(name) ? local.get(name) : e.getValue());
+                    }
+                }
+                if ( localIterator==null ) {
+                    localIterator = local.isEmpty() 
+                            ? Collections.emptyIterator() 
+                            : new ArrayList<>(local.entrySet()).iterator();
+                }
+                while ( localIterator.hasNext() ) {
+                    var e = localIterator.next();
+                    var name = e.getKey();
+                    if ( local.containsKey(name) && getVisibleBaseName(name)==null ) {
+                        return new OverlayEntry(name, local.get(name));
+                    }
+                }
+                return null;
+            }
+        }
+        
+        /** Map entry, storing updated values as local values */
+        private final class OverlayEntry extends SimpleEntry<String, JsonNode> {
+            private static final long serialVersionUID = 1L;
+            private OverlayEntry(String key, JsonNode value) { super(key, value); }
+            
+            @Override
+            public JsonNode setValue(JsonNode value) {
+                local.put(getKey(), value);
+                return super.setValue(value);
+            }
+        }
+    }
+}
@@ -28,7 +28,9 @@ import com.fortify.cli.common.output.product.IResponseMetadataCollector;
 import com.fortify.cli.common.output.transform.IActionCommandResultSupplier;
 import com.fortify.cli.common.output.transform.IInputTransformer;
 import com.fortify.cli.common.output.transform.IRecordTransformer;
+import com.fortify.cli.common.output.transform.IStreamableInputTransformer;
 import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryPushdown;
 import com.fortify.cli.common.util.Break;
 
 import lombok.AccessLevel;
@@ -59,29 +61,55 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
 
     /**
      * Template method used by subclasses to feed input JSON to this base class for processing.
+     * @return {@link Break#TRUE} if the consumer requested processing to stop, allowing
+     *         subclasses to stop loading any further input (like next pages)
      */
-    protected final void process(JsonNode input, IObjectNodeConsumer consumer) {
-        if ( input==null ) { return; }
+    protected final Break process(JsonNode input, IObjectNodeConsumer consumer) {
+        if ( input==null ) { return Break.FALSE; }
         collectMetadata(input);
         JsonNode transformed = applyInputTransformers(input);
-        if ( transformed==null || transformed.isNull() ) { return; }
+        if ( transformed==null || transformed.isNull() ) { return Break.FALSE; }
         if ( transformed.isObject() ) {
-            processSingleRecord((ObjectNode)transformed, consumer);
+            return processSingleRecord((ObjectNode)transformed, consumer);
         } else if ( transformed.isArray() ) {
             var array = (ArrayNode)transformed;
             for ( var it = array.elements(); it.hasNext(); ) {
-                var n = it.next();
-                if ( n.isObject() ) {
-                    if ( Break.TRUE == processSingleRecord((ObjectNode)n, consumer) ) { break; }
-                } else if ( !n.isNull() && !n.isMissingNode() ) {
-                    // We only allow object elements; any other non-null element is unexpected
-                    throw new FcliBugException("Unsupported record node type in array: "+n.getNodeType());
-                }
+                if ( Break.TRUE == processArrayElement(it.next(), consumer) ) { return Break.TRUE; }
             }
         } else {
             // Transformed root must be object or array; if it's some other non-null/non-missing node, that's unexpected
             throw new FcliBugException("Unsupported transformed input node type: "+transformed.getNodeType());
         }
+        return Break.FALSE;
+    }
+
+    /**
+     * Process a single element of a (transformed) input array, also used by subclasses that
+     * parse the input array in a streaming fashion; see {@link #getStreamableRecordsPropertyName()}.
+     */
+    protected final Break processArrayElement(JsonNode n, IObjectNodeConsumer consumer) {
+        if ( n!=null && n.isObject() ) {
+            return processSingleRecord((ObjectNode)n, consumer);
+        } else if ( n!=null && !n.isNull() && !n.isMissingNode() ) {
+            // We only allow object elements; any other non-null element is unexpected
+            throw new FcliBugException("Unsupported record node type in array: "+n.getNodeType());
+        }
+        return Break.FALSE;
+    }
+
+    /**
+     * If the only configured input transformer is an {@link IStreamableInputTransformer},
+     * return the name of the property containing the input records. Subclasses may use this
+     * to parse input in a streaming fashion, passing each element of the records array to
+     * {@link #processArrayElement(JsonNode, IObjectNodeConsumer)} and passing the remainder
+     * of the input to {@link #collectMetadata(JsonNode)}, which gives the same results as
+     * passing the full input to {@link #process(JsonNode, IObjectNodeConsumer)}.
+     * @return Records property name, or null if input cannot be parsed in a streaming fashion
+     */
+    protected final String getStreamableRecordsPropertyName() {
+        return inputTransformers.size()==1 && inputTransformers.get(0) instanceof StreamableInputTransformer t
+                ? t.transformer().getRecordsPropertyName()
+                : null;
     }
 
     private JsonNode applyInputTransformers(JsonNode input) {
@@ -90,7 +118,7 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
         return current;
     }
 
-    private void collectMetadata(JsonNode rawInput) {
+    protected final void collectMetadata(JsonNode rawInput) {
         if ( responseMetadata==null && responseMetadataCollector!=null ) {
             responseMetadata = responseMetadataCollector.collectResponseMetadata(rawInput);
         }
@@ -172,6 +200,18 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
             }
             return self();
         }
+        /**
+         * If the configured query expression is the query expression for which the given
+         * {@link QueryPushdown} was created, replace it with the residual query expression,
+         * such that any query conditions handled server-side are not evaluated again. This
+         * should only be called if the server-side query parameter value from the given
+         * {@link QueryPushdown} is actually applied to the request(s) being processed.
+         */
+        protected void applyQueryPushdown(QueryPushdown queryPushdown) {
+            if ( this.queryExpression!=null && queryPushdown.isFor(this.queryExpression) ) {
+                this.queryExpression = queryPushdown.getResidualQueryExpression();
+            }
+        }
         public B applyResponseMetadataCollectorFrom(ObjectNodeProducerApplyFrom applyFrom) {
             applyFrom.getSourceStream(getRequiredCommandHelper(), explicitProductHelper).forEach(this::addResponseMetadataCollectorFromObject);
             return self();
@@ -186,7 +226,11 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
             return getRequiredCommandHelper().getCommandSpec();
         }
         private void addInputTransformersFromObject(Object o) {
-            if ( o instanceof IInputTransformer it ) { inputTransformer(it::transformInput); }
+            if ( o instanceof IStreamableInputTransformer st ) {
+                inputTransformer(new StreamableInputTransformer(st));
+            } else if ( o instanceof IInputTransformer it ) {
+                inputTransformer(it::transformInput);
+            }
         }
         private void addRecordTransformersFromObject(Object o) {
             if ( o instanceof IRecordTransformer rt ) { recordTransformer(n->rt.transformRecord(n)); }
@@ -197,4 +241,10 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
             }
         }
     }
+
+    /** Input transformer wrapper, allowing {@link #getStreamableRecordsPropertyName()} to identify streamable input transformers. */
+    private static final record StreamableInputTransformer(IStreamableInputTransformer transformer) implements UnaryOperator<JsonNode> {
+        @Override
+        public JsonNode apply(JsonNode input) { return transformer.transformInput(input); }
+    }
 }
@@ -15,26 +15,46 @@ package com.fortify.cli.common.json.producer;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.output.transform.IStreamableInputTransformer;
+import com.fortify.cli.common.rest.paging.FetchRange;
+import com.fortify.cli.common.rest.paging.IClientSideFetchRangeSupplier;
 import com.fortify.cli.common.rest.paging.INextPageRequestProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 import com.fortify.cli.common.rest.paging.IPagingSuppressor;
 import com.fortify.cli.common.rest.paging.PagingHelper;
+import com.fortify.cli.common.rest.paging.ReadAheadPager;
 import com.fortify.cli.common.rest.unirest.IHttpRequestUpdater;
 import com.fortify.cli.common.rest.unirest.IUnirestInstanceSupplier;
 import com.fortify.cli.common.rest.unirest.IfFailureHandler;
+import com.fortify.cli.common.spel.query.IQueryPushdownSupplier;
+import com.fortify.cli.common.util.Break;
+import com.fortify.cli.common.util.EnvHelper;
 
 import kong.unirest.HttpRequest;
 import kong.unirest.HttpResponse;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Singular;
 import lombok.experimental.SuperBuilder;
 
 /**
  * Producer built around executing an HTTP {@link HttpRequest}. Supports request updaters and paging.
+ * <p>
+ * If the only configured input transformer is an {@link IStreamableInputTransformer}, responses
+ * are parsed in a streaming fashion, passing each record on for processing as soon as it has been
+ * parsed, rather than first loading the full response into memory. Streaming is not used when
+ * reading pages ahead (as this requires the full page to be loaded), and can be disabled by
+ * setting the {@value #ENV_DISABLE_STREAMING_PARSE} environment variable to true.
+ * <p>
+ * If a client-side {@link FetchRange} is configured, only the records within that range
+ * of the records that match the query expression are passed to the consumer, and no 
+ * further pages are loaded once the end of the range has been reached.
  */
 @SuperBuilder
 public class RequestObjectNodeProducer extends AbstractObjectNodeProducer {
+    public static final String ENV_DISABLE_STREAMING_PARSE = "FCLI_DISABLE_STREAMING_PARSE";
     @Getter private final HttpRequest<?> baseRequest;
     /** Optional unirest instance; if provided and only a {@link INextPageUrlProducer} is configured, we convert it
      *  to an {@link INextPageRequestProducer} to stream pages instead of collecting them. */
@@ -43,34 +63,66 @@ public class RequestObjectNodeProducer extends AbstractObjectNodeProducer {
     private final INextPageRequestProducer nextPageRequestProducer;
     private final INextPageUrlProducer nextPageUrlProducer;
     private final boolean pagingSuppressed;
+    /** Number of pages to load ahead of the page currently being processed; if not configured, this
+     *  defaults to {@link ReadAheadPager#getConfiguredPagesAhead()}, which disables read-ahead by default. */
+    private final Integer readAheadPages;
+    /** Optional fetch range to be applied client-side, see {@link IClientSideFetchRangeSupplier} */
+    private final FetchRange clientSideFetchRange;
     // Test-only support: if configured, simulate multi-page responses without performing HTTP requests
     @Singular private final List<JsonNode> testPageBodies;
 
     @Override
     public void forEach(IObjectNodeConsumer consumer) {
+        if ( clientSideFetchRange!=null ) {
+            forEachRecord(new FetchRangeConsumer(clientSideFetchRange, consumer));
+        } else {
+            forEachRecord(consumer);
+        }
+    }
+
+    private void forEachRecord(IObjectNodeConsumer consumer) {
         // Test-mode shortcut: simulate paging if testPageBodies configured
         if ( testPageBodies!=null && !testPageBodies.isEmpty() ) {
-            for ( var body : testPageBodies ) { process(body, consumer); }
+            for ( var body : testPageBodies ) {
+                if ( process(body, consumer).doBreak() ) { break; }
+            }
             return;
         }
         HttpRequest<?> request = applyRequestUpdaters(baseRequest);
+        var recordsPropertyName = getStreamingRecordsPropertyName();
         if ( pagingSuppressed ) {
-            request.asObject(JsonNode.class).ifSuccess(r->handleResponse(r, consumer)).ifFailure(IfFailureHandler::handle);
+            if ( recordsPropertyName!=null ) {
+                var pageProcessor = new StreamingPageProcessor(recordsPropertyName, consumer);
+                pageProcessor.load(request).ifSuccess(pageProcessor::process).ifFailure(IfFailureHandler::handle);
+            } else {
+                request.asObject(JsonNode.class).ifSuccess(r->handleResponse(r, consumer)).ifFailure(IfFailureHandler::handle);
+            }
             return;
         }
         INextPageRequestProducer effectiveNextPageRequestProducer = nextPageRequestProducer;
         if ( effectiveNextPageRequestProducer==null && nextPageUrlProducer!=null && unirestInstance!=null ) {
             effectiveNextPageRequestProducer = PagingHelper.asNextPageRequestProducer(unirestInstance, nextPageUrlProducer);
         }
-        if ( effectiveNextPageRequestProducer!=null ) {
-            PagingHelper.processPages(request, effectiveNextPageRequestProducer, r->handleResponse(r, consumer));
+        var readAheadPages = getEffectiveReadAheadPages();
+        if ( effectiveNextPageRequestProducer!=null && recordsPropertyName!=null && readAheadPages<1 ) {
+            var pageProcessor = new StreamingPageProcessor(recordsPropertyName, consumer);
+            PagingHelper.processPagesWithBreak(request, effectiveNextPageRequestProducer, pageProcessor::load, pageProcessor::process);
+        } else if ( effectiveNextPageRequestProducer!=null ) {
+            ReadAheadPager.processPagesWithBreak(request, effectiveNextPageRequestProducer, readAheadPages, r->handleResponse(r, consumer));
         } else if ( nextPageUrlProducer!=null ) {
             PagingHelper.pagedRequest(request, nextPageUrlProducer).ifSuccess(r->handleResponse(r, consumer)).ifFailure(IfFailureHandler::handle);
+        } else if ( recordsPropertyName!=null ) {
+            var pageProcessor = new StreamingPageProcessor(recordsPropertyName, consumer);
+            pageProcessor.load(request).ifSuccess(pageProcessor::process).ifFailure(IfFailureHandler::handle);
         } else {
             request.asObject(JsonNode.class).ifSuccess(r->handleResponse(r, consumer)).ifFailure(IfFailureHandler::handle);
         }
     }
 
+    private String getStreamingRecordsPropertyName() {
+        return EnvHelper.asBoolean(EnvHelper.env(ENV_DISABLE_STREAMING_PARSE)) ? null : getStreamableRecordsPropertyName();
+    }
+
     private HttpRequest<?> applyRequestUpdaters(HttpRequest<?> base) {
         if ( requestUpdaters==null ) { return base; }
         HttpRequest<?> current = base;
@@ -78,8 +130,59 @@ public class RequestObjectNodeProducer extends AbstractObjectNodeProducer {
         return current;
     }
 
-    private void handleResponse(HttpResponse<JsonNode> r, IObjectNodeConsumer consumer) {
-        process(r.getBody(), consumer);
+    private int getEffectiveReadAheadPages() {
+        return readAheadPages!=null ? readAheadPages : ReadAheadPager.getConfiguredPagesAhead();
+    }
+
+    private Break handleResponse(HttpResponse<JsonNode> r, IObjectNodeConsumer consumer) {
+        return process(r.getBody(), consumer);
+    }
+
+    /**
+     * Loads and processes pages through {@link StreamingResponseParser}. Pages are loaded and
+     * processed sequentially, so a single instance can be used for all pages of a request,
+     * with {@link #process(HttpResponse)} handling the page last loaded by {@link #load(HttpRequest)}.
+     */
+    @RequiredArgsConstructor
+    private final class StreamingPageProcessor {
+        private final String recordsPropertyName;
+        private final IObjectNodeConsumer consumer;
+        private StreamingResponseParser parser;
+
+        private HttpResponse<JsonNode> load(HttpRequest<?> request) {
+            parser = new StreamingResponseParser(recordsPropertyName, n->processArrayElement(n, consumer));
+            var response = request.asObject(parser::parse);
+            parser.rethrowProcessingFailure();
+            return response;
+        }
+
+        private Break process(HttpResponse<JsonNode> r) {
+            if ( !parser.isRecordsStreamed() ) { return handleResponse(r, consumer); }
+            collectMetadata(r.getBody());
+            return parser.getResult();
+        }
+    }
+
+    /**
+     * Consumer that skips the records before the start of the given {@link FetchRange},
+     * and requests processing to stop once the end of the range has been reached.
+     */
+    @RequiredArgsConstructor
+    private static final class FetchRangeConsumer implements IObjectNodeConsumer {
+        private final FetchRange range;
+        private final IObjectNodeConsumer consumer;
+        private int skipped;
+        private int accepted;
+
+        @Override
+        public Break accept(ObjectNode node) {
+            if ( skipped<range.offset() ) {
+                skipped++;
+                return Break.FALSE;
+            }
+            var result = consumer.accept(node);
+            return ++accepted>=range.limit() ? Break.TRUE : result;
+        }
     }
 
     public static class RequestObjectNodeProducerBuilderImpl extends RequestObjectNodeProducerBuilder<RequestObjectNodeProducer, RequestObjectNodeProducerBuilderImpl> {
@@ -97,6 +200,8 @@ public class RequestObjectNodeProducer extends AbstractObjectNodeProducer {
             if (o instanceof IHttpRequestUpdater u) { requestUpdater(u); }
             if (o instanceof INextPageUrlProducerSupplier s) { nextPageUrlProducer(s.getNextPageUrlProducer()); }
             if (o instanceof IPagingSuppressor s && s.isPagingSuppressed()) { pagingSuppressed(true); }
+            if (o instanceof IQueryPushdownSupplier s && o instanceof IHttpRequestUpdater) { applyQueryPushdown(s.getQueryPushdown()); }
+            if (o instanceof IClientSideFetchRangeSupplier s && s.getClientSideFetchRange()!=null) { clientSideFetchRange(s.getClientSideFetchRange()); }
         }
 
         /** Configure unirest instance to enable streaming paging conversion. */
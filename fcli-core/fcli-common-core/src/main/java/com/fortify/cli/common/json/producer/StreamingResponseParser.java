@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.output.transform.IStreamableInputTransformer;
+import com.fortify.cli.common.util.Break;
+
+import kong.unirest.RawResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parses a single HTTP response in a streaming fashion, for use with
+ * {@code HttpRequest.asObject(Function<RawResponse,T>)}. If the response body is an
+ * object containing an array-valued records property (see {@link IStreamableInputTransformer}),
+ * each array element is passed to the record processor as soon as it has been parsed,
+ * and the returned body contains all other properties, with the records property
+ * replaced by an empty array. Otherwise, the full response body is returned and
+ * {@link #isRecordsStreamed()} returns false, in which case the caller is responsible
+ * for processing the returned body like any non-streamed response.
+ * <p>
+ * Exceptions thrown by the record processor are rethrown by {@link #rethrowProcessingFailure()}
+ * rather than from the {@link #parse(RawResponse)} method, to prevent Unirest from
+ * handling these exceptions as response parsing errors.
+ */
+@RequiredArgsConstructor
+final class StreamingResponseParser {
+    private final String recordsPropertyName;
+    private final Function<JsonNode, Break> recordProcessor;
+    @Getter private boolean recordsStreamed;
+    @Getter private Break result = Break.FALSE;
+    private RuntimeException processingFailure;
+
+    JsonNode parse(RawResponse raw) {
+        try {
+            if ( raw.getStatus()<200 || raw.getStatus()>=300 ) {
+                return parseFailureResponse(raw);
+            }
+            if ( !raw.hasContent() ) { return null; }
+            try ( var parser = JsonHelper.getObjectMapper().createParser(raw.getContentReader()) ) {
+                var token = parser.nextToken();
+                if ( token==null ) {
+                    throw MismatchedInputException.from(parser, JsonNode.class, "No content to map due to end-of-input");
+                }
+                return token==JsonToken.START_OBJECT ? parseObject(parser) : parser.readValueAsTree();
+            }
+        } catch ( IOException e ) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void rethrowProcessingFailure() {
+        if ( processingFailure!=null ) { throw processingFailure; }
+    }
+
+    private JsonNode parseObject(JsonParser parser) throws IOException {
+        ObjectNode body = JsonHelper.getObjectMapper().createObjectNode();
+        while ( parser.nextToken()==JsonToken.FIELD_NAME ) {
+            var name = parser.currentName();
+            var token = parser.nextToken();
+            if ( token==JsonToken.START_ARRAY && recordsPropertyName.equals(name) ) {
+                recordsStreamed = true;
+                body.putArray(name);
+                if ( !parseRecords(parser) ) { return null; }
+            } else {
+                body.set(name, (JsonNode)parser.readValueAsTree());
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Pass each array element to the record processor. Once the record processor requests
+     * processing to stop, remaining elements are skipped, but we continue parsing the rest
+     * of the response to allow for collecting response metadata.
+     * @return false if the record processor threw an exception, true otherwise
+     */
+    private boolean parseRecords(JsonParser parser) throws IOException {
+        while ( parser.nextToken()!=JsonToken.END_ARRAY ) {
+            if ( result.doBreak() ) {
+                parser.skipChildren();
+            } else {
+                JsonNode record = parser.readValueAsTree();
+                try {
+                    result = recordProcessor.apply(record);
+                } catch ( RuntimeException e ) {
+                    processingFailure = e;
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Non-success responses are never streamed; we return the parsed body if possible,
+     * or the raw body as a text node otherwise, for use in error messages.
+     */
+    private static JsonNode parseFailureResponse(RawResponse raw) {
+        if ( !raw.hasContent() ) { return null; }
+        var body = raw.getContentAsString();
+        if ( StringUtils.isBlank(body) ) { return null; }
+        try {
+            return JsonHelper.getObjectMapper().readTree(body);
+        } catch ( JsonProcessingException e ) {
+            return TextNode.valueOf(body);
+        }
+    }
+}
@@ -19,12 +19,15 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.CopyOnWriteObjectNode;
 import com.fortify.cli.common.json.transform.AbstractJsonNodeTransformer;
 import com.fortify.cli.common.json.transform.IJsonNodeTransformer;
 
 /**
- * This {@link IJsonNodeTransformer} allows for renaming fields in JSON objects
- * or arrays. For now, this only supports renaming top-level fields.
+ * This {@link IJsonNodeTransformer} allows for adding fields to JSON objects
+ * or arrays. For now, this only supports adding top-level fields. Input objects
+ * are not modified; fields are added to a {@link CopyOnWriteObjectNode} overlay
+ * on top of each input object.
  *
  * @author rsenden
  *
@@ -57,14 +60,13 @@ public class AddFieldsTransformer extends AbstractJsonNodeTransformer implements
 
     @Override
     protected final ObjectNode transformObjectNode(ObjectNode input) {
-        nameToValueSupplierMap.entrySet().forEach(e -> put(input, e));
-
-        return input;
-    }
-
-    private final void put(ObjectNode input, Map.Entry<String, Supplier<String>> e) {
-        if (overwriteExisting || !input.has(e.getKey())) {
-            input.put(e.getKey(), e.getValue().get());
+        CopyOnWriteObjectNode output = null;
+        for ( var e : nameToValueSupplierMap.entrySet() ) {
+            if (overwriteExisting || !input.has(e.getKey())) {
+                if ( output==null ) { output = CopyOnWriteObjectNode.of(input); }
+                output.put(e.getKey(), e.getValue().get());
+            }
         }
+        return output==null ? input : output;
     }
 }
@@ -13,18 +13,23 @@
 package com.fortify.cli.common.json.transform.fields;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.CopyOnWriteObjectNode;
 import com.fortify.cli.common.json.transform.AbstractJsonNodeTransformer;
 import com.fortify.cli.common.json.transform.IJsonNodeTransformer;
 
 /**
  * This {@link IJsonNodeTransformer} allows for renaming fields in JSON objects
- * or arrays. For now, this only supports renaming top-level fields.
+ * or arrays. For now, this only supports renaming top-level fields. Input objects
+ * are not modified; where possible, fields are renamed on a {@link CopyOnWriteObjectNode}
+ * overlay on top of each input object, rather than copying all fields into a new object.
  *
  * @author rsenden
  *
@@ -47,6 +52,36 @@ public class RenameFieldsTransformer extends AbstractJsonNodeTransformer impleme
 
     @Override
     protected final ObjectNode transformObjectNode(ObjectNode input) {
+        return canRenameInPlace(input) ? renameInPlace(input) : renameToCopy(input);
+    }
+    
+    /**
+     * Renaming fields one by one on a {@link CopyOnWriteObjectNode} gives the same result
+     * as renaming all fields at once, unless any new field name already exists in the input,
+     * or multiple fields are renamed to the same name.
+     */
+    private boolean canRenameInPlace(ObjectNode input) {
+        Set<String> newNames = null;
+        for ( var e : oldToNewNameMap.entrySet() ) {
+            var oldName = e.getKey();
+            var newName = e.getValue();
+            if ( !oldName.equals(newName) && input.has(oldName) ) {
+                if ( newNames==null ) { newNames = new HashSet<>(); }
+                if ( input.has(newName) || !newNames.add(newName) ) { return false; }
+            }
+        }
+        return true;
+    }
+    
+    private ObjectNode renameInPlace(ObjectNode input) {
+        var output = CopyOnWriteObjectNode.of(input);
+        oldToNewNameMap.forEach((oldName, newName) -> {
+            if ( input.has(oldName) ) { output.rename(oldName, newName); }
+        });
+        return output;
+    }
+    
+    private ObjectNode renameToCopy(ObjectNode input) {
         ObjectNode output = new ObjectNode(JsonNodeFactory.instance);
         input.fields().forEachRemaining(e -> output.set(rename(e.getKey()), e.getValue()));
         return output;
@@ -12,6 +12,9 @@
  */
 package com.fortify.cli.common.json.transform.flatten;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -28,10 +31,21 @@ import com.fortify.cli.common.json.transform.AbstractJsonNodeTransformer;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Transformer that flattens nested objects and arrays into a single-level object, joining
+ * property names using the configured separator. As records produced by a single command
+ * usually all have the same structure, this transformer compiles a {@link FlattenPlan} from
+ * the first record, which is then applied to subsequent records without having to compute
+ * and format the flattened property names again. If a record doesn't match the structure
+ * of the current plan, the record is flattened by walking its full JSON tree instead, and
+ * the plan is recompiled if many records don't match the current plan.
+ */
 public class FlattenTransformer extends AbstractJsonNodeTransformer {
+    private static final int MAX_PLAN_MISMATCHES = 16;
     private final Function<String, String> fieldNameFormatter;
     private final String separator;
     private final boolean flattenNestedArrays;
+    private volatile FlattenPlan plan;
 
     public FlattenTransformer(Function<String, String> fieldNameFormatter, String separator, boolean flattenNestedArrays) {
         super(false);
@@ -42,8 +56,160 @@ public class FlattenTransformer extends AbstractJsonNodeTransformer {
 
     @Override
     public ObjectNode transformObjectNode(ObjectNode input) {
+        var currentPlan = plan;
+        if ( currentPlan!=null ) {
+            var result = new ObjectNode(JsonNodeFactory.instance);
+            if ( currentPlan.root.apply(input, result) ) { return result; }
+            if ( currentPlan.mismatches.incrementAndGet()<MAX_PLAN_MISMATCHES ) {
+                return flattenGeneric(input);
+            }
+        }
+        plan = new FlattenPlan(compile(input, ""));
+        return flattenGeneric(input);
+    }
+    
+    private ObjectNode flattenGeneric(ObjectNode input) {
         return new ObjectNodeFlattener(input, fieldNameFormatter, separator, flattenNestedArrays).flatten();
     }
+    
+    /**
+     * Compile a plan for the given node, mirroring the logic in {@link ObjectNodeFlattener}.
+     */
+    private PlanNode compile(JsonNode node, String prefix) {
+        if ( node.isObject() ) {
+            var names = new ArrayList<String>();
+            var children = new ArrayList<PlanNode>();
+            node.fields().forEachRemaining(entry -> {
+                names.add(entry.getKey());
+                children.add(compile(entry.getValue(), getPrefix(prefix, entry.getKey())));
+            });
+            return new ObjectPlanNode(names.toArray(String[]::new), children.toArray(PlanNode[]::new));
+        } else if ( node.isArray() ) {
+            var array = (ArrayNode) node;
+            JsonNodeType nodeType = array.isEmpty() ? null : array.get(0).getNodeType();
+            if ( nodeType==null ) { return new IgnoredArrayPlanNode(null); }
+            switch (nodeType) {
+                case ARRAY :
+                case OBJECT :
+                case POJO :
+                    if ( !flattenNestedArrays ) { return new IgnoredArrayPlanNode(nodeType); }
+                    var elements = new PlanNode[array.size()];
+                    for ( int i=0 ; i<elements.length ; i++ ) {
+                        elements[i] = compile(array.get(i), getPrefix(prefix, i));
+                    }
+                    return new NestedArrayPlanNode(nodeType, elements);
+                case STRING :
+                case NUMBER :
+                    return new ConcatenatedArrayPlanNode(nodeType, fieldNameFormatter.apply(prefix));
+                default :
+                    return new IgnoredArrayPlanNode(nodeType);
+            }
+        } else {
+            return new ValuePlanNode(fieldNameFormatter.apply(prefix));
+        }
+    }
+
+    private String getPrefix(String prefix, String key) {
+        return StringUtils.isBlank(prefix) ? key : (prefix + separator + key);
+    }
+
+    private String getPrefix(String prefix, int count) {
+        return StringUtils.isBlank(prefix) ? String.valueOf(count) : (prefix + separator + count);
+    }
+
+    private static String toConcatenatedString(ArrayNode array) {
+        return JsonHelper.stream(array).map(JsonNode::textValue).collect(Collectors.joining(", "));
+    }
+
+    @RequiredArgsConstructor
+    private static final class FlattenPlan {
+        private final PlanNode root;
+        private final AtomicInteger mismatches = new AtomicInteger();
+    }
+
+    /**
+     * Node in a {@link FlattenPlan}. If the given node matches the structure described by this
+     * plan node, the flattened properties are added to the given result and true is returned.
+     * If the node doesn't match, false is returned; the result may have been partially updated
+     * in that case, so should be discarded.
+     */
+    private static interface PlanNode {
+        boolean apply(JsonNode node, ObjectNode result);
+    }
+
+    @RequiredArgsConstructor
+    private static final class ObjectPlanNode implements PlanNode {
+        private final String[] names;
+        private final PlanNode[] children;
+
+        @Override
+        public boolean apply(JsonNode node, ObjectNode result) {
+            if ( !node.isObject() || node.size()!=names.length ) { return false; }
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            for ( int i=0 ; i<names.length ; i++ ) {
+                var entry = fields.next();
+                if ( !names[i].equals(entry.getKey()) || !children[i].apply(entry.getValue(), result) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class ValuePlanNode implements PlanNode {
+        private final String outputName;
+
+        @Override
+        public boolean apply(JsonNode node, ObjectNode result) {
+            if ( node.isObject() || node.isArray() ) { return false; }
+            result.set(outputName, node);
+            return true;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class ConcatenatedArrayPlanNode implements PlanNode {
+        private final JsonNodeType elementType;
+        private final String outputName;
+
+        @Override
+        public boolean apply(JsonNode node, ObjectNode result) {
+            if ( getFirstElementType(node)!=elementType ) { return false; }
+            result.put(outputName, toConcatenatedString((ArrayNode) node));
+            return true;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class NestedArrayPlanNode implements PlanNode {
+        private final JsonNodeType elementType;
+        private final PlanNode[] elements;
+
+        @Override
+        public boolean apply(JsonNode node, ObjectNode result) {
+            if ( getFirstElementType(node)!=elementType || node.size()!=elements.length ) { return false; }
+            for ( int i=0 ; i<elements.length ; i++ ) {
+                if ( !elements[i].apply(node.get(i), result) ) { return false; }
+            }
+            return true;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class IgnoredArrayPlanNode implements PlanNode {
+        private final JsonNodeType elementType; // null for empty arrays
+
+        @Override
+        public boolean apply(JsonNode node, ObjectNode result) {
+            return node.isArray() && getFirstElementType(node)==elementType;
+        }
+    }
+
+    private static JsonNodeType getFirstElementType(JsonNode node) {
+        if ( !node.isArray() ) { return JsonNodeType.MISSING; }
+        return node.isEmpty() ? null : node.get(0).getNodeType();
+    }
 
     @RequiredArgsConstructor
     private final class ObjectNodeFlattener {
@@ -98,17 +264,5 @@ public class FlattenTransformer extends AbstractJsonNodeTransformer {
             }
         }
 
-        private String toConcatenatedString(ArrayNode array) {
-            return JsonHelper.stream(array).map(JsonNode::textValue).collect(Collectors.joining(", "));
-        }
-
-        private String getPrefix(String prefix, String key) {
-            return StringUtils.isBlank(prefix) ? key : (prefix + separator + key);
-        }
-
-        private String getPrefix(String prefix, int count) {
-            return StringUtils.isBlank(prefix) ? String.valueOf(count) : (prefix + separator + count);
-        }
-
     }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.transform;
+
+/**
+ * {@link IInputTransformer} that only extracts the records from a single property of
+ * the input object. Implementations must guarantee that {@link #transformInput(com.fasterxml.jackson.databind.JsonNode)}
+ * returns the value of the {@link #getRecordsPropertyName()} property if the input
+ * contains that property, or the input itself otherwise.
+ * <p>
+ * This allows for responses to be parsed in a streaming fashion, passing each element
+ * of the records array on for processing as soon as it has been parsed, rather than
+ * first loading the full response into memory. When parsing in a streaming fashion,
+ * response metadata collectors and next page URL producers will be invoked on the
+ * response body with the records array replaced by an empty array.
+ */
+public interface IStreamableInputTransformer extends IInputTransformer {
+    String getRecordsPropertyName();
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.writer.output.standard;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fortify.cli.common.cli.util.DelegatingPrintStream;
+import com.fortify.cli.common.cli.util.StdioHelper;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Buffered {@link Writer} for writing record output to stdout. Characters are buffered
+ * and only written to the underlying {@link PrintStream} in chunks of complete lines,
+ * encoded through a single, reused {@link CharsetEncoder}. As the underlying stream
+ * is usually a masking stream that masks each written chunk individually, writing
+ * complete lines guarantees that sensitive values are never split across chunks,
+ * and thus are always masked correctly.
+ * <p>
+ * Record writers may call {@link #flush()} after every record, so {@link #flush()}
+ * only writes the buffered complete lines if at least the configured flush interval
+ * has passed since data was last written. Complete lines are also written whenever
+ * the buffer is full, and by a background task at the configured flush interval,
+ * such that interactive output still appears promptly. The background task only
+ * weakly references this writer, and cancels itself once this writer has been
+ * garbage collected without having been closed. All remaining data, including any
+ * incomplete last line, is written when this writer is closed. Closing this writer
+ * doesn't close the underlying stream.
+ * <p>
+ * The buffer size (in characters) and flush interval can be configured through the
+ * {@value #ENV_BUFFER_SIZE} and {@value #ENV_FLUSH_INTERVAL_MS} environment variables;
+ * setting the buffer size to 0 disables buffering, see {@link #create()}.
+ */
+public final class BufferedStdoutWriter extends Writer {
+    public static final String ENV_BUFFER_SIZE = "FCLI_STDOUT_BUFFER_SIZE";
+    public static final String ENV_FLUSH_INTERVAL_MS = "FCLI_STDOUT_FLUSH_INTERVAL_MS";
+    private static final int DEFAULT_BUFFER_SIZE = 64*1024;
+    private static final int DEFAULT_FLUSH_INTERVAL_MS = 200;
+    private static final ScheduledThreadPoolExecutor FLUSH_EXECUTOR = createFlushExecutor();
+    private final PrintStream out;
+    private final CharsetEncoder encoder;
+    private final int bufferSize;
+    private final long flushIntervalNanos;
+    private final FlushTask flushTask;
+    private char[] buffer;
+    private int count;
+    private long lastWriteNanos = System.nanoTime();
+    private ByteBuffer bytes = ByteBuffer.allocate(0);
+    private boolean closed;
+
+    public BufferedStdoutWriter(PrintStream out, Charset charset, int bufferSize, long flushIntervalMillis) {
+        this.out = out;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bufferSize = Math.max(1, bufferSize);
+        this.buffer = new char[this.bufferSize];
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushIntervalMillis));
+        this.flushTask = flushIntervalMillis<=0 ? null : FlushTask.schedule(this, flushIntervalMillis);
+    }
+
+    /**
+     * Create a writer for the current stdout, configured through the {@value #ENV_BUFFER_SIZE}
+     * and {@value #ENV_FLUSH_INTERVAL_MS} environment variables. If buffering has been disabled,
+     * this returns a plain {@link OutputStreamWriter} wrapping the current stdout.
+     */
+    public static final Writer create() {
+        var out = getCurrentOut();
+        int bufferSize = getEnvInt(ENV_BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+        return bufferSize<=0
+                ? new OutputStreamWriter(out)
+                : new BufferedStdoutWriter(out, Charset.defaultCharset(), bufferSize, getEnvInt(ENV_FLUSH_INTERVAL_MS, DEFAULT_FLUSH_INTERVAL_MS));
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            if ( closed ) { throw new IOException("Writer has been closed"); }
+            if ( count+len>buffer.length ) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length*2, count+len));
+            }
+            System.arraycopy(cbuf, off, buffer, count, len);
+            count += len;
+            if ( count>=bufferSize ) {
+                writeCompleteLines();
+            }
+        }
+    }
+
+    /**
+     * Write all buffered complete lines, unless data was written less than the configured
+     * flush interval ago, in which case the background flush task will write them once
+     * the flush interval has passed. Any incomplete last line stays buffered until it's
+     * completed or this writer is closed.
+     */
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            if ( !closed && System.nanoTime()-lastWriteNanos>=flushIntervalNanos ) {
+                writeCompleteLines();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if ( closed ) { return; }
+            closed = true;
+            if ( flushTask!=null ) { flushTask.cancel(); }
+            writeChars(count);
+            buffer = new char[0];
+            bytes = ByteBuffer.allocate(0);
+        }
+    }
+
+    private void writeCompleteLinesQuietly() {
+        synchronized (lock) {
+            if ( !closed ) { writeCompleteLines(); }
+        }
+    }
+
+    private void writeCompleteLines() {
+        for ( int i=count-1; i>=0; i-- ) {
+            if ( buffer[i]=='\n' ) {
+                writeChars(i+1);
+                return;
+            }
+        }
+    }
+
+    private void writeChars(int len) {
+        if ( len==0 ) { return; }
+        int maxBytes = (int)Math.ceil(len*(double)encoder.maxBytesPerChar());
+        if ( bytes.capacity()<maxBytes ) {
+            bytes = ByteBuffer.allocate(Math.max(maxBytes, (int)Math.ceil(bufferSize*(double)encoder.maxBytesPerChar())));
+        }
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(buffer, 0, len), bytes, true);
+        encoder.flush(bytes);
+        out.write(bytes.array(), 0, bytes.position());
+        out.flush();
+        lastWriteNanos = System.nanoTime();
+        System.arraycopy(buffer, len, buffer, 0, count-len);
+        count -= len;
+        if ( buffer.length>bufferSize && count<=bufferSize ) {
+            // Shrink buffer again after having buffered an exceptionally long line
+            buffer = Arrays.copyOf(buffer, bufferSize);
+        }
+    }
+
+    /**
+     * Resolve the stream that {@link System#out} currently delegates to for the current
+     * thread, so buffered data is written to the same (masking) stream when flushed from
+     * the background flush thread.
+     */
+    private static final PrintStream getCurrentOut() {
+        return System.out instanceof DelegatingPrintStream ? StdioHelper.currentOut() : System.out;
+    }
+
+    private static final int getEnvInt(String name, int defaultValue) {
+        return EnvHelper.envInteger(name, defaultValue);
+    }
+
+    private static final ScheduledThreadPoolExecutor createFlushExecutor() {
+        var result = new ScheduledThreadPoolExecutor(1, r -> {
+            var t = new Thread(r, "fcli-stdout-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+
+    /** Number of flush tasks currently scheduled; used by tests only. */
+    static final int getScheduledFlushTaskCount() {
+        return FLUSH_EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * Periodic flush task that only weakly references its writer, so writers that are
+     * never closed can still be garbage collected, after which this task cancels itself.
+     */
+    private static final class FlushTask implements Runnable {
+        private final WeakReference<BufferedStdoutWriter> writerRef;
+        private volatile ScheduledFuture<?> future;
+
+        private FlushTask(BufferedStdoutWriter writer) {
+            this.writerRef = new WeakReference<>(writer);
+        }
+
+        static final FlushTask schedule(BufferedStdoutWriter writer, long flushIntervalMillis) {
+            var result = new FlushTask(writer);
+            result.future = FLUSH_EXECUTOR.scheduleWithFixedDelay(result, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+            return result;
+        }
+
+        @Override
+        public void run() {
+            var writer = writerRef.get();
+            if ( writer==null ) {
+                cancel();
+            } else {
+                writer.writeCompleteLinesQuietly();
+            }
+        }
+
+        void cancel() {
+            var f = future;
+            if ( f!=null ) { f.cancel(false); }
+        }
+    }
+}
@@ -13,7 +13,6 @@
 package com.fortify.cli.common.output.writer.output.standard;
 
 import java.io.FileWriter;
-import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.function.Consumer;
 
@@ -32,6 +31,7 @@ import com.fortify.cli.common.output.writer.output.OutputRecordWriterFactory.Out
 import com.fortify.cli.common.output.writer.record.IRecordWriter;
 import com.fortify.cli.common.output.writer.record.RecordWriterFactory;
 import com.fortify.cli.common.output.writer.record.RecordWriterStyle;
+import com.fortify.cli.common.output.writer.record.impl.RecordWriterJson;
 import com.fortify.cli.common.output.writer.record.util.AppendOnCloseWriterWrapper;
 import com.fortify.cli.common.util.Break;
 import com.fortify.cli.common.variable.DefaultVariablePropertyName;
@@ -129,9 +129,14 @@ public class StandardOutputWriter implements IOutputWriter {
         private final IRecordWriter outputRecordWriter = createOutputRecordWriter();
         private final IRecordWriter rc = recordCollector;
         private final VariableRecordWriter variableRecordWriter = new VariableRecordWriter();
+        private final boolean shareSerializedRecords = isShareSerializedRecords();
 
         @Override
         public void append(ObjectNode record) {
+            if (shareSerializedRecords) {
+                appendSerialized(record);
+                return;
+            }
             if (outputRecordWriter != null) {
                 outputRecordWriter.append(record);
             }
@@ -143,6 +148,27 @@ public class StandardOutputWriter implements IOutputWriter {
             }
         }
 
+        /**
+         * If both output and variable contents are written as JSON using the same formatting,
+         * we format and serialize each record only once, writing the serialized record to both.
+         */
+        private void appendSerialized(ObjectNode record) {
+            var jsonOutputRecordWriter = (RecordWriterJson) outputRecordWriter;
+            var serializedRecord = jsonOutputRecordWriter.serialize(record);
+            jsonOutputRecordWriter.append(serializedRecord);
+            if (rc != null) {
+                rc.append(record);
+            }
+            ((RecordWriterJson) variableRecordWriter.getWrappedRecordWriter()).append(serializedRecord);
+        }
+
+        private boolean isShareSerializedRecords() {
+            return variableRecordWriter.isEnabled()
+                    && outputRecordWriter instanceof RecordWriterJson jsonOutputRecordWriter
+                    && variableRecordWriter.getWrappedRecordWriter() instanceof RecordWriterJson jsonVariableRecordWriter
+                    && jsonOutputRecordWriter.isSerializationCompatible(jsonVariableRecordWriter);
+        }
+
         @Override
         public void close() {
             if (outputRecordWriter != null) {
@@ -184,7 +210,7 @@ public class StandardOutputWriter implements IOutputWriter {
         private Writer createWriter() {
             var outputFile = outputOptions.getOutputFile();
             return outputFile == null
-                    ? new AppendOnCloseWriterWrapper("\n\n", new OutputStreamWriter(System.out))
+                    ? new AppendOnCloseWriterWrapper("\n\n", BufferedStdoutWriter.create())
                     : new FileWriter(outputFile);
         }
     }
@@ -46,7 +46,7 @@ public abstract class AbstractRecordWriter<T> implements IRecordWriter {
     
     @Override @SneakyThrows
     public final void append(ObjectNode record) {
-        var formattedRecord = getRecordFormatter(record).apply(record);
+        var formattedRecord = formatRecord(record);
         append(getOut(formattedRecord), formattedRecord);
     }
 
@@ -88,6 +88,10 @@ public abstract class AbstractRecordWriter<T> implements IRecordWriter {
         return new SelectedFieldsTransformer(getConfig().getArgs(), false)::transformObjectNode;
     }
     
+    protected final ObjectNode formatRecord(ObjectNode record) {
+        return getRecordFormatter(record).apply(record);
+    }
+    
     @SneakyThrows
     private final Function<ObjectNode, ObjectNode> getRecordFormatter(ObjectNode record) {
         if ( recordFormatter==null ) {
@@ -97,7 +101,7 @@ public abstract class AbstractRecordWriter<T> implements IRecordWriter {
     }
     
     @SneakyThrows
-    private final T getOut(ObjectNode formattedRecord) {
+    protected final T getOut(ObjectNode formattedRecord) {
         if ( out==null ) {
             out = createOut(getWriter(), formattedRecord);
         }
@@ -13,29 +13,39 @@
 package com.fortify.cli.common.output.writer.record.impl;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Objects;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.Separators;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 
 @RequiredArgsConstructor
 public class RecordWriterJson extends AbstractRecordWriterJackson<JsonGenerator> {
+    // Both are thread-safe and relatively expensive to create, so we share them between all writers
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+    private static final ObjectMapper CODEC = new ObjectMapper();
+    private static final int SERIALIZATION_BUFFER_SIZE = 8*1024;
     @Getter private final RecordWriterConfig config;
+    private StringWriter serializationBuffer;
+    private JsonGenerator serializationGenerator;
     
     @Override
     protected JsonGenerator createGenerator(Writer writer) throws IOException {
         PrettyPrinter pp = !config.getStyle().isPretty() ? null : new DefaultPrettyPrinter(); 
-        return JsonFactory.builder().
-            build().createGenerator(writer)
+        return JSON_FACTORY.createGenerator(writer)
             .setPrettyPrinter(pp)
-            .setCodec(new ObjectMapper());
+            .setCodec(CODEC);
     }
     
     @Override
@@ -47,4 +57,67 @@ public class RecordWriterJson extends AbstractRecordWriterJackson<JsonGenerator>
     protected void writeEnd(JsonGenerator out) throws IOException {
         if ( config.getStyle().isArray() ) { out.writeEndArray(); }
     }
+    
+    @Override
+    protected void close(JsonGenerator out) throws IOException {
+        super.close(out);
+        if ( serializationGenerator!=null ) { serializationGenerator.close(); }
+    }
+    
+    /**
+     * Format and serialize the given record, such that the serialized record can be
+     * appended to this writer and any other {@link #isSerializationCompatible(RecordWriterJson) 
+     * compatible} writers through {@link #append(SerializedRecord)}, without having to
+     * format and serialize the record for each writer. A single generator and pre-sized
+     * buffer are reused for serializing all records.
+     */
+    @SneakyThrows
+    public final SerializedRecord serialize(ObjectNode record) {
+        var formattedRecord = formatRecord(record);
+        var generator = getSerializationGenerator();
+        generator.writeTree(formattedRecord);
+        generator.flush();
+        var buffer = serializationBuffer.getBuffer();
+        var json = buffer.toString();
+        buffer.setLength(0);
+        return new SerializedRecord(formattedRecord, json);
+    }
+    
+    /**
+     * Append a record previously serialized by this writer or a compatible writer.
+     */
+    @SneakyThrows
+    public final void append(SerializedRecord serializedRecord) {
+        getOut(serializedRecord.formattedRecord()).writeRawValue(serializedRecord.json());
+    }
+    
+    /**
+     * Records serialized by this writer can be appended to the given writer if both
+     * writers format records in the same way. Records are serialized as root-level
+     * values, so this is not supported if either writer wraps records in an envelope.
+     */
+    public final boolean isSerializationCompatible(RecordWriterJson other) {
+        var style = config.getStyle();
+        var otherStyle = other.getConfig().getStyle();
+        return !style.isEnvelope() && !otherStyle.isEnvelope()
+                && style.isPretty()==otherStyle.isPretty()
+                && style.isFlat()==otherStyle.isFlat()
+                && Objects.equals(config.getArgs(), other.getConfig().getArgs());
+    }
+    
+    private JsonGenerator getSerializationGenerator() throws IOException {
+        if ( serializationGenerator==null ) {
+            serializationBuffer = new StringWriter(SERIALIZATION_BUFFER_SIZE);
+            serializationGenerator = JSON_FACTORY.createGenerator(serializationBuffer).setCodec(CODEC);
+            // Disable root value separators, as we serialize a single root value at a time
+            if ( config.getStyle().isPretty() ) {
+                serializationGenerator.setPrettyPrinter(new DefaultPrettyPrinter(new Separators().withRootSeparator(null)));
+            } else {
+                serializationGenerator.setRootValueSeparator(null);
+            }
+        }
+        return serializationGenerator;
+    }
+    
+    public static final record SerializedRecord(ObjectNode formattedRecord, String json) {}
 }
@@ -12,9 +12,16 @@
  */
 package com.fortify.cli.common.output.writer.record.impl;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,11 +41,13 @@ import com.github.freva.asciitable.OverflowBehaviour;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-@RequiredArgsConstructor
+@RequiredArgsConstructor @Slf4j
 public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.TableWriter> {
     @Getter private final RecordWriterConfig config;
     private static final int BATCH_SIZE = 100; // Row batch size for fast-output streaming
+    private static final int SPOOL_THRESHOLD = 1000; // Max rows kept in memory in no-fast-output mode; also used as segment size when rendering spooled rows
 
     @Override
     protected void append(TableWriter out, ObjectNode formattedRecord) throws IOException { out.append(formattedRecord); }
@@ -61,28 +70,46 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
         return new TableWriter(writer, headers);
     }
 
-    @RequiredArgsConstructor
+    /**
+     * Writes records as table. In fast-output mode, rows are output in batches, with column widths
+     * calculated from the first batch. Otherwise, column widths are calculated from all rows; to
+     * avoid having to keep all rows in memory, only column width statistics are maintained while
+     * any rows beyond {@link RecordWriterTable#SPOOL_THRESHOLD} are spooled to a temporary file,
+     * to be rendered in segments once all rows have been received.
+     */
     protected final class TableWriter implements Closeable {
         private final Writer writer;
         private final List<String> headers;
-        private final List<String[]> rows = new ArrayList<>();
+        private final int[] dataWidths; // Max content width per column for all rows seen so far
+        private final List<String[]> rows = new ArrayList<>(); // Current fast-output batch
+        private final RowSpool spool = new RowSpool(); // All rows in no-fast-output mode
         private int[] columnWidths; // Computed content widths (excluding padding)
         private long totalRowCount = 0;
+        private boolean firstSegment = true;
         private Character[] firstAndOnlySegmentBorders;
         private Character[] firstOfMultiSegmentBorders;
         private Character[] intermediateSegmentBorders;
         private Character[] lastSegmentBorders;
 
-        public void append(ObjectNode formattedRecord) {
-            rows.add(asColumnArray(formattedRecord));
+        public TableWriter(Writer writer, List<String> headers) {
+            this.writer = writer;
+            this.headers = headers;
+            this.dataWidths = new int[headers.size()];
+        }
+
+        public void append(ObjectNode formattedRecord) throws IOException {
+            var row = asColumnArray(formattedRecord);
+            updateDataWidths(row);
             totalRowCount++;
-            if ( config.getStyle().isFastOutput() ) {
-                if ( columnWidths==null && rows.size()==BATCH_SIZE ) { // First batch triggers width calculation & output
-                    columnWidths = calculateColumnWidths(rows);
-                    outputSegment(false);
-                    rows.clear();
-                } else if ( columnWidths!=null && rows.size()==BATCH_SIZE ) { // Subsequent full batch
-                    outputSegment(false);
+            if ( !config.getStyle().isFastOutput() ) {
+                spool.add(row);
+            } else {
+                rows.add(row);
+                if ( rows.size()==BATCH_SIZE ) {
+                    if ( columnWidths==null ) { // First batch triggers width calculation
+                        columnWidths = calculateColumnWidths(dataWidths);
+                    }
+                    outputSegment(rows, false);
                     rows.clear();
                 }
             }
@@ -95,41 +122,51 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
         private String getColumnValue(ObjectNode formattedRecord, String property) {
             var node = formattedRecord.get(property);
             if ( node==null || node.isNull() ) { return "N/A"; }
-            if ( node.isArray() ) {
-                return JsonHelper.stream((ArrayNode)node).map(n->n.asText()).collect(Collectors.joining(","));
+            var value = node.isArray()
+                    ? JsonHelper.stream((ArrayNode)node).map(n->n.asText()).collect(Collectors.joining(","))
+                    : node.asText();
+            return config.getStyle().isMarkdownBorder() ? escapeMarkdown(value) : value;
+        }
+
+        private void updateDataWidths(String[] row) {
+            for ( int i=0;i<row.length;i++ ) {
+                int w = maxLineLength(row[i]); if ( w>dataWidths[i] ) { dataWidths[i]=w; }
             }
-            return node.asText();
         }
 
         @Override
         public void close() throws IOException {
-            if ( columnWidths==null && !rows.isEmpty() ) { // no-fast-output or trailing partial batch
-                columnWidths = calculateColumnWidths(rows);
-            }
-            if ( rows.isEmpty() && totalRowCount==0 ) {
-                writer.write("No data\n");
-            } else if ( !rows.isEmpty() ) {
-                outputSegment(true);
+            try {
+                if ( totalRowCount==0 ) {
+                    writer.write("No data\n");
+                } else if ( config.getStyle().isFastOutput() ) {
+                    if ( columnWidths==null ) { columnWidths = calculateColumnWidths(dataWidths); } // Partial first batch
+                    if ( !rows.isEmpty() ) { outputSegment(rows, true); }
+                } else {
+                    columnWidths = calculateColumnWidths(dataWidths);
+                    spool.forEachSegment(this::outputSegment);
+                }
+                writer.flush();
+                writer.close();
+            } finally {
+                spool.close();
             }
-            writer.flush();
-            writer.close();
         }
 
-        private void outputSegment(boolean finalSegment) {
+        private void outputSegment(List<String[]> segmentRows, boolean finalSegment) {
             Character[] borders = determineSegmentBorders(finalSegment);
-            String table = asTable(borders, shouldIncludeHeadersForCurrentSegment());
-            if ( table.isEmpty() ) { return; }
+            boolean includeHeaders = firstSegment;
+            firstSegment = false;
             try {
-                writer.write(table);
-                writer.write('\n');
+                writeTable(borders, includeHeaders, segmentRows);
                 writer.flush();
             } catch ( IOException e ) {
                 throw new FcliTechnicalException("Error writing table segment", e);
             }
         }
 
-        private String asTable(Character[] borders, boolean includeHeaders) {
-            if ( rows.isEmpty() ) { return ""; }
+        private void writeTable(Character[] borders, boolean includeHeaders, List<String[]> segmentRows) throws IOException {
+            if ( segmentRows.isEmpty() ) { return; }
             Column[] columns = headers.stream().map(h -> {
                 Column col = new Column().dataAlign(HorizontalAlign.LEFT).headerAlign(HorizontalAlign.LEFT);
                 if ( includeHeaders && config.getStyle().withHeaders() ) { col.header(formatHeader(h)); }
@@ -140,18 +177,30 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
                 }
                 return col;
             }).toArray(Column[]::new);
-            String result = AsciiTable.getTable(borders, columns, rows.toArray(String[][]::new));
+            String table = AsciiTable.getTable(borders, columns, segmentRows.toArray(String[][]::new));
             if ( config.getStyle().isMarkdownBorder() ) {
-                result = result.replaceAll("(?m)^\\s+$", "").replaceAll("(?m)^\\n", "");
+                writeNonBlankLines(table);
+            } else if ( !table.isEmpty() ) {
+                writer.write(table);
+                writer.write('\n');
             }
-            return result;
         }
 
-        private boolean shouldIncludeHeadersForCurrentSegment() {
-            // In no-fast-output mode we output only once at close(), so always include headers.
-            if ( !config.getStyle().isFastOutput() ) { return true; }
-            // In fast-output mode, only include headers in the first segment (<= first batch size)
-            return totalRowCount <= BATCH_SIZE;
+        /**
+         * Markdown borders render the top, bottom and row separator lines as whitespace-only
+         * lines, which would break the markdown table, so we skip these.
+         */
+        private void writeNonBlankLines(String table) throws IOException {
+            int start=0, len=table.length();
+            for ( int i=0;i<=len;i++ ) {
+                if ( i==len || table.charAt(i)=='\n' ) {
+                    if ( !table.substring(start, i).isBlank() ) {
+                        writer.write(table, start, i-start);
+                        writer.write('\n');
+                    }
+                    start=i+1;
+                }
+            }
         }
 
         private Character[] determineSegmentBorders(boolean finalSegment) {
@@ -161,9 +210,7 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
                 intermediateSegmentBorders = createContinuationBorders(firstAndOnlySegmentBorders);
                 lastSegmentBorders = createFinalMultiSegmentBorders(firstAndOnlySegmentBorders);
             }
-            // For no-fast-output we always output a single segment, regardless of row count
-            if ( !config.getStyle().isFastOutput() ) { return firstAndOnlySegmentBorders; }
-            if ( totalRowCount <= BATCH_SIZE ) { return finalSegment ? firstAndOnlySegmentBorders : firstOfMultiSegmentBorders; }
+            if ( firstSegment ) { return finalSegment ? firstAndOnlySegmentBorders : firstOfMultiSegmentBorders; }
             return finalSegment ? lastSegmentBorders : intermediateSegmentBorders;
         }
 
@@ -186,14 +233,8 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
             return modified;
         }
 
-        private int[] calculateColumnWidths(List<String[]> sampleRows) {
+        private int[] calculateColumnWidths(int[] dataWidths) {
             int cols = headers.size();
-            int[] dataWidths = new int[cols];
-            for ( var row : sampleRows ) {
-                for ( int i=0;i<row.length;i++ ) {
-                    int w = maxLineLength(row[i]); if ( w>dataWidths[i] ) { dataWidths[i]=w; }
-                }
-            }
             int[] headerWidths = headers.stream().mapToInt(h->maxLineLength(formatHeader(h))).toArray();
             int[] minWidths = new int[cols];
             int[] maxWidths = new int[cols];
@@ -237,6 +278,10 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
             return max;
         }
         private String formatHeader(String header) { return header.startsWith("_.") ? "" : header; }
+        private String escapeMarkdown(String value) {
+            if ( value.indexOf('|')<0 && value.indexOf('\n')<0 ) { return value; }
+            return value.replace("|", "\\|").replace("\r\n", "<br>").replace("\n", "<br>");
+        }
         private Character[] getBorders() {
             var style = config.getStyle();
             if ( style.isMarkdownBorder() ) { return "    ||||-|||||               ".chars().mapToObj(c->(char)c).toArray(Character[]::new); }
@@ -244,4 +289,91 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
             return AsciiTable.NO_BORDERS;
         }
     }
+
+    /**
+     * Stores table rows in memory, spooling all rows to a temporary file once the number
+     * of rows exceeds {@link RecordWriterTable#SPOOL_THRESHOLD}.
+     */
+    private static final class RowSpool implements Closeable {
+        private final List<String[]> rows = new ArrayList<>();
+        private Path file;
+        private DataOutputStream out;
+        private long spooledRowCount;
+
+        public void add(String[] row) throws IOException {
+            if ( out==null && rows.size()<SPOOL_THRESHOLD ) {
+                rows.add(row);
+                return;
+            }
+            if ( out==null ) {
+                file = Files.createTempFile("fcli-table-", ".tmp");
+                log.debug("Spooling table rows to {}", file);
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+                for ( var r : rows ) { writeRow(r); }
+                rows.clear();
+            }
+            writeRow(row);
+        }
+
+        /**
+         * Pass all rows to the given consumer in segments of at most {@link RecordWriterTable#SPOOL_THRESHOLD}
+         * rows. Rows that weren't spooled are passed as a single segment, to render these as a single table.
+         */
+        public void forEachSegment(SegmentConsumer consumer) throws IOException {
+            if ( out==null ) {
+                if ( !rows.isEmpty() ) { consumer.accept(rows, true); }
+                return;
+            }
+            out.close();
+            try ( var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))) ) {
+                var segment = new ArrayList<String[]>(SPOOL_THRESHOLD);
+                for ( long i=0; i<spooledRowCount; i++ ) {
+                    segment.add(readRow(in));
+                    if ( segment.size()==SPOOL_THRESHOLD || i==spooledRowCount-1 ) {
+                        consumer.accept(segment, i==spooledRowCount-1);
+                        segment.clear();
+                    }
+                }
+            }
+        }
+
+        private void writeRow(String[] row) throws IOException {
+            out.writeInt(row.length);
+            for ( var value : row ) {
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            spooledRowCount++;
+        }
+
+        private static String[] readRow(DataInputStream in) throws IOException {
+            var row = new String[in.readInt()];
+            for ( int i=0; i<row.length; i++ ) {
+                var bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                row[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return row;
+        }
+
+        @Override
+        public void close() {
+            rows.clear();
+            if ( file!=null ) {
+                try {
+                    out.close();
+                    Files.deleteIfExists(file);
+                } catch ( IOException e ) {
+                    log.debug("Error deleting table spool file {}", file, e);
+                }
+                file = null;
+            }
+        }
+
+        @FunctionalInterface
+        private static interface SegmentConsumer {
+            void accept(List<String[]> segmentRows, boolean finalSegment);
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable Aho-Corasick automaton for finding all occurrences of a set of literal
+ * strings in a single pass over the input, independent of the number of literals.
+ * Instances are immutable once constructed, and can thus safely be shared between
+ * threads without synchronization.
+ */
+final class AhoCorasickMatcher {
+    private static final int[] NO_OUTPUT = new int[0];
+    static final AhoCorasickMatcher EMPTY = new AhoCorasickMatcher(List.of());
+    private final Node root = new Node();
+    private final boolean empty;
+
+    AhoCorasickMatcher(Collection<String> literals) {
+        boolean hasLiterals = false;
+        for ( var literal : literals ) {
+            if ( literal!=null && !literal.isEmpty() ) {
+                addLiteral(literal);
+                hasLiterals = true;
+            }
+        }
+        this.empty = !hasLiterals;
+        buildFailureLinks();
+    }
+
+    /**
+     * Find all literal occurrences in the given input. The returned list contains 
+     * one entry for each start position at which any of the literals occurs, holding 
+     * the end position of the longest literal starting at that position, ordered by 
+     * start position.
+     */
+    final List<Match> findLongestPerStart(String input) {
+        if ( empty ) { return List.of(); }
+        Map<Integer, Integer> endByStart = null;
+        var node = root;
+        for ( int i=0; i<input.length(); i++ ) {
+            var c = input.charAt(i);
+            while ( node!=root && !node.next.containsKey(c) ) { node = node.fail; }
+            node = node.next.getOrDefault(c, root);
+            for ( var length : node.outputLengths ) {
+                if ( endByStart==null ) { endByStart = new HashMap<>(); }
+                endByStart.merge(i+1-length, i+1, Math::max);
+            }
+        }
+        if ( endByStart==null ) { return List.of(); }
+        var result = new ArrayList<Match>(endByStart.size());
+        endByStart.forEach((start, end)->result.add(new Match(start, end)));
+        result.sort((m1, m2)->Integer.compare(m1.start(), m2.start()));
+        return result;
+    }
+
+    private final void addLiteral(String literal) {
+        var node = root;
+        for ( int i=0; i<literal.length(); i++ ) {
+            node = node.next.computeIfAbsent(literal.charAt(i), c->new Node());
+        }
+        node.length = literal.length();
+    }
+
+    /**
+     * Compute failure links in breadth-first order, and collect the lengths of all
+     * literals ending at each node, including literals that are a suffix of the
+     * literal represented by that node.
+     */
+    private final void buildFailureLinks() {
+        var queue = new ArrayDeque<Node>();
+        root.fail = root;
+        root.outputLengths = NO_OUTPUT;
+        for ( var child : root.next.values() ) {
+            child.fail = root;
+            child.outputLengths = child.length>0 ? new int[] {child.length} : NO_OUTPUT;
+            queue.add(child);
+        }
+        while ( !queue.isEmpty() ) {
+            var node = queue.poll();
+            for ( var entry : node.next.entrySet() ) {
+                var c = entry.getKey();
+                var child = entry.getValue();
+                var fail = node.fail;
+                while ( fail!=root && !fail.next.containsKey(c) ) { fail = fail.fail; }
+                child.fail = fail.next.getOrDefault(c, root);
+                child.outputLengths = child.length>0 
+                        ? append(child.fail.outputLengths, child.length) 
+                        : child.fail.outputLengths;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static final int[] append(int[] array, int value) {
+        var result = Arrays.copyOf(array, array.length+1);
+        result[array.length] = value;
+        return result;
+    }
+
+    static final record Match(int start, int end) {}
+
+    private static final class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private Node fail;
+        private int length;
+        private int[] outputLengths;
+    }
+}
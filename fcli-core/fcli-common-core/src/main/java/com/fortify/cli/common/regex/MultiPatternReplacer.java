@@ -12,13 +12,13 @@
  */
 package com.fortify.cli.common.regex;
 
-import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 import java.util.function.BiConsumer;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,18 +31,22 @@ import com.fortify.cli.common.exception.FcliBugException;
  * hence there's currently no functionality for unregistering a given value or pattern, although that
  * shouldn't be too difficult to implement if needed.</p>
  * 
- * <p>Based on the configured values and replacement patterns, this class builds one long OR-based regular
- * expression that is then matched against the input string, replacing every matching substring with a
- * corresponding replacement value. This is loosely based on 
- * https://medium.com/@josemarmolejos/using-a-list-of-patterns-to-apply-multiple-regex-replacements-on-a-string-ec16dd5290e4</p>
+ * <p>Registered values are matched as literals using an Aho-Corasick automaton, finding all occurrences
+ * of all registered values in a single pass over the input string. Registered patterns are matched
+ * separately, each using their own pre-compiled regular expression. The input string is then processed
+ * from left to right, each time replacing the left-most match (preferring the longest match if multiple
+ * values or patterns match at the same position) and continuing after the end of that match.</p>
+ * 
+ * <p>All registered values and patterns are held in an immutable state object that is replaced on every 
+ * registration (copy-on-write). As such, {@link #applyReplacements(String)} doesn't require any locking,
+ * allowing multiple threads to apply replacements concurrently. Registrations are serialized, but only
+ * rebuild the literal automaton if a new value is registered; patterns are never recompiled, and
+ * re-registering an existing value with the same replacement is a no-op.</p>
  *
  * @author Ruud Senden
  */
 public final class MultiPatternReplacer {
-    private final Set<String> globalMatchPatterns = new HashSet<>();
-    private Pattern globalMatchPattern = null;
-    private final Map<String,String> valuesToReplace = new HashMap<>();
-    private final Map<Pattern, String> patternsToReplace = new HashMap<>();
+    private volatile State state = State.EMPTY;
     
     /**
      * Register a value to be replaced, together with the replacement string. If the given
@@ -50,13 +54,23 @@ public final class MultiPatternReplacer {
      * value.
      */
     public synchronized final MultiPatternReplacer registerValue(String valueToReplace, String replacement) {
-        valuesToReplace.put(valueToReplace, replacement);
-        registerGlobalMatchPattern(Pattern.quote(valueToReplace));
+        if ( valueToReplace==null || valueToReplace.isEmpty() ) { return this; }
+        var current = state;
+        var isExistingValue = current.valuesToReplace.containsKey(valueToReplace);
+        if ( !isExistingValue || !Objects.equals(current.valuesToReplace.get(valueToReplace), replacement) ) {
+            var valuesToReplace = new HashMap<>(current.valuesToReplace);
+            valuesToReplace.put(valueToReplace, replacement);
+            // Only rebuild automaton if the set of values to replace has changed
+            var literalMatcher = isExistingValue
+                    ? current.literalMatcher
+                    : new AhoCorasickMatcher(valuesToReplace.keySet());
+            state = new State(Collections.unmodifiableMap(valuesToReplace), literalMatcher, current.patternsToReplace);
+        }
         return this;
     }
     
     /**
-     * <p>Register a regular expression pattern to search for in a given input string. If the pattern
+     * <p>Register a pattern to be replaced, together with a default replacement string. If the pattern
      * contains one or more capturing groups, each matching capturing group will be considered as 
      * a value to be replaced. If the pattern doesn't contain any capturing groups, the full substring
      * that matches the pattern will be considered as the value to be replaced.</p>
@@ -78,26 +92,25 @@ public final class MultiPatternReplacer {
      * replaced.</p>
      */
     public synchronized final MultiPatternReplacer registerPattern(String patternString, String defaultReplacement) {
-        patternsToReplace.put(Pattern.compile(patternString), defaultReplacement);
-        registerGlobalMatchPattern(patternString);
+        var current = state;
+        var patternsToReplace = new ArrayList<PatternReplacement>(current.patternsToReplace.size()+1);
+        for ( var existing : current.patternsToReplace ) {
+            // Replace default replacement for previously registered pattern with same pattern string
+            if ( !existing.patternString().equals(patternString) ) { patternsToReplace.add(existing); }
+        }
+        patternsToReplace.add(new PatternReplacement(patternString, 
+                Pattern.compile(patternString, Pattern.MULTILINE), // TODO Make flags configurable? 
+                Pattern.compile(patternString), defaultReplacement));
+        state = new State(current.valuesToReplace, current.literalMatcher, List.copyOf(patternsToReplace));
         return this;
     }
-    
-    /**
-     * Add the given pattern string to the global match pattern, allowing us to perform all replacement
-     * operations using a single pattern matching operation.
-     */
-    private synchronized final void registerGlobalMatchPattern(String patternString) {
-        globalMatchPatterns.add(patternString);
-        globalMatchPattern = Pattern.compile(String.join("|", globalMatchPatterns), Pattern.MULTILINE); // TODO Make flags configurable?
-    }
 
     /**
      * Apply the registered replacements on the give value. This simply calls {@link #applyReplacements(String, BiConsumer)}
      * with our own {@link #registerValue(String, String)} method, to have any values identified by
      * patterns to be registered for replacement in future input strings. 
      */
-    public synchronized final String applyReplacements(String value) {
+    public final String applyReplacements(String value) {
         return applyReplacements(value, this::registerValue);
     }
     
@@ -114,25 +127,47 @@ public final class MultiPatternReplacer {
      *      future input strings.</li>
      * </ul>
      */
-    public synchronized final String applyReplacements(String value, BiConsumer<String,String> replacementValueConsumer) {
-        if ( globalMatchPattern==null ) { return value; }
-        return globalMatchPattern.matcher(value).replaceAll(mr->applyReplacement(mr, replacementValueConsumer));
-    }
-    
-    /**
-     * This method is invoked for each substring in the given input string that matches any of the
-     * registered values or patterns. We retrieve the matching substring through {@link MatchResult#group()}.
-     * If it matches any of the registered values, we return the corresponding replacement value, otherwise we
-     * apply pattern-based (group) replacements on the matching substring. Given that the return value of this
-     * method is used in {@link Matcher#replaceAll(java.util.function.Function)}, the return value must be
-     * quoted in order to apply the replacement as-is, without backslashes or dollar signs being interpreted
-     * by the regex engine.
-     */
-    private synchronized final String applyReplacement(MatchResult mr, BiConsumer<String,String> replacementValueConsumer) {
-        var matchingValue = mr.group();
-        var result = valuesToReplace.get(matchingValue);
-        if ( result == null ) { result = applyGroupReplacements(matchingValue, replacementValueConsumer); }
-        return Matcher.quoteReplacement(result);
+    public final String applyReplacements(String value, BiConsumer<String,String> replacementValueConsumer) {
+        var current = state;
+        if ( value==null || current.isEmpty() ) { return value; }
+        var literalMatches = current.literalMatcher.findLongestPerStart(value);
+        var patternMatchers = current.createPatternMatchers(value);
+        if ( literalMatches.isEmpty() && patternMatchers.isEmpty() ) { return value; }
+        StringBuilder sb = null;
+        int pos = 0, literalIndex = 0;
+        while ( pos < value.length() ) {
+            while ( literalIndex < literalMatches.size() && literalMatches.get(literalIndex).start() < pos ) { literalIndex++; }
+            int bestStart = Integer.MAX_VALUE, bestEnd = -1;
+            PatternMatcher bestPatternMatcher = null;
+            if ( literalIndex < literalMatches.size() ) {
+                var literalMatch = literalMatches.get(literalIndex);
+                bestStart = literalMatch.start();
+                bestEnd = literalMatch.end();
+            }
+            for ( var patternMatcher : patternMatchers ) {
+                if ( patternMatcher.advance(pos) ) {
+                    var start = patternMatcher.start();
+                    var end = patternMatcher.end();
+                    if ( start < bestStart || (start==bestStart && end > bestEnd) ) {
+                        bestStart = start;
+                        bestEnd = end;
+                        bestPatternMatcher = patternMatcher;
+                    }
+                }
+            }
+            if ( bestEnd < 0 ) { break; }
+            if ( sb==null ) { sb = new StringBuilder(value.length()); }
+            var matchingValue = value.substring(bestStart, bestEnd);
+            var replacement = current.valuesToReplace.get(matchingValue);
+            if ( replacement==null ) {
+                replacement = bestPatternMatcher==null 
+                        ? matchingValue // Shouldn't happen, as literal matches always have a corresponding value 
+                        : applyGroupReplacements(current, bestPatternMatcher.patternReplacement, matchingValue, replacementValueConsumer);
+            }
+            sb.append(value, pos, bestStart).append(replacement);
+            pos = bestEnd;
+        }
+        return sb==null ? value : sb.append(value, pos, value.length()).toString();
     }
     
     /**
@@ -144,17 +179,18 @@ public final class MultiPatternReplacer {
      * value. Each capturing group value is also passed to the given replacement value consumer, to allow
      * each capturing group value to be considered for replacement in future input messages.
      */
-    private synchronized String applyGroupReplacements(String value, BiConsumer<String,String> replacementValueConsumer) {
-        var entry = findMatchingMatcher(value);
-        var matcher = entry.getKey();
-        var defaultReplacement = entry.getValue();
+    private String applyGroupReplacements(State current, PatternReplacement patternReplacement, String value, BiConsumer<String,String> replacementValueConsumer) {
+        var matchingPatternReplacement = findMatchingPatternReplacement(current, patternReplacement, value);
+        var matcher = matchingPatternReplacement.matcher();
+        var defaultReplacement = matchingPatternReplacement.patternReplacement().defaultReplacement();
         if ( matcher.groupCount()==0 ) {
-            return valuesToReplace.getOrDefault(value, defaultReplacement);
+            return state.valuesToReplace.getOrDefault(value, defaultReplacement);
         } else {
             StringBuilder sb = new StringBuilder(value);
             for ( var i = 1 ; i <= matcher.groupCount() ; i++ ) {
                 var groupValue = matcher.group(i);
-                var replacement = valuesToReplace.getOrDefault(groupValue, defaultReplacement);
+                // Read current state, as values may have been registered by the consumer for previous groups
+                var replacement = state.valuesToReplace.getOrDefault(groupValue, defaultReplacement);
                 sb.replace(matcher.start(i), matcher.end(i), replacement);
                 replacementValueConsumer.accept(groupValue, replacement); // Replace value on future calls
             }
@@ -163,17 +199,87 @@ public final class MultiPatternReplacer {
     }
     
     /**
-     * This method iterates over all registered patterns to find a pattern that exactly matches
-     * the given value. If no matching pattern is found, an {@link FcliBugException} will be 
-     * thrown as we should always be able to find a matching pattern. 
+     * This method returns a matcher for the pattern that exactly matches the given value, starting with
+     * the pattern that found the given value in the input string. If no matching pattern is found, an 
+     * {@link FcliBugException} will be thrown as we should always be able to find a matching pattern. 
      */
-    private synchronized final Map.Entry<Matcher, String> findMatchingMatcher(String value) {
-        for ( var entry : patternsToReplace.entrySet() ) {
-            var matcher = entry.getKey().matcher(value);
+    private final MatchingPatternReplacement findMatchingPatternReplacement(State current, PatternReplacement preferred, String value) {
+        var matcher = preferred.matchPattern().matcher(value);
+        if ( matcher.matches() ) { return new MatchingPatternReplacement(preferred, matcher); }
+        for ( var patternReplacement : current.patternsToReplace ) {
+            matcher = patternReplacement.matchPattern().matcher(value);
             if ( matcher.matches() ) {
-                return new AbstractMap.SimpleEntry<>(matcher, entry.getValue());
+                return new MatchingPatternReplacement(patternReplacement, matcher);
             }
         }
         throw new FcliBugException("Can't find pattern that matches "+value);
     }
+    
+    /**
+     * Immutable snapshot of all registered values and patterns.
+     */
+    private static final record State(Map<String,String> valuesToReplace, AhoCorasickMatcher literalMatcher, List<PatternReplacement> patternsToReplace) {
+        private static final State EMPTY = new State(Map.of(), AhoCorasickMatcher.EMPTY, List.of());
+        
+        private final boolean isEmpty() {
+            return valuesToReplace.isEmpty() && patternsToReplace.isEmpty();
+        }
+        
+        private final List<PatternMatcher> createPatternMatchers(String value) {
+            if ( patternsToReplace.isEmpty() ) { return List.of(); }
+            var result = new ArrayList<PatternMatcher>(patternsToReplace.size());
+            for ( var patternReplacement : patternsToReplace ) {
+                var patternMatcher = new PatternMatcher(patternReplacement, value);
+                if ( patternMatcher.advance(0) ) { result.add(patternMatcher); }
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Registered pattern, holding the pattern used for finding matches in input strings, the
+     * pattern used for matching capturing groups against the matching substring, and the
+     * default replacement value.
+     */
+    private static final record PatternReplacement(String patternString, Pattern findPattern, Pattern matchPattern, String defaultReplacement) {}
+    
+    private static final record MatchingPatternReplacement(PatternReplacement patternReplacement, Matcher matcher) {}
+    
+    /**
+     * Tracks the next (non-empty) match of a single pattern in an input string.
+     */
+    private static final class PatternMatcher {
+        private final PatternReplacement patternReplacement;
+        private final Matcher matcher;
+        private boolean hasMatch = true;
+        private int start = -1, end = -1;
+        
+        private PatternMatcher(PatternReplacement patternReplacement, String value) {
+            this.patternReplacement = patternReplacement;
+            this.matcher = patternReplacement.findPattern().matcher(value);
+        }
+        
+        /**
+         * Make sure the current match starts at or after the given position, returning
+         * false if there are no further matches.
+         */
+        private boolean advance(int pos) {
+            if ( !hasMatch ) { return false; }
+            if ( start >= pos ) { return true; }
+            int from = pos;
+            while ( from <= matcher.regionEnd() && matcher.find(from) ) {
+                if ( matcher.end() > matcher.start() ) {
+                    start = matcher.start();
+                    end = matcher.end();
+                    return true;
+                }
+                from = matcher.start()+1; // Skip empty matches
+            }
+            hasMatch = false;
+            return false;
+        }
+        
+        private int start() { return start; }
+        private int end() { return end; }
+    }
 }
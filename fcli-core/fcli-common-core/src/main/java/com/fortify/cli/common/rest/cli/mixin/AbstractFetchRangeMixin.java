@@ -12,16 +12,32 @@
  */
 package com.fortify.cli.common.rest.cli.mixin;
 
+import com.fortify.cli.common.cli.mixin.CommandHelperMixin;
+import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
 import com.fortify.cli.common.exception.FcliBugException;
 import com.fortify.cli.common.rest.paging.FetchRange;
 import com.fortify.cli.common.rest.paging.FetchRangeConverter;
+import com.fortify.cli.common.rest.paging.IClientSideFetchRangeSupplier;
 import com.fortify.cli.common.rest.paging.IPagingSuppressor;
 import com.fortify.cli.common.rest.unirest.IHttpRequestUpdater;
+import com.fortify.cli.common.spel.query.IQueryPushdownSupplier;
 
 import kong.unirest.HttpRequest;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 
-public abstract class AbstractFetchRangeMixin implements IHttpRequestUpdater, IPagingSuppressor {
+/**
+ * Base class for mixins providing the --fetch option. If no query expression was specified,
+ * or if the query expression was fully pushed down to the server (see {@link IQueryPushdownSupplier}),
+ * the fetch range is applied server-side through product-specific request parameters, and
+ * paging is suppressed. Otherwise, server-side offset and limit would be applied before
+ * client-side filtering, so instead the fetch range is applied client-side to the records
+ * that match the query expression, through {@link IClientSideFetchRangeSupplier}.
+ */
+@Command
+public abstract class AbstractFetchRangeMixin implements IHttpRequestUpdater, IPagingSuppressor, IClientSideFetchRangeSupplier {
+    @Mixin private CommandHelperMixin commandHelper;
     @Option(names = "--fetch", paramLabel = "<fetch-range>",
             converter = FetchRangeConverter.class)
     private FetchRange fetchRange;
@@ -32,7 +48,12 @@ public abstract class AbstractFetchRangeMixin implements IHttpRequestUpdater, IP
 
     @Override
     public final boolean isPagingSuppressed() {
-        return fetchRange != null;
+        return fetchRange != null && isServerSideFetchRange();
+    }
+    
+    @Override
+    public final FetchRange getClientSideFetchRange() {
+        return fetchRange == null || isServerSideFetchRange() ? null : fetchRange;
     }
 
     @Override
@@ -40,11 +61,20 @@ public abstract class AbstractFetchRangeMixin implements IHttpRequestUpdater, IP
         // We always assert to catch any erraneous paging params early,
         // even if fetchRange is not specified
         assertNoExistingPagingParams(request);
-        if ( fetchRange == null ) { return request; }
+        if ( fetchRange == null || !isServerSideFetchRange() ) { return request; }
         return applyFetchParams(request, fetchRange);
     }
 
     protected abstract HttpRequest<?> applyFetchParams(HttpRequest<?> request, FetchRange range);
+    
+    private boolean isServerSideFetchRange() {
+        var spec = commandHelper.getCommandSpec();
+        var queryExpression = FcliCommandSpecHelper.getQueryExpression(spec).orElse(null);
+        return queryExpression==null || FcliCommandSpecHelper.getAllUserObjectsStream(spec)
+                .filter(IQueryPushdownSupplier.class::isInstance)
+                .map(o->((IQueryPushdownSupplier)o).getQueryPushdown())
+                .anyMatch(p->p.isFor(queryExpression) && p.isFullyPushedDown());
+    }
 
     private void assertNoExistingPagingParams(HttpRequest<?> request) {
         var url = request.getUrl();
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+/**
+ * Interface for supplying a {@link FetchRange} that needs to be applied client-side, 
+ * for example because the server returns records that still need to be filtered
+ * client-side, in which case server-side offset and limit would select the wrong
+ * records.
+ */
+public interface IClientSideFetchRangeSupplier {
+    /**
+     * @return {@link FetchRange} to be applied client-side, or null if not applicable
+     */
+    FetchRange getClientSideFetchRange();
+}
@@ -107,9 +107,24 @@ public class PagingHelper {
      * @param processor Function that returns Break.TRUE to stop, Break.FALSE to continue
      */
     public static final void processPagesWithBreak(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, Function<HttpResponse<JsonNode>, Break> processor) {
+        processPagesWithBreak(initialRequest, nextPageRequestProducer, r->r.asObject(JsonNode.class), processor);
+    }
+    
+    /**
+     * Process pages with Break support, using the given page loader to execute each page request.
+     * This allows callers to customize response handling, for example to parse responses in a
+     * streaming fashion, as long as the page loader returns a response that can be passed to the
+     * given {@link INextPageRequestProducer}.
+     * 
+     * @param initialRequest Initial request to start pagination
+     * @param nextPageRequestProducer Producer for generating next page requests
+     * @param pageLoader Function for executing a page request
+     * @param processor Function that returns Break.TRUE to stop, Break.FALSE to continue
+     */
+    public static final void processPagesWithBreak(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, Function<HttpRequest<?>, HttpResponse<JsonNode>> pageLoader, Function<HttpResponse<JsonNode>, Break> processor) {
         var currentRequest = initialRequest;
         while ( currentRequest!=null ) {
-            HttpResponse<JsonNode> response = currentRequest.asObject(JsonNode.class);
+            HttpResponse<JsonNode> response = pageLoader.apply(currentRequest);
             if ( processor.apply(response).doBreak() ) {
                 break;
             }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.util.Break;
+import com.fortify.cli.common.util.EnvHelper;
+
+import kong.unirest.HttpRequest;
+import kong.unirest.HttpResponse;
+
+/**
+ * Bounded read-ahead pager. Pages are loaded sequentially on a background thread, so
+ * the next page(s) can be loaded while the current page is being processed by the
+ * caller. As next page requests are usually derived from the current response (next
+ * link, offset, ...), pages are always loaded in order by a single fetcher; the caller
+ * receives them in that same order, so record order is preserved.
+ * <p>
+ * Memory usage is bounded by {@code maxPagesAhead}: at most that many pages are loaded
+ * but not yet processed, in addition to the page currently being processed. Once the
+ * processor returns {@link Break#TRUE}, the fetcher is cancelled and no further pages
+ * are requested.
+ * <p>
+ * Read-ahead is opt-in; callers either pass an explicit number of pages to read ahead,
+ * or use {@link #getConfiguredPagesAhead()} to use the value configured through the
+ * {@value #ENV_READ_AHEAD_PAGES} environment variable. A value of zero disables
+ * read-ahead, in which case pages are processed through
+ * {@link PagingHelper#processPagesWithBreak(HttpRequest, INextPageRequestProducer, Function)}.
+ */
+public final class ReadAheadPager {
+    public static final String ENV_READ_AHEAD_PAGES = "FCLI_PAGING_READ_AHEAD";
+    private static final ExecutorService FETCH_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        var t = new Thread(r, "fcli-paging-read-ahead");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final Page END = new Page(null, null);
+    private final HttpRequest<?> initialRequest;
+    private final INextPageRequestProducer nextPageRequestProducer;
+    private final BlockingQueue<Page> pages = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private volatile boolean cancelled;
+
+    private ReadAheadPager(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, int maxPagesAhead) {
+        this.initialRequest = initialRequest;
+        this.nextPageRequestProducer = nextPageRequestProducer;
+        // One permit for the page currently being processed, plus one for each read-ahead page
+        this.permits = new Semaphore(maxPagesAhead+1);
+    }
+
+    /**
+     * Get the number of pages to read ahead as configured through the {@value #ENV_READ_AHEAD_PAGES}
+     * environment variable, returning 0 (read-ahead disabled) if not configured.
+     */
+    public static final int getConfiguredPagesAhead() {
+        return Math.max(0, EnvHelper.envInteger(ENV_READ_AHEAD_PAGES, 0));
+    }
+
+    /**
+     * Process pages with Break support, loading up to {@code maxPagesAhead} pages in the
+     * background while the current page is being processed.
+     *
+     * @param initialRequest Initial request to start pagination
+     * @param nextPageRequestProducer Producer for generating next page requests
+     * @param maxPagesAhead Maximum number of pages to load ahead of the page currently being processed; 0 disables read-ahead
+     * @param processor Function that returns Break.TRUE to stop, Break.FALSE to continue
+     */
+    public static final void processPagesWithBreak(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, int maxPagesAhead, Function<HttpResponse<JsonNode>, Break> processor) {
+        if ( maxPagesAhead<1 ) {
+            PagingHelper.processPagesWithBreak(initialRequest, nextPageRequestProducer, processor);
+        } else {
+            new ReadAheadPager(initialRequest, nextPageRequestProducer, maxPagesAhead).process(processor);
+        }
+    }
+
+    private void process(Function<HttpResponse<JsonNode>, Break> processor) {
+        var parentContext = FcliExecutionContextHolder.tryCurrentContext();
+        Future<?> fetcher = FETCH_EXECUTOR.submit(() -> {
+            if ( parentContext==null ) {
+                fetchPages();
+            } else {
+                try ( var frame = FcliExecutionContextHolder.push(parentContext.createChild()) ) {
+                    fetchPages();
+                }
+            }
+        });
+        try {
+            while ( true ) {
+                var page = takePage();
+                if ( page.failure()!=null ) { throw asUnchecked(page.failure()); }
+                if ( page==END ) { break; }
+                // Only release the permit if we continue; this avoids the fetcher
+                // loading another page before being cancelled.
+                if ( processor.apply(page.response()).doBreak() ) { break; }
+                permits.release();
+            }
+        } finally {
+            cancelled = true;
+            fetcher.cancel(true);
+            pages.clear();
+        }
+    }
+
+    private void fetchPages() {
+        try {
+            var currentRequest = initialRequest;
+            while ( currentRequest!=null ) {
+                permits.acquire();
+                if ( cancelled ) { return; }
+                HttpResponse<JsonNode> response = currentRequest.asObject(JsonNode.class);
+                pages.add(new Page(response, null));
+                currentRequest = nextPageRequestProducer.getNextPageRequest(initialRequest, response);
+            }
+            pages.add(END);
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        } catch ( Throwable t ) {
+            if ( !cancelled ) { pages.add(new Page(null, t)); }
+        }
+    }
+
+    private Page takePage() {
+        try {
+            return pages.take();
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Interrupted while waiting for next page", e);
+        }
+    }
+
+    private static RuntimeException asUnchecked(Throwable t) {
+        if ( t instanceof RuntimeException re ) { return re; }
+        if ( t instanceof Error e ) { throw e; }
+        return new FcliTechnicalException("Error loading next page", t);
+    }
+
+    private static record Page(HttpResponse<JsonNode> response, Throwable failure) {}
+}
@@ -12,6 +12,8 @@
  */
 package com.fortify.cli.common.rest.query.cli.mixin;
 
+import java.util.Objects;
+
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,33 +22,39 @@ import org.springframework.expression.Expression;
 import com.fortify.cli.common.cli.mixin.CommandHelperMixin;
 import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamGeneratorSupplier;
+import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
 import com.fortify.cli.common.rest.unirest.IHttpRequestUpdater;
+import com.fortify.cli.common.spel.query.IQueryPushdownSupplier;
+import com.fortify.cli.common.spel.query.IQueryPushdownTranslator;
 import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryPushdown;
 
 import kong.unirest.HttpRequest;
 import lombok.Getter;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Mixin;
 
+/**
+ * Base class for mixins that add a server-side query parameter to requests. The parameter
+ * value is either taken from an explicit option, or generated from the current query 
+ * expression through the {@link IServerSideQueryParamValueGenerator} provided by the 
+ * command. If that generator also implements {@link IQueryPushdownTranslator}, this
+ * mixin's {@link QueryPushdown} allows for skipping client-side evaluation of any 
+ * query conditions that have been fully handled server-side. As this {@link QueryPushdown}
+ * is requested for every page request, it's computed only once for the current query
+ * expression and server-side query parameter option value.
+ */
 @Command
-public abstract class AbstractServerSideQueryMixin implements IHttpRequestUpdater {
+public abstract class AbstractServerSideQueryMixin implements IHttpRequestUpdater, IQueryPushdownSupplier {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractServerSideQueryMixin.class);
     @Getter @Mixin private CommandHelperMixin commandHelper;
+    private QueryPushdown queryPushdown;
+    private String queryPushdownOptionValue;
     
     @Override
     public final HttpRequest<?> updateRequest(HttpRequest<?> request) {
-        String serverSideQueryParamValue = getServerSideQueryParamOptionValue();
+        String serverSideQueryParamValue = getQueryPushdown().getServerSideQueryParamValue();
         String serverSidequeryParamName = getServerSideQueryParamName();
-        if ( StringUtils.isBlank(serverSideQueryParamValue) ) {
-            IServerSideQueryParamGeneratorSupplier generatorSupplier = 
-                    getCommandHelper().getCommandAs(IServerSideQueryParamGeneratorSupplier.class)
-                    .orElseThrow(()->new RuntimeException("Command must implement IQueryParamGeneratorSupplier: "+getCommandHelper().getCommand().getClass().getName()));
-            Expression expression = getSpelExpression();
-            if ( expression!=null  ) {
-                serverSideQueryParamValue = generatorSupplier.getServerSideQueryParamGenerator()
-                        .getServerSideQueryParamValue(expression);
-            }
-        }
         if ( StringUtils.isBlank(serverSideQueryParamValue) ) {
             LOG.debug("Not adding "+serverSidequeryParamName+" parameter");
             return request;
@@ -56,12 +64,45 @@ public abstract class AbstractServerSideQueryMixin implements IHttpRequestUpdate
         }
     }
     
+    @Override
+    public final QueryPushdown getQueryPushdown() {
+        QueryExpression queryExpression = getQueryExpression();
+        String serverSideQueryParamOptionValue = getServerSideQueryParamOptionValue();
+        if ( queryPushdown==null || !queryPushdown.isFor(queryExpression) 
+                || !Objects.equals(queryPushdownOptionValue, serverSideQueryParamOptionValue) ) {
+            queryPushdown = createQueryPushdown(queryExpression, serverSideQueryParamOptionValue);
+            queryPushdownOptionValue = serverSideQueryParamOptionValue;
+        }
+        return queryPushdown;
+    }
+    
+    private final QueryPushdown createQueryPushdown(QueryExpression queryExpression, String serverSideQueryParamValue) {
+        if ( StringUtils.isNotBlank(serverSideQueryParamValue) ) {
+            return QueryPushdown.notPushedDown(queryExpression, serverSideQueryParamValue);
+        }
+        IServerSideQueryParamGeneratorSupplier generatorSupplier = 
+                getCommandHelper().getCommandAs(IServerSideQueryParamGeneratorSupplier.class)
+                .orElseThrow(()->new RuntimeException("Command must implement IQueryParamGeneratorSupplier: "+getCommandHelper().getCommand().getClass().getName()));
+        IServerSideQueryParamValueGenerator generator = generatorSupplier.getServerSideQueryParamGenerator();
+        if ( queryExpression==null ) {
+            return QueryPushdown.notPushedDown(null, null);
+        } else if ( generator instanceof IQueryPushdownTranslator translator ) {
+            return QueryPushdown.split(queryExpression, translator);
+        } else {
+            return QueryPushdown.notPushedDown(queryExpression, 
+                    generator.getServerSideQueryParamValue(queryExpression.getExpression()));
+        }
+    }
+    
     protected abstract String getServerSideQueryParamName();
     protected abstract String getServerSideQueryParamOptionValue();
 
     protected final Expression getSpelExpression() {
-        return FcliCommandSpecHelper.getQueryExpression(commandHelper.getCommandSpec())
-            .map(QueryExpression::getExpression)
-            .orElse(null);
+        QueryExpression queryExpression = getQueryExpression();
+        return queryExpression==null ? null : queryExpression.getExpression();
+    }
+    
+    private final QueryExpression getQueryExpression() {
+        return FcliCommandSpecHelper.getQueryExpression(commandHelper.getCommandSpec()).orElse(null);
     }
 }
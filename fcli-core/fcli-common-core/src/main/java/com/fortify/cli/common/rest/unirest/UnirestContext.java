@@ -14,9 +14,11 @@ package com.fortify.cli.common.rest.unirest;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import com.fortify.cli.common.exception.FcliBugException;
+import com.fortify.cli.common.rest.unirest.config.UnirestHttpClientConfigurer;
 import com.fortify.cli.common.util.JavaHelper;
 
 import kong.unirest.UnirestInstance;
@@ -33,10 +35,15 @@ import lombok.extern.slf4j.Slf4j;
  * avoid accidental shutdown by client code, but will be automatically closed
  * after command execution through the try-with-resources block in 
  * FcliInitializationExecutionStrategy.
+ * <p>
+ * Once the first instance has been created, this context is registered as a
+ * {@link UnirestHttpClientConfigurer} scope, such that shared connection pools
+ * are shut down after the last context using them has been closed.
  */
 @Slf4j
 public class UnirestContext implements AutoCloseable {
     private final Map<String, NonClosingUnirestInstanceWrapper> cache = new ConcurrentHashMap<>();
+    private final AtomicBoolean poolScopeOpened = new AtomicBoolean();
     private volatile boolean closed = false;
 
     /**
@@ -63,6 +70,9 @@ public class UnirestContext implements AutoCloseable {
         }
         return cache.computeIfAbsent(key, k -> {
             log.debug("Creating new Unirest instance for key: {} in {}", key, identity());
+            if ( poolScopeOpened.compareAndSet(false, true) ) {
+                UnirestHttpClientConfigurer.openScope();
+            }
             return new NonClosingUnirestInstanceWrapper(UnirestHelper.createUnirestInstance(configurer));
         });
     }
@@ -92,6 +102,10 @@ public class UnirestContext implements AutoCloseable {
         log.debug("Closing {} with {} instances", identity(), cache.size());
         cache.keySet().forEach(this::close);
         cache.clear();
+        UnirestHttpClientConfigurer.logPoolStats();
+        if ( poolScopeOpened.get() ) {
+            UnirestHttpClientConfigurer.closeScope();
+        }
     }
 
     /**
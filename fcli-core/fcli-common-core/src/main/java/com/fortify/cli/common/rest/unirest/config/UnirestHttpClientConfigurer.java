@@ -12,12 +12,31 @@
  */
 package com.fortify.cli.common.rest.unirest.config;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.util.EnvHelper;
+
 import kong.unirest.Config;
 import kong.unirest.UnirestInstance;
 import kong.unirest.apache.ApacheClient;
@@ -25,9 +44,35 @@ import kong.unirest.apache.ApacheClient;
 /**
  * Centralized Apache HttpClient configuration for Unirest instances.
  * Applies the JVM default SSLContext configured during static initialization.
+ * <p>
+ * Unirest instances don't get their own connection pool; instead, all instances that
+ * share the same trust settings (SSL verification enabled/disabled, SSLContext) and
+ * connection TTL share a single {@link PoolingHttpClientConnectionManager}. Apache
+ * HttpClient pools connections per route, so instances targeting the same server
+ * can reuse each other's warm (TLS) connections, for example when the same session
+ * is used by multiple commands in a single action. As all instances sharing a pool
+ * use the same SSLContext, TLS sessions can also be resumed when new connections
+ * need to be established.
+ * <p>
+ * Shared pools, including their idle connection evictor threads, are shut down through
+ * {@link #shutdownPools()}, either explicitly by long-running servers when they stop,
+ * or once all scopes registered through {@link #openScope()}, like active
+ * {@link com.fortify.cli.common.rest.unirest.UnirestContext} instances, have been closed
+ * through {@link #closeScope()}. New pools are created on demand if needed afterwards.
+ * <p>
+ * Pool limits, keep-alive and idle eviction can be configured through the
+ * {@value #ENV_MAX_CONNECTIONS}, {@value #ENV_MAX_CONNECTIONS_PER_ROUTE},
+ * {@value #ENV_KEEP_ALIVE_SECONDS} and {@value #ENV_IDLE_EVICTION_SECONDS}
+ * environment variables.
  */
 public final class UnirestHttpClientConfigurer {
+    public static final String ENV_MAX_CONNECTIONS = "FCLI_HTTP_MAX_CONNECTIONS";
+    public static final String ENV_MAX_CONNECTIONS_PER_ROUTE = "FCLI_HTTP_MAX_CONNECTIONS_PER_ROUTE";
+    public static final String ENV_KEEP_ALIVE_SECONDS = "FCLI_HTTP_KEEP_ALIVE_SECONDS";
+    public static final String ENV_IDLE_EVICTION_SECONDS = "FCLI_HTTP_IDLE_EVICTION_SECONDS";
     private static final Logger log = LoggerFactory.getLogger(UnirestHttpClientConfigurer.class);
+    private static final Map<PoolKey, SharedConnectionPool> POOLS = new ConcurrentHashMap<>();
+    private static int openScopes; // Guarded by POOLS
 
     private UnirestHttpClientConfigurer() {
     }
@@ -37,10 +82,124 @@ public final class UnirestHttpClientConfigurer {
     }
 
     public static ApacheClient createApacheClient(Config config, Consumer<HttpClientBuilder> customConfigurer) {
+        var pool = getSharedConnectionPool(config);
         return new ApacheClient(config, cb -> {
+            if (pool != null) {
+                pool.configure(cb);
+            }
             if (customConfigurer != null) {
                 customConfigurer.accept(cb);
             }
         });
     }
+
+    /** Log statistics for all shared connection pools at debug level. */
+    public static void logPoolStats() {
+        if (log.isDebugEnabled()) {
+            POOLS.forEach((key, pool) -> log.debug("HTTP connection pool {}: {}", key, pool.manager.getTotalStats()));
+        }
+    }
+
+    /** Register a scope that uses shared connection pools until {@link #closeScope()} is called. */
+    public static void openScope() {
+        synchronized (POOLS) {
+            openScopes++;
+        }
+    }
+
+    /** Unregister a scope; shared connection pools are shut down once all scopes have been closed. */
+    public static void closeScope() {
+        synchronized (POOLS) {
+            if (openScopes > 0 && --openScopes == 0) {
+                shutdownPools();
+            }
+        }
+    }
+
+    /** Shut down all shared connection pools and their idle connection evictor threads. */
+    public static void shutdownPools() {
+        synchronized (POOLS) {
+            POOLS.values().forEach(SharedConnectionPool::shutdown);
+            POOLS.clear();
+        }
+    }
+
+    private static SharedConnectionPool getSharedConnectionPool(Config config) {
+        if (config.getKeystore() != null) {
+            // Client certificates are instance-specific, so let Unirest create a dedicated pool
+            return null;
+        }
+        var key = new PoolKey(config.isVerifySsl(), config.isVerifySsl() ? config.getSslContext() : null, config.getTTL());
+        synchronized (POOLS) {
+            var pool = POOLS.computeIfAbsent(key, SharedConnectionPool::new);
+            log.debug("Using shared HTTP connection pool {}: {}", key, pool.manager.getTotalStats());
+            return pool;
+        }
+    }
+
+    private static final record PoolKey(boolean verifySsl, SSLContext sslContext, long ttl) {
+        @Override
+        public String toString() {
+            return String.format("[verifySsl: %s; sslContext: %s; ttl: %s]", verifySsl,
+                    sslContext == null ? "default" : Integer.toHexString(System.identityHashCode(sslContext)), ttl);
+        }
+    }
+
+    private static final class SharedConnectionPool {
+        private final PoolingHttpClientConnectionManager manager;
+        private final ConnectionKeepAliveStrategy keepAliveStrategy;
+        private final IdleConnectionEvictor idleConnectionEvictor;
+
+        private SharedConnectionPool(PoolKey key) {
+            var registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", createSslSocketFactory(key))
+                    .build();
+            this.manager = new PoolingHttpClientConnectionManager(registry, null, null, null, key.ttl(), TimeUnit.MILLISECONDS);
+            manager.setMaxTotal(getEnvInt(ENV_MAX_CONNECTIONS, 200));
+            manager.setDefaultMaxPerRoute(getEnvInt(ENV_MAX_CONNECTIONS_PER_ROUTE, 20));
+            // Connections may have been idle for a while, in particular when reused across commands
+            manager.setValidateAfterInactivity(2000);
+            long maxKeepAliveMillis = TimeUnit.SECONDS.toMillis(getEnvInt(ENV_KEEP_ALIVE_SECONDS, 60));
+            this.keepAliveStrategy = (response, context) -> {
+                long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return serverKeepAlive > 0 ? Math.min(serverKeepAlive, maxKeepAliveMillis) : maxKeepAliveMillis;
+            };
+            // IdleConnectionEvictor uses a daemon thread, so doesn't prevent JVM shutdown
+            int idleEvictionSeconds = getEnvInt(ENV_IDLE_EVICTION_SECONDS, 30);
+            this.idleConnectionEvictor = new IdleConnectionEvictor(manager, idleEvictionSeconds, TimeUnit.SECONDS);
+            idleConnectionEvictor.start();
+            log.debug("Created shared HTTP connection pool {} (maxTotal: {}, maxPerRoute: {}, keepAlive: {}ms, idleEviction: {}s)",
+                    key, manager.getMaxTotal(), manager.getDefaultMaxPerRoute(), maxKeepAliveMillis, idleEvictionSeconds);
+        }
+
+        private void configure(HttpClientBuilder cb) {
+            cb.setConnectionManager(manager)
+                // Prevent closing of Unirest instances from shutting down the shared pool
+                .setConnectionManagerShared(true)
+                .setKeepAliveStrategy(keepAliveStrategy);
+        }
+
+        private void shutdown() {
+            idleConnectionEvictor.shutdown();
+            manager.shutdown();
+        }
+
+        private static SSLConnectionSocketFactory createSslSocketFactory(PoolKey key) {
+            try {
+                if (!key.verifySsl()) {
+                    var sslContext = new SSLContextBuilder().loadTrustMaterial(null, (chain, authType) -> true).build();
+                    return new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+                }
+                var sslContext = key.sslContext() != null ? key.sslContext() : SSLContexts.createSystemDefault();
+                return new SSLConnectionSocketFactory(sslContext, SSLConnectionSocketFactory.getDefaultHostnameVerifier());
+            } catch (Exception e) {
+                throw new FcliTechnicalException("Error creating SSL socket factory", e);
+            }
+        }
+    }
+
+    private static int getEnvInt(String name, int defaultValue) {
+        return Math.max(1, EnvHelper.envInteger(name, defaultValue));
+    }
 }
\ No newline at end of file
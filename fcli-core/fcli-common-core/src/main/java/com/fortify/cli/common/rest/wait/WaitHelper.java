@@ -12,21 +12,33 @@
  */
 package com.fortify.cli.common.rest.wait;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.apache.commons.lang3.StringUtils;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.exception.FcliBugException;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.exception.FcliTechnicalException;
@@ -36,15 +48,31 @@ import com.fortify.cli.common.rest.wait.WaitType.AnyOrAll;
 import com.fortify.cli.common.rest.wait.WaitType.LoopType;
 import com.fortify.cli.common.util.DateTimePeriodHelper;
 import com.fortify.cli.common.util.DateTimePeriodHelper.Period;
+import com.fortify.cli.common.util.EnvHelper;
 
 import kong.unirest.UnirestInstance;
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * Helper for waiting until one or more records reach (or leave) the requested states. On every
+ * poll, the records are re-loaded through the configured records supplier, unless a record
+ * refresher has been configured. In that case, only records that are still waiting are
+ * refreshed (up to {@value #ENV_MAX_CONCURRENT_REFRESHES} records concurrently, default 4),
+ * whereas records that already completed the wait (or reached a failure or unknown state)
+ * are no longer polled.
+ * <p>
+ * If a maximum interval has been configured, the poll interval is doubled (with some random
+ * jitter) for every poll that doesn't show any state changes, up to the maximum interval, and
+ * reset to the configured interval whenever any state change is detected.
+ */
 @Builder
 public class WaitHelper {
+    public static final String ENV_MAX_CONCURRENT_REFRESHES = "FCLI_WAIT_CONCURRENCY";
     private static final DateTimePeriodHelper periodHelper = DateTimePeriodHelper.byRange(Period.SECONDS, Period.DAYS);
     private final Function<UnirestInstance, Collection<JsonNode>> recordsSupplier;
+    private final BiFunction<UnirestInstance, ObjectNode, JsonNode> recordRefresher;
+    @Builder.Default private final int maxConcurrentRefreshes = getDefaultMaxConcurrentRefreshes();
     private final Function<JsonNode, String> currentState;
     private final Function<JsonNode, JsonNode> recordTransformer;
     private final String[] knownStates;
@@ -55,6 +83,7 @@ public class WaitHelper {
     @Builder.Default private final WaitUnknownOrFailureStateAction onUnknownState = WaitUnknownOrFailureStateAction.fail;
     @Builder.Default private final WaitTimeoutAction onTimeout = WaitTimeoutAction.fail;
     private final String intervalPeriod;
+    private final String maxIntervalPeriod;
     private final String timeoutPeriod;
     private final IWaitHelperProgressMonitor progressMonitor;
     private final Consumer<Map<ObjectNode, WaitStatus>> onFinish; 
@@ -83,21 +112,23 @@ public class WaitHelper {
         if ( result.size()>0 ) {
             throw new FcliBugException("Only one of the public wait methods may be invoked with a non-empty set of states");
         }
-        long intervalMillis = periodHelper.parsePeriodToMillis(intervalPeriod);
+        var pollInterval = createPollInterval();
         OffsetDateTime timeout = periodHelper.getCurrentOffsetDateTimePlusPeriod(timeoutPeriod);
         Map<ObjectNode, String> recordsWithCurrentState = getRecordsWithCurrentState(unirest);
         Map<ObjectNode, WaitStatus> recordsWithWaitStatus = evaluator.getWaitStatuses(recordsWithCurrentState);
         updateProgress(recordsWithWaitStatus);
+        // Refresh executor is shared by all poll iterations of this wait operation
+        var refreshExecutor = createRefreshExecutor();
         try {
             boolean continueWait = true;
             while ( timeout.isAfter(OffsetDateTime.now()) && (continueWait = continueWait(recordsWithWaitStatus, anyOrAll)) ) {
-                try {
-                    Thread.sleep(intervalMillis);
-                } catch (InterruptedException e) {
-                    throw new FcliTechnicalException("Wait operation interrupted", e);
-                }
-                recordsWithCurrentState = getRecordsWithCurrentState(unirest);
+                pollInterval.sleep(timeout);
+                var previousStates = new ArrayList<>(recordsWithCurrentState.values());
+                recordsWithCurrentState = recordRefresher==null
+                        ? getRecordsWithCurrentState(unirest)
+                        : refreshWaitingRecords(unirest, refreshExecutor, recordsWithCurrentState, recordsWithWaitStatus);
                 recordsWithWaitStatus = evaluator.getWaitStatuses(recordsWithCurrentState);
+                pollInterval.update(!previousStates.equals(new ArrayList<>(recordsWithCurrentState.values())));
                 updateProgress(recordsWithWaitStatus);
             }
             if ( continueWait && onTimeout==WaitTimeoutAction.fail ) {
@@ -105,6 +136,7 @@ public class WaitHelper {
                 throw new FcliSimpleException("Time-out exceeded");
             }
         } finally {
+            if ( refreshExecutor!=null ) { refreshExecutor.shutdownNow(); }
             result.putAll(recordsWithWaitStatus);
             finishProgressMonitoring(recordsWithWaitStatus);
             if ( onFinish!=null ) {
@@ -152,6 +184,95 @@ public class WaitHelper {
         return nodesWithStatus;
     }
 
+    /**
+     * Refresh all records that are still waiting through the configured record refresher,
+     * returning the refreshed records together with all other (non-refreshed) records,
+     * in original order.
+     */
+    private final Map<ObjectNode, String> refreshWaitingRecords(UnirestInstance unirest, ExecutorService refreshExecutor, Map<ObjectNode, String> recordsWithCurrentState, Map<ObjectNode, WaitStatus> recordsWithWaitStatus) {
+        List<ObjectNode> waitingRecords = recordsWithWaitStatus.entrySet().stream()
+                .filter(e->e.getValue()==WaitStatus.WAITING)
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<ObjectNode, Map<ObjectNode, String>> refreshedRecords = refreshConcurrently(unirest, refreshExecutor, waitingRecords);
+        Map<ObjectNode, String> result = new LinkedHashMap<>();
+        recordsWithCurrentState.forEach((record, state)->{
+            var refreshed = refreshedRecords.get(record);
+            if ( refreshed==null ) {
+                result.put(record, state);
+            } else {
+                result.putAll(refreshed);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Create the executor for concurrently refreshing waiting records, or return null if
+     * records are refreshed sequentially. Threads are only started once records actually
+     * need to be refreshed concurrently.
+     */
+    private final ExecutorService createRefreshExecutor() {
+        if ( recordRefresher==null || maxConcurrentRefreshes<=1 ) { return null; }
+        return Executors.newFixedThreadPool(maxConcurrentRefreshes, r -> {
+            var t = new Thread(r, "fcli-wait");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private final Map<ObjectNode, Map<ObjectNode, String>> refreshConcurrently(UnirestInstance unirest, ExecutorService executor, List<ObjectNode> records) {
+        Map<ObjectNode, Map<ObjectNode, String>> result = new LinkedHashMap<>();
+        if ( executor==null || records.size()<=1 ) {
+            records.forEach(record->result.put(record, refreshRecord(unirest, record)));
+            return result;
+        }
+        var parentContext = FcliExecutionContextHolder.tryCurrentContext();
+        var futures = new ArrayList<Future<Map.Entry<ObjectNode, Map<ObjectNode, String>>>>();
+        try {
+            var completionService = new ExecutorCompletionService<Map.Entry<ObjectNode, Map<ObjectNode, String>>>(executor);
+            for ( var record : records ) {
+                futures.add(completionService.submit(() -> {
+                    if ( parentContext==null ) {
+                        return Map.entry(record, refreshRecord(unirest, record));
+                    }
+                    try ( var frame = FcliExecutionContextHolder.push(parentContext.createChild()) ) {
+                        return Map.entry(record, refreshRecord(unirest, record));
+                    }
+                }));
+            }
+            Map<ObjectNode, Map<ObjectNode, String>> completed = new LinkedHashMap<>();
+            for ( int i=0; i<records.size(); i++ ) {
+                var entry = completionService.take().get();
+                completed.put(entry.getKey(), entry.getValue());
+            }
+            // Return results in original record order
+            records.forEach(record->result.put(record, completed.get(record)));
+            return result;
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException re ) { throw re; }
+            if ( e.getCause() instanceof Error err ) { throw err; }
+            throw new FcliTechnicalException("Error refreshing records", e.getCause());
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Wait operation interrupted", e);
+        } finally {
+            // Cancel any refreshes still queued or running if we're exiting due to an error
+            futures.forEach(f->f.cancel(true));
+        }
+    }
+
+    private final Map<ObjectNode, String> refreshRecord(UnirestInstance unirest, ObjectNode record) {
+        Map<ObjectNode, String> result = new LinkedHashMap<>();
+        var refreshed = recordRefresher.apply(unirest, record);
+        if ( refreshed instanceof ArrayNode ) {
+            addNodesWithStatus(result, (ArrayNode)refreshed);
+        } else {
+            addNodeWithStatus(result, refreshed);
+        }
+        return result;
+    }
+
     private void addNodesWithStatus(Map<ObjectNode, String> nodesWithStatus, ArrayNode nodes) {
         nodes.forEach(node->addNodeWithStatus(nodesWithStatus, node));
     }
@@ -179,6 +300,60 @@ public class WaitHelper {
         }
     }
     
+    private static final int getDefaultMaxConcurrentRefreshes() {
+        return Math.max(1, EnvHelper.envInteger(ENV_MAX_CONCURRENT_REFRESHES, 4));
+    }
+
+    private final PollInterval createPollInterval() {
+        long intervalMillis = periodHelper.parsePeriodToMillis(intervalPeriod);
+        long maxIntervalMillis = StringUtils.isBlank(maxIntervalPeriod)
+                ? intervalMillis
+                : periodHelper.parsePeriodToMillis(maxIntervalPeriod);
+        return new PollInterval(intervalMillis, maxIntervalMillis);
+    }
+
+    /**
+     * Keeps track of the current poll interval; if the maximum interval doesn't exceed the
+     * configured interval, this always returns the configured interval.
+     */
+    static final class PollInterval {
+        private final long intervalMillis;
+        private final long maxIntervalMillis;
+        @Getter private long currentMillis;
+
+        PollInterval(long intervalMillis, long maxIntervalMillis) {
+            this.intervalMillis = intervalMillis;
+            this.maxIntervalMillis = Math.max(intervalMillis, maxIntervalMillis);
+            this.currentMillis = intervalMillis;
+        }
+
+        /** Sleep for the current interval, but not beyond the given timeout. */
+        public void sleep(OffsetDateTime timeout) {
+            long untilTimeoutMillis = Duration.between(OffsetDateTime.now(), timeout).toMillis();
+            try {
+                Thread.sleep(getSleepMillis(untilTimeoutMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FcliTechnicalException("Wait operation interrupted", e);
+            }
+        }
+
+        /** Current interval plus jitter (if backing off), capped at the given time until timeout. */
+        long getSleepMillis(long untilTimeoutMillis) {
+            long sleepMillis = currentMillis;
+            if ( maxIntervalMillis>intervalMillis ) {
+                // Add up to 10% jitter to avoid multiple fcli instances polling in lock-step
+                sleepMillis += ThreadLocalRandom.current().nextLong(sleepMillis/10+1);
+            }
+            return Math.max(0, Math.min(sleepMillis, untilTimeoutMillis));
+        }
+
+        /** Reset to configured interval if any state changes were detected, otherwise back off. */
+        public void update(boolean stateChanged) {
+            currentMillis = stateChanged ? intervalMillis : Math.min(maxIntervalMillis, currentMillis*2);
+        }
+    }
+
     public static enum WaitStatus {
         WAITING, WAIT_COMPLETE, UNKNOWN_STATE_DETECTED, FAILURE_STATE_DETECTED, TIMEOUT 
     }
@@ -282,6 +457,7 @@ public class WaitHelper {
          */
         public WaitHelperBuilder controlProperties(IWaitHelperControlProperties controlProperties) {
             return intervalPeriod(controlProperties.getIntervalPeriod())
+                    .maxIntervalPeriod(controlProperties.getMaxIntervalPeriod())
                     .onFailureState(controlProperties.getOnFailureState())
                     .onTimeout(controlProperties.getOnTimeout())
                     .onUnknownState(controlProperties.getOnUnknownState())
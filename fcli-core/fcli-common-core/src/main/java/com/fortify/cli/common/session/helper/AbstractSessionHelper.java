@@ -12,13 +12,22 @@
  */
 package com.fortify.cli.common.session.helper;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,17 +39,29 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.exception.FcliTechnicalException;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.log.LogMaskHelper;
 import com.fortify.cli.common.log.LogMaskSource;
 import com.fortify.cli.common.log.MaskValue;
+import com.fortify.cli.common.session.helper.SessionIndex.SessionIndexEntry;
 import com.fortify.cli.common.util.FcliDataHelper;
 
 import lombok.SneakyThrows;
 
+/**
+ * Base class for loading, saving and listing session descriptors. Decrypted session descriptor
+ * contents are cached in-process, keyed by session descriptor file modification time and size,
+ * so repeatedly resolving the same session (as done by long-running RPC/MCP servers) doesn't
+ * require the session descriptor file to be read and decrypted on every invocation. Session
+ * listings are served from a per-product {@link SessionIndex} file, only reading and decrypting
+ * session descriptors that were created or modified since the index was last updated.
+ */
 public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractSessionHelper.class);
+    private static final Map<Path, CachedFile<String>> DESCRIPTOR_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Path, CachedFile<SessionIndex>> INDEX_CACHE = new ConcurrentHashMap<>();
     private ObjectMapper objectMapper = JsonHelper.getObjectMapper();
     
     @SneakyThrows // TODO Do we want to use SneakyThrows?
@@ -48,7 +69,7 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
         Path sessionDescriptorPath = getSessionDescriptorPath(sessionName);
         checkSessionExists(sessionName, failIfUnavailable);
         try {
-            String sessionDescriptorJson = FcliDataHelper.readSecuredFile(sessionDescriptorPath, failIfUnavailable);
+            String sessionDescriptorJson = readSessionDescriptorJson(sessionDescriptorPath, failIfUnavailable);
             T sessionDescriptor = sessionDescriptorJson==null ? null : objectMapper.readValue(sessionDescriptorJson, getSessionDescriptorType());
             checkNonExpiredSessionAvailable(sessionName, failIfUnavailable, sessionDescriptor);
             return registerLogMasksAndReturn(sessionDescriptor);
@@ -61,6 +82,26 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
         }
     }
     
+    private static final String readSessionDescriptorJson(Path sessionDescriptorPath, boolean failIfUnavailable) {
+        var absolutePath = FcliDataHelper.resolveFcliHomePath(sessionDescriptorPath);
+        var context = FcliExecutionContextHolder.tryCurrentContext();
+        if ( context!=null && context.isEphemeralEncryptedFile(absolutePath) ) {
+            // Ephemeral encryption is specific to the current execution context, so don't share through cache
+            return FcliDataHelper.readSecuredFile(sessionDescriptorPath, failIfUnavailable);
+        }
+        var version = FileVersion.of(absolutePath);
+        var cached = DESCRIPTOR_CACHE.get(absolutePath);
+        if ( cached!=null && cached.version().equals(version) ) {
+            return cached.contents();
+        }
+        DESCRIPTOR_CACHE.remove(absolutePath);
+        var json = FcliDataHelper.readSecuredFile(sessionDescriptorPath, failIfUnavailable);
+        if ( json!=null && version!=null ) {
+            DESCRIPTOR_CACHE.put(absolutePath, new CachedFile<>(version, json));
+        }
+        return json;
+    }
+    
     private final T registerLogMasksAndReturn(T sessionDescriptor) {
         registerLogMasks(sessionDescriptor);
         return sessionDescriptor;
@@ -109,12 +150,23 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
     @SneakyThrows // TODO Do we want to use SneakyThrows? 
     public final void save(String sessionName, T sessionDescriptor) {
         String sessionDescriptorJson = objectMapper.writeValueAsString(sessionDescriptor);
-        FcliDataHelper.saveSecuredFile(getSessionDescriptorPath(sessionName), sessionDescriptorJson, true);
+        Path sessionDescriptorPath = getSessionDescriptorPath(sessionName);
+        FcliDataHelper.saveSecuredFile(sessionDescriptorPath, sessionDescriptorJson, true);
+        DESCRIPTOR_CACHE.remove(FcliDataHelper.resolveFcliHomePath(sessionDescriptorPath));
+        var version = FileVersion.of(FcliDataHelper.resolveFcliHomePath(sessionDescriptorPath));
+        updateSessionIndex(index->{
+            if ( version!=null ) {
+                index.getSessions().put(sessionName, SessionIndexEntry.from(createSessionSummary(sessionName, sessionDescriptor), version.lastModified(), version.size()));
+            }
+        });
     }
     
     @SneakyThrows // TODO Do we want to use SneakyThrows?
     public final void destroy(String sessionName) {
-        FcliDataHelper.deleteFile(getSessionDescriptorPath(sessionName), true);
+        Path sessionDescriptorPath = getSessionDescriptorPath(sessionName);
+        FcliDataHelper.deleteFile(sessionDescriptorPath, true);
+        DESCRIPTOR_CACHE.remove(FcliDataHelper.resolveFcliHomePath(sessionDescriptorPath));
+        updateSessionIndex(index->index.getSessions().remove(sessionName));
     }
     
     public final boolean exists(String sessionName) {
@@ -133,11 +185,34 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Get the summaries for all sessions. Summaries are taken from the session index for
+     * all sessions for which the session descriptor file hasn't been modified since the
+     * index was last updated; only new or modified session descriptors are read and
+     * decrypted, after which the index is updated accordingly.
+     */
     public final Collection<SessionSummary> sessionSummaries() {
-        return sessionNames().stream()
-                .map(this::getSessionSummary)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        var sessionNames = sessionNames();
+        var result = new ArrayList<SessionSummary>(sessionNames.size());
+        updateSessionIndex(index->{
+            var entries = index.getSessions();
+            entries.keySet().retainAll(new HashSet<>(sessionNames));
+            for ( var sessionName : sessionNames ) {
+                var version = FileVersion.of(FcliDataHelper.resolveFcliHomePath(getSessionDescriptorPath(sessionName)));
+                var entry = entries.get(sessionName);
+                if ( entry==null || version==null || !entry.matches(version.lastModified(), version.size()) ) {
+                    var summary = getSessionSummary(sessionName);
+                    entry = summary==null || version==null ? null : SessionIndexEntry.from(summary, version.lastModified(), version.size());
+                    if ( entry==null ) {
+                        entries.remove(sessionName);
+                    } else {
+                        entries.put(sessionName, entry);
+                    }
+                }
+                if ( entry!=null ) { result.add(entry.toSessionSummary(sessionName, getType())); }
+            }
+        });
+        return result;
     }
     
     public final ArrayNode sessionSummariesAsArrayNode() {
@@ -159,10 +234,17 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
         return getSessionsDataPath().resolve(sessionName);
     }
     
+    private final Path getSessionIndexPath() {
+        return getSessionsDataPath().resolveSibling(getType()+".index.json");
+    }
+    
     private SessionSummary getSessionSummary(String sessionName) {
         T sessionDescriptor = get(sessionName, false);
-        return sessionDescriptor==null ? null : 
-            SessionSummary.builder()
+        return sessionDescriptor==null ? null : createSessionSummary(sessionName, sessionDescriptor);
+    }
+    
+    private SessionSummary createSessionSummary(String sessionName, T sessionDescriptor) {
+        return SessionSummary.builder()
                 .name(sessionName)
                 .type(getType())
                 .url(sessionDescriptor.getUrlDescriptor())
@@ -171,6 +253,68 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
                 .build();
     }
     
+    /**
+     * Load the session index, pass it to the given updater, and save the index if it was
+     * modified by the updater. As the index contains session URLs and dates, it's encrypted
+     * like the session descriptors themselves. Any errors loading or saving the session index
+     * are logged but otherwise ignored, as the index can always be rebuilt from the session
+     * descriptors.
+     */
+    private void updateSessionIndex(Consumer<SessionIndex> updater) {
+        var indexPath = getSessionIndexPath();
+        var absoluteIndexPath = FcliDataHelper.resolveFcliHomePath(indexPath);
+        synchronized (INDEX_CACHE) {
+            var index = loadSessionIndex(indexPath, absoluteIndexPath);
+            var original = new SessionIndex(new TreeMap<>(index.getSessions()));
+            updater.accept(index);
+            if ( !original.equals(index) ) {
+                INDEX_CACHE.remove(absoluteIndexPath);
+                if ( !saveSessionIndex(indexPath, index) ) { return; }
+                var version = FileVersion.of(absoluteIndexPath);
+                if ( version!=null ) { INDEX_CACHE.put(absoluteIndexPath, new CachedFile<>(version, index)); }
+            }
+        }
+    }
+    
+    private boolean saveSessionIndex(Path indexPath, SessionIndex index) {
+        var context = FcliExecutionContextHolder.tryCurrentContext();
+        if ( context==null || context.isEphemeralEncryptionEnabled() ) {
+            // Index is shared with other fcli executions, so don't save with ephemeral encryption
+            return false;
+        }
+        try {
+            FcliDataHelper.saveSecuredFile(indexPath, index, true);
+            return true;
+        } catch ( Exception e ) {
+            LOG.debug("Error saving session index {}", indexPath, e);
+            return false;
+        }
+    }
+    
+    private SessionIndex loadSessionIndex(Path indexPath, Path absoluteIndexPath) {
+        var version = FileVersion.of(absoluteIndexPath);
+        var cached = INDEX_CACHE.get(absoluteIndexPath);
+        if ( cached!=null && cached.version().equals(version) ) {
+            // Return a copy, as the caller may modify the index
+            return new SessionIndex(new TreeMap<>(cached.contents().getSessions()));
+        }
+        INDEX_CACHE.remove(absoluteIndexPath);
+        SessionIndex index = null;
+        if ( version!=null ) {
+            try {
+                index = FcliDataHelper.readSecuredFile(indexPath, SessionIndex.class, false);
+            } catch ( Exception e ) {
+                LOG.debug("Error reading session index {}, index will be rebuilt", absoluteIndexPath, e);
+            }
+        }
+        if ( index==null || index.getSessions()==null ) {
+            index = new SessionIndex();
+        } else {
+            INDEX_CACHE.put(absoluteIndexPath, new CachedFile<>(version, new SessionIndex(new TreeMap<>(index.getSessions()))));
+        }
+        return index;
+    }
+    
     private void conditionalThrow(boolean throwException, Supplier<RuntimeException> exceptionSupplier) {
         if ( throwException ) { throw exceptionSupplier.get(); }
     }
@@ -194,6 +338,23 @@ public abstract class AbstractSessionHelper<T extends ISessionDescriptor> {
                 && sessionDescriptor.getExpiryDate().before(new Date()));
     }
     
+    private static final record FileVersion(FileTime lastModifiedTime, long size) {
+        private long lastModified() {
+            return lastModifiedTime.toMillis();
+        }
+        
+        private static final FileVersion of(Path absolutePath) {
+            try {
+                var attrs = Files.readAttributes(absolutePath, BasicFileAttributes.class);
+                return new FileVersion(attrs.lastModifiedTime(), attrs.size());
+            } catch ( IOException e ) {
+                return null;
+            }
+        }
+    }
+    
+    private static final record CachedFile<C>(FileVersion version, C contents) {}
+    
     public abstract String getType();
     protected abstract String getLoginCmd();
     
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.session.helper;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.formkiq.graalvm.annotations.Reflectable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-product index of session metadata, allowing sessions to be listed without having
+ * to read and decrypt every session descriptor. Each entry records the last modification
+ * time and size of the corresponding session descriptor file, such that entries can be
+ * validated against the session descriptor files; see
+ * {@link AbstractSessionHelper#sessionSummaries()}.
+ */
+@Data @Reflectable @NoArgsConstructor @AllArgsConstructor
+public class SessionIndex {
+    private Map<String, SessionIndexEntry> sessions = new TreeMap<>();
+
+    @Data @Reflectable @NoArgsConstructor @AllArgsConstructor
+    public static class SessionIndexEntry {
+        private long lastModified;
+        private long size;
+        private String url;
+        private Long created;
+        private Long expires;
+
+        public static final SessionIndexEntry from(SessionSummary summary, long lastModified, long size) {
+            return new SessionIndexEntry(lastModified, size, summary.getUrl(),
+                    toMillis(summary.getCreated()), toMillis(summary.getExpires()));
+        }
+
+        public final boolean matches(long lastModified, long size) {
+            return this.lastModified==lastModified && this.size==size;
+        }
+
+        public final SessionSummary toSessionSummary(String name, String type) {
+            return SessionSummary.builder()
+                    .name(name)
+                    .type(type)
+                    .url(url)
+                    .created(toDate(created))
+                    .expires(toDate(expires))
+                    .build();
+        }
+
+        private static final Long toMillis(Date date) {
+            return date==null ? null : date.getTime();
+        }
+
+        private static final Date toDate(Long millis) {
+            return millis==null ? null : new Date(millis);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Bounded, thread-safe cache of parsed SpEL {@link Expression} instances, keyed by
+ * expression text and parser context. Parsed SpEL expressions are immutable with
+ * respect to evaluation, so a single instance can safely be shared between threads
+ * and evaluation contexts. This avoids re-parsing the same expression string for
+ * every record or page, for example when evaluating next-page links or action
+ * expressions that are only available as plain strings.
+ * <p>
+ * By default, expressions are interpreted. SpEL compilation in {@link SpelCompilerMode#MIXED}
+ * mode can be enabled through the {@value #ENV_COMPILER_MODE} environment variable; as
+ * MIXED mode falls back to interpretation for any expression (or expression part) that
+ * cannot be compiled, this is safe for all expressions. Note that compilation requires
+ * runtime bytecode generation, which isn't available in native images, hence this is
+ * disabled by default.
+ */
+public final class SpelExpressionCache {
+    public static final String ENV_COMPILER_MODE = "FCLI_SPEL_COMPILER_MODE";
+    private static final int MAX_SIZE = 1024;
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(createParserConfiguration());
+    private static final Map<Key, Expression> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Expression> eldest) {
+            return size()>MAX_SIZE;
+        }
+    };
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private SpelExpressionCache() {}
+
+    /**
+     * Get the parsed {@link Expression} for the given expression string, parsing
+     * and caching the expression if not yet cached.
+     */
+    public static final Expression parseExpression(String expression) {
+        return parseExpression(expression, null);
+    }
+
+    /**
+     * Get the parsed {@link Expression} for the given expression string and
+     * (optional) {@link ParserContext}, parsing and caching the expression if
+     * not yet cached.
+     */
+    public static final Expression parseExpression(String expression, ParserContext parserContext) {
+        var key = new Key(expression, parserContext);
+        Expression result;
+        synchronized (CACHE) {
+            result = CACHE.get(key);
+        }
+        if ( result!=null ) {
+            HITS.increment();
+            return result;
+        }
+        MISSES.increment();
+        // Parse outside of synchronized block; if two threads parse the same
+        // expression concurrently, both results are equivalent.
+        result = parserContext==null
+                ? PARSER.parseExpression(expression)
+                : PARSER.parseExpression(expression, parserContext);
+        synchronized (CACHE) {
+            CACHE.put(key, result);
+        }
+        return result;
+    }
+
+    /** Get the current cache statistics, mainly for logging and troubleshooting purposes. */
+    public static final CacheStats getStats() {
+        int size;
+        synchronized (CACHE) {
+            size = CACHE.size();
+        }
+        return new CacheStats(HITS.sum(), MISSES.sum(), size);
+    }
+
+    /** Remove all cached expressions and reset statistics. */
+    public static final void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    private static final SpelParserConfiguration createParserConfiguration() {
+        var mode = EnvHelper.env(ENV_COMPILER_MODE);
+        if ( StringUtils.isBlank(mode) ) { return new SpelParserConfiguration(); }
+        switch ( mode.trim().toUpperCase() ) {
+        case "OFF": return new SpelParserConfiguration();
+        case "MIXED": return new SpelParserConfiguration(SpelCompilerMode.MIXED, SpelExpressionCache.class.getClassLoader());
+        // IMMEDIATE mode is not supported, as it fails on expressions that can't be compiled
+        default: throw new FcliSimpleException("Invalid value for "+ENV_COMPILER_MODE+" environment variable (allowed: OFF, MIXED): "+mode);
+        }
+    }
+
+    public static final record CacheStats(long hits, long misses, int size) {}
+
+    /**
+     * Cache key; {@link ParserContext} implementations don't implement equals/hashCode,
+     * so we store the relevant parser context properties instead.
+     */
+    private static final record Key(String expression, boolean template, String prefix, String suffix) {
+        Key(String expression, ParserContext ctx) {
+            this(expression, ctx!=null && ctx.isTemplate(),
+                    ctx==null ? null : ctx.getExpressionPrefix(),
+                    ctx==null ? null : ctx.getExpressionSuffix());
+        }
+    }
+}
@@ -23,7 +23,9 @@ import java.util.stream.StreamSupport;
 
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.IntLiteral;
 import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.ast.LongLiteral;
 import org.springframework.expression.spel.ast.Operator;
 import org.springframework.expression.spel.ast.PropertyOrFieldReference;
 
@@ -63,6 +65,15 @@ public class SpelNodeHelper {
         return literal.getLiteralValue().getValue().toString();
     }
     
+    /**
+     * Return an optional literal string value if the given node represents an integer
+     * or long {@link Literal}.
+     */
+    public static final Optional<String> integralLiteralString(SpelNode node) {
+        return node instanceof IntLiteral || node instanceof LongLiteral 
+                ? literalString(node) : Optional.empty();
+    }
+    
     /**
      * Return an optional qualified property name if the given node represents either a
      * {@link PropertyOrFieldReference} or {@link CompoundExpression} containing
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+/**
+ * Interface to be implemented by classes that push down (part of) the current query
+ * expression to the server. Object node producers use this to only evaluate the 
+ * residual query expression client-side, and fetch range mixins use this to determine
+ * whether record ranges can be fetched from the server.
+ */
+public interface IQueryPushdownSupplier {
+    QueryPushdown getQueryPushdown();
+}
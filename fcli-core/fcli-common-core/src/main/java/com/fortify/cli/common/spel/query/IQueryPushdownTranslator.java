@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+import java.util.List;
+
+import org.springframework.expression.spel.SpelNode;
+
+/**
+ * Interface for translating individual conjuncts of a query expression into server-side
+ * query parameter value fragments, as used by {@link QueryPushdown#split(QueryExpression, IQueryPushdownTranslator)}.
+ * Implementations define which properties and operators are supported by the target system.
+ */
+public interface IQueryPushdownTranslator {
+    /**
+     * Translate the given conjunct (which is never an {@code and} node) into a server-side
+     * query parameter value fragment.
+     * @return {@link QueryPushdownTerm} or null if the given conjunct cannot be translated
+     */
+    QueryPushdownTerm translate(SpelNode conjunct);
+    
+    /**
+     * Combine the given (non-empty) list of fragments returned by {@link #translate(SpelNode)}
+     * into a single server-side query parameter value.
+     */
+    String combine(List<String> values);
+}
@@ -12,12 +12,15 @@
  */
 package com.fortify.cli.common.spel.query;
 
+import java.util.function.Predicate;
+
 import org.springframework.expression.Expression;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.exception.FcliTechnicalException;
 import com.fortify.cli.common.spel.SpelEvaluator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -25,8 +28,14 @@ import lombok.ToString;
 @RequiredArgsConstructor @ToString
 public class QueryExpression {
     @Getter private final Expression expression;
+    @ToString.Exclude
+    @Getter(value = AccessLevel.PRIVATE, lazy = true) private final Predicate<JsonNode> predicate = QueryPredicateCompiler.compile(expression, this::evaluate);
 
     public boolean matches(JsonNode record) {
+        return getPredicate().test(record);
+    }
+    
+    private boolean evaluate(JsonNode record) {
         try {
             return SpelEvaluator.JSON_QUERY.evaluate(expression, record, Boolean.class);
         } catch ( Exception e ) {
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Predicate;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.FloatLiteral;
+import org.springframework.expression.spel.ast.IntLiteral;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.ast.LongLiteral;
+import org.springframework.expression.spel.ast.OpAnd;
+import org.springframework.expression.spel.ast.OpEQ;
+import org.springframework.expression.spel.ast.OpGE;
+import org.springframework.expression.spel.ast.OpGT;
+import org.springframework.expression.spel.ast.OpLE;
+import org.springframework.expression.spel.ast.OpLT;
+import org.springframework.expression.spel.ast.OpMinus;
+import org.springframework.expression.spel.ast.OpNE;
+import org.springframework.expression.spel.ast.OpOr;
+import org.springframework.expression.spel.ast.Operator;
+import org.springframework.expression.spel.ast.OperatorNot;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.RealLiteral;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeComparator;
+import org.springframework.util.NumberUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * This class compiles query expressions that consist of only comparisons and boolean 
+ * combinations of (nested) properties and literals, like 
+ * {@code severity=='Critical' && !suppressed}, into a {@link Predicate} that reads record
+ * properties directly, rather than evaluating the full SpEL expression tree through SpEL
+ * property accessors for every record. Supported operators are {@code and}, {@code or},
+ * {@code not}, {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >} and {@code >=}.
+ * <p>
+ * Compiled predicates only handle the common case where all referenced properties exist 
+ * and contain values that can be compared without any type conversion, using the same 
+ * comparison logic as SpEL. For any other record, for example if a referenced property 
+ * doesn't exist or if a string value is compared to a number, the compiled predicate falls
+ * back to regular SpEL evaluation, such that results (including any errors) are the same
+ * as with SpEL evaluation. Expressions that use any other SpEL constructs, like method calls
+ * or regular expressions, are always evaluated through SpEL. Compilation can be disabled 
+ * by setting the {@value #ENV_DISABLE_COMPILED_QUERIES} environment variable to true.
+ */
+final class QueryPredicateCompiler {
+    static final String ENV_DISABLE_COMPILED_QUERIES = "FCLI_DISABLE_COMPILED_QUERIES";
+    // Marker for operand values that can't be handled by compiled conditions
+    private static final Object UNRESOLVED = new Object();
+    private static final EvaluationContext EQUALITY_CHECK_CONTEXT = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+    private static final TypeComparator TYPE_COMPARATOR = new StandardTypeComparator();
+    
+    private QueryPredicateCompiler() {}
+    
+    /**
+     * Compile the given expression into a {@link Predicate} that evaluates the compiled 
+     * expression if possible, and invokes the given fallback predicate otherwise. If the
+     * given expression cannot be compiled, the fallback predicate is returned as-is.
+     */
+    static final Predicate<JsonNode> compile(Expression expression, Predicate<JsonNode> fallback) {
+        var condition = EnvHelper.asBoolean(EnvHelper.env(ENV_DISABLE_COMPILED_QUERIES)) 
+                ? null 
+                : compileCondition(expression);
+        return condition==null ? fallback : record->{
+            var result = condition.test(record);
+            return result!=null ? result : fallback.test(record);
+        };
+    }
+    
+    /**
+     * Compile the given expression into a {@link CompiledCondition}, returning null if the 
+     * expression contains any unsupported SpEL constructs.
+     */
+    static final CompiledCondition compileCondition(Expression expression) {
+        return expression instanceof SpelExpression spelExpression 
+                ? compileCondition(spelExpression.getAST()) 
+                : null;
+    }
+    
+    /**
+     * Condition compiled from a SpEL expression, returning null if the condition cannot 
+     * be evaluated for a given record, in which case the caller should fall back to SpEL 
+     * evaluation.
+     */
+    @FunctionalInterface
+    static interface CompiledCondition {
+        Boolean test(JsonNode record);
+    }
+    
+    @FunctionalInterface
+    private static interface CompiledOperand {
+        /** Return the (unwrapped) operand value, or {@link #UNRESOLVED} if not supported */
+        Object resolve(JsonNode record);
+    }
+    
+    private static final CompiledCondition compileCondition(SpelNode node) {
+        if ( node instanceof OpAnd op ) {
+            return and(compileCondition(op.getLeftOperand()), compileCondition(op.getRightOperand()));
+        } else if ( node instanceof OpOr op ) {
+            return or(compileCondition(op.getLeftOperand()), compileCondition(op.getRightOperand()));
+        } else if ( node instanceof OperatorNot ) {
+            return not(compileCondition(node.getChild(0)));
+        } else if ( node instanceof OpEQ op ) {
+            return equality(op, false);
+        } else if ( node instanceof OpNE op ) {
+            return equality(op, true);
+        } else if ( node instanceof OpLT op ) {
+            return comparison(op, ComparisonOperator.LT);
+        } else if ( node instanceof OpLE op ) {
+            return comparison(op, ComparisonOperator.LE);
+        } else if ( node instanceof OpGT op ) {
+            return comparison(op, ComparisonOperator.GT);
+        } else if ( node instanceof OpGE op ) {
+            return comparison(op, ComparisonOperator.GE);
+        }
+        return booleanValue(compileOperand(node));
+    }
+    
+    private static final CompiledCondition and(CompiledCondition left, CompiledCondition right) {
+        if ( left==null || right==null ) { return null; }
+        return record->{
+            var l = left.test(record);
+            return l==null || !l ? l : right.test(record);
+        };
+    }
+    
+    private static final CompiledCondition or(CompiledCondition left, CompiledCondition right) {
+        if ( left==null || right==null ) { return null; }
+        return record->{
+            var l = left.test(record);
+            return l==null || l ? l : right.test(record);
+        };
+    }
+    
+    private static final CompiledCondition not(CompiledCondition condition) {
+        if ( condition==null ) { return null; }
+        return record->{
+            var result = condition.test(record);
+            return result==null ? null : !result;
+        };
+    }
+    
+    private static final CompiledCondition booleanValue(CompiledOperand operand) {
+        if ( operand==null ) { return null; }
+        return record->operand.resolve(record) instanceof Boolean b ? b : null;
+    }
+    
+    private static final CompiledCondition equality(Operator op, boolean negate) {
+        var left = compileOperand(op.getLeftOperand());
+        var right = compileOperand(op.getRightOperand());
+        if ( left==null || right==null ) { return null; }
+        return record->{
+            var l = left.resolve(record);
+            var r = right.resolve(record);
+            if ( l==UNRESOLVED || r==UNRESOLVED ) { return null; }
+            // Same equality check as used by SpEL OpEQ and OpNE operators
+            return Operator.equalityCheck(EQUALITY_CHECK_CONTEXT, l, r)!=negate;
+        };
+    }
+    
+    private static final CompiledCondition comparison(Operator op, ComparisonOperator comparisonOperator) {
+        var left = compileOperand(op.getLeftOperand());
+        var right = compileOperand(op.getRightOperand());
+        if ( left==null || right==null ) { return null; }
+        return record->{
+            var l = left.resolve(record);
+            var r = right.resolve(record);
+            if ( l==UNRESOLVED || r==UNRESOLVED ) { return null; }
+            if ( l instanceof Number ln && r instanceof Number rn ) {
+                return compareNumbers(ln, rn, comparisonOperator);
+            } else if ( l==null || r==null || l.getClass()==r.getClass() ) {
+                // Like SpEL, compare strings, booleans and null values through the standard type comparator 
+                return comparisonOperator.test(TYPE_COMPARATOR.compare(l, r));
+            }
+            return null;
+        };
+    }
+    
+    /**
+     * Compare numbers in the same way as the SpEL OpLT, OpLE, OpGT and OpGE operators,
+     * based on the widest type of the two operands.
+     */
+    private static final Boolean compareNumbers(Number l, Number r, ComparisonOperator op) {
+        if ( l instanceof BigDecimal || r instanceof BigDecimal ) {
+            return op.test(NumberUtils.convertNumberToTargetClass(l, BigDecimal.class)
+                    .compareTo(NumberUtils.convertNumberToTargetClass(r, BigDecimal.class)));
+        } else if ( l instanceof Double || r instanceof Double ) {
+            return op.test(l.doubleValue(), r.doubleValue());
+        } else if ( l instanceof Float || r instanceof Float ) {
+            return op.test(l.floatValue(), r.floatValue());
+        } else if ( l instanceof BigInteger || r instanceof BigInteger ) {
+            return op.test(NumberUtils.convertNumberToTargetClass(l, BigInteger.class)
+                    .compareTo(NumberUtils.convertNumberToTargetClass(r, BigInteger.class)));
+        } else if ( l instanceof Long || r instanceof Long ) {
+            return op.test(Long.compare(l.longValue(), r.longValue()));
+        } else if ( l instanceof Integer || r instanceof Integer ) {
+            return op.test(Integer.compare(l.intValue(), r.intValue()));
+        }
+        return null;
+    }
+    
+    private static final CompiledOperand compileOperand(SpelNode node) {
+        if ( node instanceof Literal literal ) {
+            var value = literal.getLiteralValue().getValue();
+            return record->value;
+        } else if ( node instanceof OpMinus && node.getChildCount()==1 ) {
+            var value = negate(node.getChild(0));
+            return value==null ? null : record->value;
+        } else if ( node instanceof PropertyOrFieldReference || node instanceof CompoundExpression ) {
+            var path = propertyPath(node);
+            return path==null ? null : record->resolveProperty(record, path);
+        }
+        return null;
+    }
+    
+    /**
+     * Negate the given numeric literal in the same way as the SpEL unary minus operator,
+     * returning null if the given node is not a numeric literal.
+     */
+    private static final Number negate(SpelNode node) {
+        if ( node instanceof IntLiteral literal ) {
+            return 0 - ((Integer)literal.getLiteralValue().getValue());
+        } else if ( node instanceof LongLiteral literal ) {
+            return 0L - ((Long)literal.getLiteralValue().getValue());
+        } else if ( node instanceof RealLiteral literal ) {
+            return 0d - ((Double)literal.getLiteralValue().getValue());
+        } else if ( node instanceof FloatLiteral literal ) {
+            return 0f - ((Float)literal.getLiteralValue().getValue());
+        }
+        return null;
+    }
+    
+    /**
+     * Return the property path represented by the given node, or null if the node doesn't
+     * represent a plain (non-null-safe) property reference or chain of property references.
+     */
+    private static final String[] propertyPath(SpelNode node) {
+        var nodes = node instanceof CompoundExpression ? node.getChildCount() : 1;
+        var result = new String[nodes];
+        for ( int i=0; i<nodes; i++ ) {
+            var child = node instanceof CompoundExpression ? node.getChild(i) : node;
+            if ( !(child instanceof PropertyOrFieldReference ref) || ref.isNullSafe() ) { return null; }
+            result[i] = ref.getName();
+        }
+        return result;
+    }
+    
+    /**
+     * Resolve the given property path on the given record, returning the property value
+     * in the same form as returned by the SpEL JSON property accessor, or {@link #UNRESOLVED}
+     * if any of the path elements don't exist (which SpEL handles differently depending on 
+     * the nesting level), or if the property value is an object or array.
+     */
+    private static final Object resolveProperty(JsonNode record, String[] path) {
+        JsonNode current = record;
+        for ( var name : path ) {
+            if ( !(current instanceof ObjectNode) ) { return UNRESOLVED; }
+            current = current.get(name);
+            if ( current==null ) { return UNRESOLVED; }
+        }
+        if ( current.isTextual() ) { return current.textValue(); }
+        if ( current.isNumber() ) { return current.numberValue(); }
+        if ( current.isBoolean() ) { return current.booleanValue(); }
+        if ( current.isNull() ) { return null; }
+        return UNRESOLVED;
+    }
+    
+    private static enum ComparisonOperator {
+        LT, LE, GT, GE;
+        
+        boolean test(int comparisonResult) {
+            return switch (this) {
+                case LT -> comparisonResult<0;
+                case LE -> comparisonResult<=0;
+                case GT -> comparisonResult>0;
+                case GE -> comparisonResult>=0;
+            };
+        }
+        
+        boolean test(double l, double r) {
+            return switch (this) {
+                case LT -> l<r;
+                case LE -> l<=r;
+                case GT -> l>r;
+                case GE -> l>=r;
+            };
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.OpAnd;
+import org.springframework.expression.spel.ast.SpelNodeImpl;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * This class describes how a {@link QueryExpression} is split into a server-side query 
+ * parameter value and a residual {@link QueryExpression} that still needs to be evaluated 
+ * client-side. Top-level {@code and} operators are flattened into individual conjuncts, 
+ * each of which is passed to an {@link IQueryPushdownTranslator}. Conjuncts that were 
+ * translated exactly are removed from the residual query expression; all other conjuncts 
+ * are kept, such that evaluating the residual query expression on the records returned 
+ * by the server gives the same results as evaluating the original query expression on 
+ * all records.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) @ToString
+public final class QueryPushdown {
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    /** Original query expression, or null if no query was specified */
+    @Getter private final QueryExpression queryExpression;
+    /** Server-side query parameter value, or null if nothing was pushed down */
+    @Getter private final String serverSideQueryParamValue;
+    /** Query expression to be evaluated client-side, or null if fully pushed down */
+    @Getter private final QueryExpression residualQueryExpression;
+    
+    /**
+     * Split the given query expression into a server-side query parameter value and 
+     * residual query expression, based on the given {@link IQueryPushdownTranslator}.
+     */
+    public static final QueryPushdown split(QueryExpression queryExpression, IQueryPushdownTranslator translator) {
+        if ( queryExpression==null ) { return new QueryPushdown(null, null, null); }
+        if ( !(queryExpression.getExpression() instanceof SpelExpression spelExpression) ) {
+            return notPushedDown(queryExpression, null);
+        }
+        var conjuncts = conjuncts(spelExpression.getAST());
+        var values = new ArrayList<String>();
+        var residualIndexes = new ArrayList<Integer>();
+        for ( int i=0 ; i<conjuncts.size() ; i++ ) {
+            var term = translator.translate(conjuncts.get(i));
+            if ( term!=null ) { values.add(term.value()); }
+            if ( term==null || !term.exact() ) { residualIndexes.add(i); }
+        }
+        var serverSideQueryParamValue = values.isEmpty() ? null : translator.combine(values);
+        return new QueryPushdown(queryExpression, serverSideQueryParamValue, 
+                residualQueryExpression(queryExpression, conjuncts.size(), residualIndexes));
+    }
+    
+    /**
+     * Create a {@link QueryPushdown} instance for the given server-side query parameter value
+     * (which may be null), that requires the full query expression to be evaluated client-side.
+     * This is used if the server-side query parameter value was explicitly specified by the user,
+     * or generated through a legacy generator that doesn't support query splitting.
+     */
+    public static final QueryPushdown notPushedDown(QueryExpression queryExpression, String serverSideQueryParamValue) {
+        return new QueryPushdown(queryExpression, serverSideQueryParamValue, queryExpression);
+    }
+    
+    /**
+     * @return true if no client-side query evaluation is required
+     */
+    public final boolean isFullyPushedDown() {
+        return residualQueryExpression==null;
+    }
+    
+    /**
+     * @return true if this instance was created for the given query expression
+     */
+    public final boolean isFor(QueryExpression queryExpression) {
+        return queryExpression==this.queryExpression 
+            || (queryExpression!=null && this.queryExpression!=null 
+                && Objects.equals(queryExpression.getExpression().getExpressionString(), 
+                                  this.queryExpression.getExpression().getExpressionString()));
+    }
+    
+    private static final QueryExpression residualQueryExpression(QueryExpression queryExpression, int conjunctCount, List<Integer> residualIndexes) {
+        if ( residualIndexes.isEmpty() ) { return null; }
+        if ( residualIndexes.size()==conjunctCount ) { return queryExpression; }
+        // We re-parse the original expression to get a fresh AST, as combining the
+        // residual conjuncts into a new OpAnd node updates the parent of these nodes.
+        var conjuncts = conjuncts(PARSER.parseRaw(queryExpression.getExpression().getExpressionString()).getAST());
+        SpelNodeImpl ast = null;
+        for ( var index : residualIndexes ) {
+            var conjunct = (SpelNodeImpl)conjuncts.get(index);
+            ast = ast==null ? conjunct : new OpAnd(ast.getStartPosition(), conjunct.getEndPosition(), ast, conjunct);
+        }
+        return new QueryExpression(new SpelExpression(ast.toStringAST(), ast, new SpelParserConfiguration()));
+    }
+    
+    private static final List<SpelNode> conjuncts(SpelNode node) {
+        var result = new ArrayList<SpelNode>();
+        addConjuncts(node, result);
+        return result;
+    }
+    
+    private static final void addConjuncts(SpelNode node, List<SpelNode> result) {
+        if ( node instanceof OpAnd ) {
+            for ( int i=0 ; i<node.getChildCount() ; i++ ) {
+                addConjuncts(node.getChild(i), result);
+            }
+        } else {
+            result.add(node);
+        }
+    }
+}
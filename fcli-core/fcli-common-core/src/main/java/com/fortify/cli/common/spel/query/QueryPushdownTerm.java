@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+/**
+ * Server-side query parameter value fragment generated by an {@link IQueryPushdownTranslator}
+ * for a single conjunct of a query expression. If {@link #exact()} is true, the server is 
+ * guaranteed to return only records that match the conjunct, so the conjunct no longer
+ * needs to be evaluated client-side. Otherwise, the server-side fragment only reduces the
+ * number of records returned, and the conjunct will still be evaluated client-side.
+ */
+public final record QueryPushdownTerm(String value, boolean exact) {
+    public static final QueryPushdownTerm exact(String value) {
+        return new QueryPushdownTerm(value, true);
+    }
+    
+    public static final QueryPushdownTerm partial(String value) {
+        return new QueryPushdownTerm(value, false);
+    }
+}
@@ -14,14 +14,13 @@ package com.fortify.cli.common.spel.wrapper;
 
 import java.io.IOException;
 
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.formkiq.graalvm.annotations.Reflectable;
+import com.fortify.cli.common.spel.SpelHelper;
 
 /**
  * This Jackson deserializer allows for parsing String values into 
@@ -30,7 +29,6 @@ import com.formkiq.graalvm.annotations.Reflectable;
 @Reflectable
 public final class SimpleExpressionDeserializer extends StdDeserializer<SimpleExpression> {
     private static final long serialVersionUID = 1L;
-    private static final SpelExpressionParser parser = new SpelExpressionParser();
     public SimpleExpressionDeserializer() { this(null); } 
     public SimpleExpressionDeserializer(Class<?> vc) { super(vc); }
 
@@ -38,6 +36,6 @@ public final class SimpleExpressionDeserializer extends StdDeserializer<SimpleEx
     public SimpleExpression deserialize(JsonParser jp, DeserializationContext ctxt) 
     throws IOException, JsonProcessingException {
         JsonNode node = jp.getCodec().readTree(jp);
-        return node==null || node.isNull() ? null : new SimpleExpression(node.asText(), parser.parseExpression(node.asText()));
+        return node==null || node.isNull() ? null : SpelHelper.parseSimpleExpression(node.asText());
     }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+/**
+ * Archive extraction logic used by {@link FileUtils#extractZip(File, Function)} and
+ * {@link FileUtils#extractTarGZ(File, Function)}. Zip entries are read concurrently
+ * through random access based on the zip central directory; tar.gz archives can only
+ * be read sequentially, so for these, the calling thread decompresses the archive
+ * (through larger buffers than the JDK defaults) while small entries are handed off
+ * to worker threads for writing. Large tar entries are streamed directly to disk by
+ * the calling thread, and the total size of tar entries buffered in memory is bounded.
+ * <p>
+ * The number of worker threads defaults to the number of available processors (with
+ * a minimum of 2 and a maximum of 8), and can be configured through the
+ * {@value #ENV_EXTRACT_CONCURRENCY} environment variable; a value of 1 disables
+ * concurrent extraction.
+ */
+final class ArchiveExtractor implements AutoCloseable {
+    static final String ENV_EXTRACT_CONCURRENCY = "FCLI_EXTRACT_CONCURRENCY";
+    private static final int BUFFER_SIZE = 64*1024;
+    private static final int MAX_BUFFERED_ENTRY_SIZE = 1024*1024;
+    private static final int MAX_BUFFERED_BYTES = 32*MAX_BUFFERED_ENTRY_SIZE;
+    private static final int MAX_PENDING_BEFORE_CLEANUP = 1024;
+    private final int concurrency = getConcurrency();
+    private final Semaphore bufferedBytes = new Semaphore(MAX_BUFFERED_BYTES);
+    private final Map<Path, Future<?>> pending = new HashMap<>();
+    private final Set<Path> createdDirs = new HashSet<>();
+    private volatile boolean failed;
+    private ExecutorService executor;
+
+    private ArchiveExtractor() {}
+
+    static final void extractZip(File zipFile, Function<Path, Path> extractPathResolver) throws IOException {
+        try ( var zip = new ZipFile(zipFile); var extractor = new ArchiveExtractor() ) {
+            // Resolve all paths before writing anything, such that illegal entry paths
+            // are reported before any files have been extracted. If the archive contains
+            // multiple entries with the same path, the last one wins, like it did when
+            // sequentially extracting (and overwriting) entries.
+            var dirs = new LinkedHashSet<Path>();
+            var files = new LinkedHashMap<Path, ZipEntry>();
+            for ( var entries = zip.entries(); entries.hasMoreElements(); ) {
+                var entry = entries.nextElement();
+                var resolvedPath = extractPathResolver.apply(Path.of(entry.getName())).normalize();
+                if ( entry.isDirectory() ) {
+                    dirs.add(resolvedPath);
+                } else {
+                    dirs.add(resolvedPath.getParent());
+                    files.put(resolvedPath, entry);
+                }
+            }
+            for ( var dir : dirs ) { extractor.createDirectories(dir); }
+            files.forEach((path, entry)->extractor.submit(path, ()->{
+                try ( var in = zip.getInputStream(entry) ) {
+                    writeFile(path, in);
+                }
+            }));
+            extractor.awaitCompletion();
+        }
+    }
+
+    static final void extractTarGZ(File tgzFile, Function<Path, Path> extractPathResolver) throws IOException {
+        try ( InputStream source = new BufferedInputStream(Files.newInputStream(tgzFile.toPath()), BUFFER_SIZE);
+              GZIPInputStream gzip = new GZIPInputStream(source, BUFFER_SIZE);
+              TarArchiveInputStream tar = new TarArchiveInputStream(gzip);
+              var extractor = new ArchiveExtractor() ) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextEntry()) != null) {
+                Path extractTo = extractPathResolver.apply(Path.of(entry.getName()));
+                if ( entry.isDirectory() ) {
+                    extractor.createDirectories(extractTo);
+                } else {
+                    extractor.createDirectories(extractTo.getParent());
+                    extractor.write(extractTo, tar, entry.getSize());
+                }
+            }
+            extractor.awaitCompletion();
+        }
+    }
+
+    /**
+     * Write the current entry from the given (sequential) archive input stream to the
+     * given path. Small entries are read into memory and written asynchronously, larger
+     * entries are written directly.
+     */
+    private void write(Path path, InputStream in, long size) throws IOException {
+        // Make sure that any pending write for the same path has completed, as otherwise
+        // an earlier entry could overwrite a later entry with the same path.
+        var previous = pending.remove(path);
+        if ( previous!=null ) { await(previous); }
+        if ( failed ) { checkFailures(); }
+        if ( concurrency<2 || size<0 || size>MAX_BUFFERED_ENTRY_SIZE ) {
+            writeFile(path, in);
+        } else {
+            var bytes = in.readNBytes((int)size);
+            acquireBufferedBytes(bytes.length);
+            submit(path, ()->writeFile(path, new ByteArrayInputStream(bytes)), ()->bufferedBytes.release(bytes.length));
+        }
+    }
+
+    private void submit(Path path, ExtractTask task) {
+        submit(path, task, ()->{});
+    }
+
+    /**
+     * Run the given task, either directly if concurrent extraction is disabled, or
+     * asynchronously. The given completion action is always run, also if the task
+     * fails or is skipped due to an earlier failure.
+     */
+    private void submit(Path path, ExtractTask task, Runnable onCompletion) {
+        if ( concurrency<2 ) {
+            try {
+                runTask(path, task);
+            } finally {
+                onCompletion.run();
+            }
+        } else {
+            if ( pending.size()>=MAX_PENDING_BEFORE_CLEANUP ) { checkFailures(); }
+            try {
+                pending.put(path, getExecutor().submit(()->{
+                    try {
+                        if ( !failed ) { runTask(path, task); }
+                        return null;
+                    } finally {
+                        onCompletion.run();
+                    }
+                }));
+            } catch ( RuntimeException e ) {
+                onCompletion.run();
+                throw e;
+            }
+        }
+    }
+
+    private void runTask(Path path, ExtractTask task) {
+        try {
+            task.run();
+        } catch ( IOException e ) {
+            failed = true;
+            throw new FcliTechnicalException("Error extracting archive entry to "+path, e);
+        } catch ( RuntimeException | Error e ) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    private void createDirectories(Path dir) throws IOException {
+        if ( dir!=null && createdDirs.add(dir) ) {
+            Files.createDirectories(dir);
+        }
+    }
+
+    /** Rethrow the failure of any completed task, and remove completed tasks. */
+    private void checkFailures() {
+        var it = pending.values().iterator();
+        while ( it.hasNext() ) {
+            var future = it.next();
+            if ( future.isDone() ) {
+                it.remove();
+                await(future);
+            }
+        }
+    }
+
+    private void awaitCompletion() {
+        for ( var future : pending.values() ) { await(future); }
+        pending.clear();
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException re ) { throw re; }
+            if ( e.getCause() instanceof Error err ) { throw err; }
+            throw new FcliTechnicalException("Error extracting archive entry", e.getCause());
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Archive extraction interrupted", e);
+        }
+    }
+
+    private void acquireBufferedBytes(int bytes) {
+        try {
+            bufferedBytes.acquire(bytes);
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Archive extraction interrupted", e);
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        if ( executor==null ) {
+            executor = Executors.newFixedThreadPool(concurrency, r -> {
+                var t = new Thread(r, "fcli-extract");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        if ( executor!=null ) {
+            executor.shutdownNow();
+            try {
+                // Make sure no tasks are accessing the archive after it has been closed
+                executor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final void writeFile(Path path, InputStream in) throws IOException {
+        // Like Files.copy with REPLACE_EXISTING, but with a larger buffer
+        Files.deleteIfExists(path);
+        try ( var out = Files.newOutputStream(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE) ) {
+            var buffer = new byte[BUFFER_SIZE];
+            for ( int read; (read = in.read(buffer)) >= 0; ) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static final int getConcurrency() {
+        var defaultConcurrency = Math.min(8, Math.max(2, Runtime.getRuntime().availableProcessors()));
+        return Math.max(1, EnvHelper.envInteger(ENV_EXTRACT_CONCURRENCY, defaultConcurrency));
+    }
+
+    @FunctionalInterface
+    private static interface ExtractTask {
+        void run() throws IOException;
+    }
+}
@@ -136,4 +136,19 @@ public final class EnvHelper {
     public static final Integer asInteger(String s) {
         return s==null ? null : Integer.parseInt(s);
     }
+
+    /**
+     * Get the integer value of the environment variable with the given name, or the
+     * given default value if the environment variable is not defined or blank.
+     * @throws FcliSimpleException if the environment variable value is not an integer
+     */
+    public static final int envInteger(String name, int defaultValue) {
+        var value = env(name);
+        if ( StringUtils.isBlank(value) ) { return defaultValue; }
+        try {
+            return asInteger(value.trim());
+        } catch ( NumberFormatException e ) {
+            throw new FcliSimpleException("Environment variable "+name+" must be an integer value, found: "+value);
+        }
+    }
 }
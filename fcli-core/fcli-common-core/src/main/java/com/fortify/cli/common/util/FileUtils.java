@@ -13,7 +13,6 @@
 package com.fortify.cli.common.util;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -36,12 +35,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-
-import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
-import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 
 import com.fortify.cli.common.exception.FcliSimpleException;
 
@@ -180,7 +173,7 @@ public final class FileUtils {
     public static final Function<Path,Path> defaultExtractPathResolver(Path targetPath, Function<Path,Path> sourcePathRewriter) {
         return sourcePath->{
             var newSourcePath = sourcePathRewriter==null ? sourcePath : sourcePathRewriter.apply(sourcePath);
-            var resolvedPath = targetPath.resolve(newSourcePath);
+            var resolvedPath = targetPath.resolve(newSourcePath).normalize();
             if (!resolvedPath.startsWith(targetPath.normalize())) {
                 // see: https://snyk.io/research/zip-slip-vulnerability
                 throw new FcliSimpleException("Entry with an illegal path: " + sourcePath);
@@ -194,19 +187,14 @@ public final class FileUtils {
         extractZip(zipFile, defaultExtractPathResolver(targetDir, null));
     }
     
+    /**
+     * Extract the given zip file, using the given function for resolving target paths.
+     * Entries are read from the central directory and extracted concurrently, see
+     * {@link ArchiveExtractor} for details.
+     */
     @SneakyThrows
     public static final void extractZip(File zipFile, Function<Path, Path> extractPathResolver) {
-        try (FileInputStream fis = new FileInputStream(zipFile); ZipInputStream zipIn = new ZipInputStream(fis)) {
-            for (ZipEntry ze; (ze = zipIn.getNextEntry()) != null; ) {
-                Path resolvedPath = extractPathResolver.apply(Path.of(ze.getName())).normalize();
-                if (ze.isDirectory()) {
-                    Files.createDirectories(resolvedPath);
-                } else {
-                    Files.createDirectories(resolvedPath.getParent());
-                    Files.copy(zipIn, resolvedPath, StandardCopyOption.REPLACE_EXISTING);
-                }
-            }
-        }
+        ArchiveExtractor.extractZip(zipFile, extractPathResolver);
     }
     
     @SneakyThrows
@@ -214,22 +202,14 @@ public final class FileUtils {
         extractTarGZ(tgzFile, defaultExtractPathResolver(targetDir, null));
     }
     
+    /**
+     * Extract the given tar.gz file, using the given function for resolving target paths.
+     * The archive is decompressed sequentially, with entries being written concurrently,
+     * see {@link ArchiveExtractor} for details.
+     */
     @SneakyThrows
     public static final void extractTarGZ(File tgzFile, Function<Path,Path> extractPathResolver) {
-        try (InputStream source = Files.newInputStream(tgzFile.toPath());
-                GZIPInputStream gzip = new GZIPInputStream(source);
-                TarArchiveInputStream tar = new TarArchiveInputStream(gzip)) {
-
-            TarArchiveEntry entry;
-            while ((entry = tar.getNextEntry()) != null) {
-                Path extractTo = extractPathResolver.apply(Path.of(entry.getName()));
-                if(entry.isDirectory()) {
-                    Files.createDirectories(extractTo);
-                } else {
-                    Files.copy(tar, extractTo, StandardCopyOption.REPLACE_EXISTING);
-                }
-            }
-        }
+        ArchiveExtractor.extractTarGZ(tgzFile, extractPathResolver);
     }
     
     /**
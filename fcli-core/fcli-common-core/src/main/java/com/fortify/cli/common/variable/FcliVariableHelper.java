@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -32,6 +33,7 @@ import com.formkiq.graalvm.annotations.Reflectable;
 import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.crypto.helper.EncryptionHelper;
 import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.exception.FcliTechnicalException;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.json.JsonNodeHolder;
 import com.fortify.cli.common.util.FcliDataHelper;
@@ -48,6 +50,7 @@ public final class FcliVariableHelper {
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private static final Pattern variableNamePattern = Pattern.compile("^[a-zA-Z0-9_]+$");
     private static final Pattern variableReferencePattern = Pattern.compile("^(-{1,2}[\\-_a-zA-Z0-9]{1,}=){0,1}::([a-zA-Z0-9_]+)::(.*)$");
+    private static final long ACCESSED_UPDATE_INTERVAL_MILLIS = 60*1000;
     private FcliVariableHelper() {}
     
     @Data @EqualsAndHashCode(callSuper = true) @Builder 
@@ -77,8 +80,7 @@ public final class FcliVariableHelper {
     public static final VariableDescriptor getVariableDescriptor(String variableName, boolean failIfUnavailable) {
         Path variablePath = getVariableDescriptorPathIfExists(variableName, failIfUnavailable);
         try {
-            String variableDescriptor = FcliDataHelper.readFile(variablePath, failIfUnavailable);
-            JsonNode variableDescriptorJson = variableDescriptor==null ? null : objectMapper.readValue(variableDescriptor, JsonNode.class);
+            JsonNode variableDescriptorJson = FcliVariableStore.get(variablePath, p->readJsonFile(p, false, failIfUnavailable));
             return JsonHelper.treeToValue(variableDescriptorJson, VariableDescriptor.class);
         } catch ( Exception e ) {
             FcliDataHelper.deleteDir(variablePath.getParent(), true);
@@ -92,15 +94,12 @@ public final class FcliVariableHelper {
     public static final JsonNode getVariableContents(String variableName, boolean failIfUnavailable) {
         VariableDescriptor descriptor = getVariableDescriptor(variableName, failIfUnavailable);
         if ( descriptor==null ) { return null; }
-        descriptor.setAccessed(new Date());
         Path variablePath = getVariableContentsPathIfExists(variableName, failIfUnavailable);
         try {
-            String variableContents = FcliDataHelper.readFile(variablePath, failIfUnavailable);
-            if ( descriptor.encrypted ) {
-                variableContents = EncryptionHelper.DEFAULT.decrypt(variableContents);
-            }
-            saveVariableDescriptor(descriptor);
-            return variableContents==null ? null : objectMapper.readValue(variableContents, JsonNode.class);
+            JsonNode variableContents = FcliVariableStore.get(variablePath, p->readJsonFile(p, descriptor.encrypted, failIfUnavailable));
+            updateAccessed(descriptor);
+            // Return a copy, as callers may modify the returned contents
+            return variableContents==null ? null : variableContents.deepCopy();
         } catch ( Exception e ) {
             FcliDataHelper.deleteDir(variablePath.getParent(), true);
             conditionalThrow(failIfUnavailable, ()->new IllegalStateException("Error reading variable descriptor or contents, data has been deleted", e));
@@ -109,8 +108,47 @@ public final class FcliVariableHelper {
         }
     }
     
+    /**
+     * Get the value of the given property of the given variable. Contrary to {@link #getVariableContents(String, boolean)},
+     * this method doesn't copy the (possibly large) variable contents, and resolved property values are cached for
+     * subsequent references to the same variable property.
+     */
+    private static final String getVariableProperty(String variableName, String propertyPath) {
+        VariableDescriptor descriptor = getVariableDescriptor(variableName, true);
+        Path variablePath = getVariableContentsPathIfExists(variableName, true);
+        String value = FcliVariableStore.getProperty(variablePath, propertyPath, 
+                p->readVariableContents(p, descriptor.encrypted),
+                (contents, path)->contents==null ? null : JsonHelper.evaluateSpelExpression(contents, path, String.class));
+        updateAccessed(descriptor);
+        return value;
+    }
+    
+    /**
+     * Update the accessed date of the given descriptor. Saving the descriptor invalidates the
+     * cached descriptor, so we only save it if the stored accessed date is outdated by more than
+     * {@value #ACCESSED_UPDATE_INTERVAL_MILLIS} milliseconds, rather than on every variable access.
+     */
+    private static final void updateAccessed(VariableDescriptor descriptor) {
+        Date previous = descriptor.getAccessed();
+        Date now = new Date();
+        if ( previous==null || now.getTime()-previous.getTime()>ACCESSED_UPDATE_INTERVAL_MILLIS ) {
+            descriptor.setAccessed(now);
+            saveVariableDescriptor(descriptor);
+        }
+    }
+    
+    private static final JsonNode readVariableContents(Path variablePath, boolean encrypted) {
+        try {
+            return readJsonFile(variablePath, encrypted, true);
+        } catch ( Exception e ) {
+            FcliDataHelper.deleteDir(variablePath.getParent(), true);
+            throw new IllegalStateException("Error reading variable contents, data has been deleted", e);
+        }
+    }
+    
     public static final VariableDescriptor save(String variableName, String defaultPropertyName, JsonNode variableContents, boolean singular, boolean encrypt) {
         checkVariableName(variableName);
+        FcliVariableStore.invalidate(getVariablePath(variableName));
         VariableDescriptor descriptor = createVariableDescriptor(variableName, defaultPropertyName, singular, encrypt);
         saveVariableContents(descriptor, variableContents);
         return saveVariableDescriptor(descriptor);
@@ -119,6 +157,7 @@ public final class FcliVariableHelper {
     @SneakyThrows // TODO Do we want to use SneakyThrows?
     public static final Writer getVariableContentsWriter(String variableName, String defaultPropertyName, boolean singular, boolean encrypt) {
         checkVariableName(variableName);
+        FcliVariableStore.invalidate(getVariablePath(variableName));
         VariableDescriptor descriptor = createVariableDescriptor(variableName, defaultPropertyName, singular, encrypt);
         saveVariableDescriptor(descriptor);
         VariableContentsWriter vcw = new VariableContentsWriter(getVariableContentsAbsolutePath(variableName).toString());
@@ -134,8 +173,7 @@ public final class FcliVariableHelper {
         if (matcher.matches()) {
             String variableName = matcher.group(2);
             String propertyPath = getVariablePropertyPathOrDefault(variableName, matcher.group(3));
-            JsonNode contents = getVariableContents(variableName, true);
-            String value = JsonHelper.evaluateSpelExpression(contents, propertyPath, String.class);
+            String value = getVariableProperty(variableName, propertyPath);
             if ( value==null ) {
                 throw new FcliSimpleException(String.format("Property path '%s' for variable '%s' resolves to null", propertyPath, variableName));
             }
@@ -190,6 +228,7 @@ public final class FcliVariableHelper {
         Path variableDirPath = getVariablePathIfExists(variableName, getVariablePath(variableName), false);
         if ( variableDirPath!=null ) {
             FcliDataHelper.deleteDir(variableDirPath, true);
+            FcliVariableStore.invalidate(variableDirPath);
         }
     }
     
@@ -226,6 +265,18 @@ public final class FcliVariableHelper {
         return getVariableDescriptor(variableName, true).asJsonNode();
     }
     
+    private static final JsonNode readJsonFile(Path path, boolean encrypted, boolean failIfUnavailable) {
+        String contents = FcliDataHelper.readFile(path, failIfUnavailable);
+        if ( contents!=null && encrypted ) {
+            contents = EncryptionHelper.DEFAULT.decrypt(contents);
+        }
+        try {
+            return contents==null ? null : objectMapper.readValue(contents, JsonNode.class);
+        } catch ( JsonProcessingException e ) {
+            throw new FcliTechnicalException("Error parsing variable file "+path, e);
+        }
+    }
+    
     private static final void conditionalThrow(boolean throwException, Supplier<RuntimeException> exceptionSupplier) {
         if ( throwException ) { throw exceptionSupplier.get(); }
     }
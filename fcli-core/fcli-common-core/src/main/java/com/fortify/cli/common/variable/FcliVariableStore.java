@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.variable;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.util.FcliDataHelper;
+
+/**
+ * Process-wide cache for parsed (and if applicable, decrypted) variable files, used by
+ * {@link FcliVariableHelper}. Cache entries are validated against the last modification
+ * time and size of the underlying file on every access, so changes made by other fcli
+ * processes are picked up automatically; changes made through {@link FcliVariableHelper}
+ * explicitly invalidate the corresponding entries.
+ * <p>
+ * For every file, this store also keeps an index of resolved property values, such that
+ * repeated references to the same variable property don't need to re-evaluate the
+ * property path against the full variable contents. Contents of large files are only
+ * softly referenced, allowing them to be garbage-collected under memory pressure while
+ * retaining the (much smaller) property index; contents will be re-loaded only if a
+ * property that isn't present in the index is requested.
+ */
+final class FcliVariableStore {
+    private static final long MAX_STRONGLY_CACHED_SIZE = 1024*1024;
+    private static final Map<Path, CacheEntry> ENTRIES = new ConcurrentHashMap<>();
+
+    private FcliVariableStore() {}
+
+    /**
+     * Get the parsed contents of the given file, either from cache or by invoking the given
+     * loader. The loader is responsible for handling missing or invalid files; if it returns
+     * null, nothing is cached.
+     */
+    static final JsonNode get(Path relativePath, Function<Path, JsonNode> loader) {
+        var path = FcliDataHelper.resolveFcliHomePath(relativePath);
+        var version = FileVersion.of(path);
+        var entry = getValidEntry(path, version);
+        var contents = entry==null ? null : entry.getContents();
+        if ( contents==null ) {
+            contents = loader.apply(relativePath);
+            if ( contents!=null && version!=null ) {
+                if ( entry==null ) {
+                    ENTRIES.put(path, new CacheEntry(version, contents));
+                } else {
+                    entry.setContents(contents);
+                }
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * Get the value for the given property path, either from the property index of the given
+     * file, or by evaluating the property path against the file contents as returned by
+     * {@link #get(Path, Function)}. Null values are not cached.
+     */
+    static final String getProperty(Path relativePath, String propertyPath, Function<Path, JsonNode> loader, BiFunction<JsonNode, String, String> evaluator) {
+        var path = FcliDataHelper.resolveFcliHomePath(relativePath);
+        var entry = getValidEntry(path, FileVersion.of(path));
+        var value = entry==null ? null : entry.properties.get(propertyPath);
+        if ( value==null ) {
+            value = evaluator.apply(get(relativePath, loader), propertyPath);
+            entry = ENTRIES.get(path);
+            if ( value!=null && entry!=null ) {
+                entry.properties.put(propertyPath, value);
+            }
+        }
+        return value;
+    }
+
+    /** Invalidate all cache entries for files in the given directory. */
+    static final void invalidate(Path relativeDirPath) {
+        var dirPath = FcliDataHelper.resolveFcliHomePath(relativeDirPath);
+        ENTRIES.keySet().removeIf(p->p.startsWith(dirPath));
+    }
+
+    private static final CacheEntry getValidEntry(Path path, FileVersion version) {
+        var entry = ENTRIES.get(path);
+        if ( entry!=null && (version==null || !version.equals(entry.version)) ) {
+            ENTRIES.remove(path, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static final record FileVersion(FileTime lastModified, long size, Object fileKey) {
+        private static final FileVersion of(Path path) {
+            try {
+                var attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileVersion(attrs.lastModifiedTime(), attrs.size(), attrs.fileKey());
+            } catch ( IOException e ) {
+                return null;
+            }
+        }
+    }
+
+    private static final class CacheEntry {
+        private final FileVersion version;
+        private final Map<String, String> properties = new ConcurrentHashMap<>();
+        private volatile JsonNode strongContents;
+        private volatile SoftReference<JsonNode> softContents;
+
+        private CacheEntry(FileVersion version, JsonNode contents) {
+            this.version = version;
+            setContents(contents);
+        }
+
+        private JsonNode getContents() {
+            var strong = strongContents;
+            if ( strong!=null ) { return strong; }
+            var soft = softContents;
+            return soft==null ? null : soft.get();
+        }
+
+        private void setContents(JsonNode contents) {
+            if ( version.size()<=MAX_STRONGLY_CACHED_SIZE ) {
+                this.strongContents = contents;
+            } else {
+                this.softContents = new SoftReference<>(contents);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.cli.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fortify.cli.common.cli.cmd.AbstractRunnableCommand;
+import com.fortify.cli.common.util.OutputHelper.OutputType;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Verifies that concurrent in-process command invocations through {@link FcliCommandExecutorFactory}
+ * each use their own leaf command instance, and measures concurrent invocation throughput.
+ */
+class FcliCommandExecutorFactoryTest {
+    private static final Logger LOG = LoggerFactory.getLogger(FcliCommandExecutorFactoryTest.class);
+    private static final int THREADS = 8;
+    private static final int INVOCATIONS_PER_THREAD = 250;
+
+    @Command(name="root", subcommands = ContainerCommand.class)
+    static class RootCommand {}
+
+    @Command(name="container", aliases = "c", subcommands = EchoCommand.class)
+    static class ContainerCommand {}
+
+    @Command(name="echo")
+    static class EchoCommand extends AbstractRunnableCommand {
+        @Option(names="--value", required=true) private int value;
+        @Option(names="--offset", defaultValue="0") private int offset;
+
+        @Override
+        public Integer call() {
+            Thread.yield(); // Increase chance of detecting shared state between invocations
+            return value+offset;
+        }
+    }
+
+    @Command(name="root", subcommands = OtherContainerCommand.class)
+    static class OtherRootCommand {}
+
+    @Command(name="container", aliases = "c", subcommands = DoubleCommand.class)
+    static class OtherContainerCommand {}
+
+    @Command(name="echo")
+    static class DoubleCommand extends AbstractRunnableCommand {
+        @Option(names="--value", required=true) private int value;
+
+        @Override
+        public Integer call() {
+            return value*2;
+        }
+    }
+
+    @BeforeEach
+    void setRootCommandLine() {
+        FcliCommandSpecHelper.setRootCommandLine(new CommandLine(new RootCommand()));
+    }
+
+    @AfterEach
+    void clearRootCommandLine() {
+        FcliCommandSpecHelper.setRootCommandLine(null);
+    }
+
+    @Test
+    void testInvocationWithDefaultOptions() {
+        assertEquals(12, execute("container", "echo", "--value", "2", Map.of("--offset", "10")));
+        assertEquals(5, execute("c", "echo", "--value", "2", Map.of("--offset", "3")));
+        assertEquals(7, execute("container", "echo", "--value", "7", null));
+    }
+
+    @Test
+    void testRootCommandLineReplaced() {
+        assertEquals(3, execute("container", "echo", "--value", "3", null));
+        FcliCommandSpecHelper.setRootCommandLine(new CommandLine(new OtherRootCommand()));
+        assertEquals(6, execute("container", "echo", "--value", "3", null));
+        FcliCommandSpecHelper.setRootCommandLine(new CommandLine(new RootCommand()));
+        assertEquals(3, execute("container", "echo", "--value", "3", null));
+    }
+
+    @Test
+    void testInvalidArgs() {
+        assertNotEquals(0, execute("container", "echo", "--value", "not-a-number", null));
+        assertNotEquals(0, execute("container", "unknown", "--value", "1", null));
+    }
+
+    @Test
+    void testConcurrentInvocations() throws Exception {
+        // Warm-up, also validating sequential throughput for comparison
+        long sequentialNanos = runInvocations(1, INVOCATIONS_PER_THREAD);
+        long concurrentNanos = runInvocations(THREADS, INVOCATIONS_PER_THREAD);
+        LOG.info("Sequential: {} invocations/s, concurrent ({} threads): {} invocations/s",
+                perSecond(INVOCATIONS_PER_THREAD, sequentialNanos), THREADS,
+                perSecond(THREADS*INVOCATIONS_PER_THREAD, concurrentNanos));
+    }
+
+    private long runInvocations(int threads, int invocationsPerThread) throws Exception {
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            long start = System.nanoTime();
+            for ( int t=0; t<threads; t++ ) {
+                int thread = t;
+                futures.add(executor.submit((Callable<Void>)() -> {
+                    for ( int i=0; i<invocationsPerThread; i++ ) {
+                        int value = (thread*invocationsPerThread+i)%100;
+                        assertEquals(value, execute("container", "echo", "--value", String.valueOf(value), null));
+                    }
+                    return null;
+                }));
+            }
+            for ( var f : futures ) { f.get(); }
+            return System.nanoTime()-start;
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+    }
+
+    private static int execute(String container, String leaf, String option, String value, Map<String, String> defaultOptions) {
+        return FcliCommandExecutorFactory.builder()
+                .args(new String[] {container, leaf, option, value})
+                .stdoutOutputType(OutputType.suppress)
+                .stderrOutputType(OutputType.suppress)
+                .defaultOptionsIfNotPresent(defaultOptions)
+                .onFail(r->{})
+                .build().create().execute().getExitCode();
+    }
+
+    private static long perSecond(int invocations, long nanos) {
+        return nanos==0 ? 0 : invocations*TimeUnit.SECONDS.toNanos(1)/nanos;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.crypto.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+import org.jasypt.iv.RandomIvGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+public class EncryptionHelperTest {
+    private static final String PASSWORD = "test-password";
+    private static final String TEXT = "{\"token\":\"secret\",\"url\":\"https://example.com\",\"unicode\":\"\u00e9\u20ac\"}";
+    @TempDir Path tempDir;
+
+    @Test
+    void testRoundTrip() {
+        var helper = new EncryptionHelper(PASSWORD);
+        var encrypted1 = helper.encrypt(TEXT);
+        var encrypted2 = helper.encrypt(TEXT);
+        assertTrue(encrypted1.startsWith("$fcli2$"));
+        assertNotEquals(encrypted1, encrypted2, "Each message should use a unique IV");
+        assertEquals(TEXT, helper.decrypt(encrypted1));
+        assertEquals(TEXT, new EncryptionHelper(PASSWORD).decrypt(encrypted2));
+    }
+
+    @Test
+    void testSaltReusedAfterDecrypt() {
+        var encrypted = new EncryptionHelper(PASSWORD).encrypt(TEXT);
+        var helper = new EncryptionHelper(PASSWORD);
+        helper.decrypt(encrypted);
+        assertEquals(getSalt(encrypted), getSalt(helper.encrypt(TEXT)));
+    }
+
+    @Test
+    void testLegacyDecryptAndRewrite() throws Exception {
+        var legacy = new StandardPBEStringEncryptor();
+        legacy.setAlgorithm("PBEWithHMACSHA512AndAES_256");
+        legacy.setIvGenerator(new RandomIvGenerator());
+        legacy.setPassword(PASSWORD);
+        var file = tempDir.resolve("legacy");
+        Files.writeString(file, legacy.encrypt(TEXT));
+        var helper = new EncryptionHelper(PASSWORD);
+        var contents = helper.read(file);
+        assertEquals(TEXT, contents);
+        helper.save(contents, file);
+        assertTrue(Files.readString(file).startsWith("$fcli2$"));
+        assertEquals(TEXT, helper.read(file));
+    }
+
+    @Test
+    void testInvalidData() {
+        var encrypted = new EncryptionHelper(PASSWORD).encrypt(TEXT);
+        var tampered = encrypted.substring(0, encrypted.length()-4)+"AAAA";
+        assertThrows(FcliTechnicalException.class, ()->new EncryptionHelper("other").decrypt(encrypted));
+        assertThrows(FcliTechnicalException.class, ()->new EncryptionHelper(PASSWORD).decrypt(tampered));
+        assertThrows(FcliTechnicalException.class, ()->new EncryptionHelper(PASSWORD).decrypt("$fcli2$abc"));
+    }
+
+    private static final String getSalt(String encrypted) {
+        return encrypted.split("\\$")[3];
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.transform.fields.AddFieldsTransformer;
+import com.fortify.cli.common.json.transform.fields.RenameFieldsTransformer;
+
+/**
+ * Verifies that {@link CopyOnWriteObjectNode} behaves the same as a regular copy of
+ * the base node for random sequences of modifications, without modifying the base node.
+ */
+public class CopyOnWriteObjectNodeTest {
+    private static final ObjectMapper objectMapper = JsonHelper.getObjectMapper();
+    private static final String[] NAMES = {"a", "b", "c", "d", "e", "f"};
+    
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testRandomModifications(boolean nestedOverlay) throws Exception {
+        var random = new Random(1);
+        for ( int i=0 ; i<10000 ; i++ ) {
+            ObjectNode base = objectMapper.createObjectNode();
+            for ( int j=random.nextInt(6) ; j>0 ; j-- ) { base.put(randomName(random), random.nextInt(100)); }
+            if ( nestedOverlay ) {
+                var overlay = CopyOnWriteObjectNode.of(base);
+                overlay.put(randomName(random), 100);
+                overlay.remove(randomName(random));
+                overlay.rename(randomName(random), randomName(random));
+                base = overlay;
+            }
+            var originalBase = base.toString();
+            var expected = base.deepCopy();
+            var actual = CopyOnWriteObjectNode.of(base);
+            var operations = new ArrayList<String>();
+            for ( int j=0 ; j<8 ; j++ ) {
+                var name = randomName(random);
+                var otherName = randomName(random);
+                var value = random.nextInt(100);
+                switch ( random.nextInt(8) ) {
+                case 0, 1 -> { operations.add("put "+name); expected.put(name, value); actual.put(name, value); }
+                case 2 -> { operations.add("remove "+name); assertEquals(expected.remove(name), actual.remove(name)); }
+                case 3 -> { operations.add("rename "+name+" "+otherName); rename(expected, name, otherName); actual.rename(name, otherName); }
+                case 4 -> { operations.add("iterator remove "+name); iteratorRemove(expected, name); iteratorRemove(actual, name); }
+                case 5 -> { operations.add("set value "+name); setValue(expected, name, value); setValue(actual, name, value); }
+                case 6 -> { operations.add("retain "+name+" "+otherName); expected.retain(name, otherName); actual.retain(name, otherName); }
+                case 7 -> { if ( random.nextInt(10)==0 ) { operations.add("freeze"); actual.freeze(); } }
+                }
+                assertSameContents(expected, actual, originalBase+" "+operations);
+            }
+            assertEquals(originalBase, base.toString(), "Base node must not be modified");
+        }
+    }
+    
+    @Test
+    void testFreeze() {
+        var base = objectMapper.createObjectNode().put("a", 1).put("b", 2);
+        var overlay = CopyOnWriteObjectNode.of(base).rename("a", "x");
+        overlay.put("c", 3);
+        assertFalse(overlay.isFrozen());
+        assertTrue(overlay.freeze().isFrozen());
+        base.put("a", 4).remove("b");
+        assertEquals("{\"x\":1,\"b\":2,\"c\":3}", overlay.toString());
+    }
+    
+    @Test
+    void testTransformers() {
+        var input = objectMapper.createObjectNode().put("project", "p").put("id", 1).put("name", "n");
+        var originalInput = input.toString();
+        var added = new AddFieldsTransformer("extra", "e").transform(input);
+        assertEquals("{\"project\":\"p\",\"id\":1,\"name\":\"n\",\"extra\":\"e\"}", added.toString());
+        var renamed = new RenameFieldsTransformer(new String[] {"project:application", "unknown:other"}).transform(added);
+        assertEquals("{\"application\":\"p\",\"id\":1,\"name\":\"n\",\"extra\":\"e\"}", renamed.toString());
+        // Renaming to an existing field name is handled by copying
+        var replaced = new RenameFieldsTransformer(new String[] {"project:name"}).transform(input);
+        assertEquals("{\"name\":\"n\",\"id\":1}", replaced.toString());
+        assertEquals(originalInput, input.toString());
+    }
+    
+    private static void assertSameContents(ObjectNode expected, ObjectNode actual, String msg) throws Exception {
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual), msg);
+        assertEquals(expected.size(), actual.size(), msg);
+        assertEquals(expected, actual, msg);
+        assertEquals(actual, expected, msg);
+        assertEquals(expected.hashCode(), actual.hashCode(), msg);
+        assertEquals(fieldNames(expected), fieldNames(actual), msg);
+        for ( var name : NAMES ) {
+            assertEquals(expected.get(name), actual.get(name), msg);
+            assertEquals(expected.has(name), actual.has(name), msg);
+        }
+    }
+    
+    private static String randomName(Random random) {
+        return NAMES[random.nextInt(NAMES.length)];
+    }
+    
+    private static List<String> fieldNames(ObjectNode node) {
+        var result = new ArrayList<String>();
+        node.fieldNames().forEachRemaining(result::add);
+        return result;
+    }
+    
+    /** Reference rename implementation, see {@link CopyOnWriteObjectNode#rename(String, String)} */
+    private static void rename(ObjectNode node, String oldName, String newName) {
+        if ( oldName.equals(newName) || !node.has(oldName) ) { return; }
+        var copy = node.deepCopy();
+        node.removeAll();
+        copy.fields().forEachRemaining(e->{
+            if ( e.getKey().equals(oldName) ) { node.set(newName, e.getValue()); }
+            else if ( !e.getKey().equals(newName) ) { node.set(e.getKey(), e.getValue()); }
+        });
+    }
+    
+    private static void iteratorRemove(ObjectNode node, String name) {
+        for ( var it = node.fields(); it.hasNext(); ) {
+            if ( it.next().getKey().equals(name) ) { it.remove(); }
+        }
+    }
+    
+    private static void setValue(ObjectNode node, String name, int value) {
+        node.fields().forEachRemaining(e->{ if ( e.getKey().equals(name) ) { e.setValue(IntNode.valueOf(value)); } });
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.cli.mixin.ICommandHelper;
+import com.fortify.cli.common.output.product.IProductHelper;
+import com.fortify.cli.common.output.product.IResponseMetadataCollector;
+import com.fortify.cli.common.output.transform.IInputTransformer;
+import com.fortify.cli.common.output.transform.IStreamableInputTransformer;
+import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
+import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.util.Break;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.UnirestInstance;
+import picocli.CommandLine;
+
+/**
+ * Verifies that responses parsed in a streaming fashion (through an {@link IStreamableInputTransformer})
+ * produce the same records, in the same order, and the same response metadata as responses parsed
+ * into a full JSON tree, using a local HTTP server that serves multiple pages.
+ */
+public class RequestObjectNodeProducerStreamingParseTest {
+    private static final int PAGE_COUNT = 5;
+    private static final int PAGE_SIZE = 5;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer server;
+    private UnirestInstance unirest;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/records", exchange -> {
+            requestCount.incrementAndGet();
+            var page = Integer.parseInt(exchange.getRequestURI().getQuery().replace("page=", ""));
+            var sb = new StringBuilder("{\"data\":[");
+            for ( int i=0; i<PAGE_SIZE; i++ ) {
+                var id = page*PAGE_SIZE+i;
+                sb.append("{\"id\":").append(id).append(",\"name\":\"record").append(id).append("\"},");
+            }
+            sb.append("null],\"count\":").append(PAGE_COUNT*PAGE_SIZE);
+            if ( page+1<PAGE_COUNT ) {
+                sb.append(",\"links\":{\"next\":{\"href\":\"").append(baseUrl).append("?page=").append(page+1).append("\"}}");
+            }
+            var body = sb.append("}").toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(body); }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:"+server.getAddress().getPort()+"/records";
+        unirest = UnirestHelper.createUnirestInstance();
+    }
+
+    @AfterEach
+    void stopServer() {
+        unirest.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testStreamingMatchesTreeParsing() {
+        var treeHelper = new TestProductHelper();
+        var streamingHelper = new StreamableTestProductHelper();
+        var expected = collect(treeHelper, Integer.MAX_VALUE);
+        var actual = collect(streamingHelper, Integer.MAX_VALUE);
+        assertEquals(PAGE_COUNT*PAGE_SIZE/2, expected.records().size());
+        assertEquals(expected, actual);
+        // Metadata collectors should see an empty records array when parsing in a streaming fashion
+        assertTrue(treeHelper.getCollectedRecordCounts().stream().allMatch(c->c==PAGE_SIZE+1));
+        assertTrue(streamingHelper.getCollectedRecordCounts().stream().allMatch(c->c==0));
+    }
+
+    @Test
+    void testStreamingBreak() {
+        var expected = collect(new TestProductHelper(), 7);
+        requestCount.set(0);
+        var actual = collect(new StreamableTestProductHelper(), 7);
+        assertEquals(7, actual.records().size());
+        assertEquals(expected, actual);
+        // Records 0-13 (with even id's) are on the first 3 pages
+        assertEquals(3, requestCount.get());
+    }
+
+    private Result collect(TestProductHelper productHelper, int maxRecords) {
+        var records = new ArrayList<String>();
+        var producer = RequestObjectNodeProducer.builder()
+                .commandHelper(new TestCommandHelper())
+                .productHelper(productHelper)
+                .applyAllFrom(ObjectNodeProducerApplyFrom.PRODUCT)
+                .unirestInstance(unirest)
+                .recordTransformer(r->((ObjectNode)r).put("transformed", true))
+                .queryExpression(new QueryExpression(new SpelExpressionParser().parseExpression("id%2==0")))
+                .baseRequest(unirest.get(baseUrl+"?page=0"))
+                .build();
+        producer.forEach(r->{
+            records.add(r.toString());
+            return records.size()>=maxRecords ? Break.TRUE : Break.FALSE;
+        });
+        return new Result(records, producer.getResponseMetadata());
+    }
+
+    private static final record Result(List<String> records, ObjectNode metadata) {}
+
+    private static class TestProductHelper implements IProductHelper, IInputTransformer, INextPageUrlProducerSupplier, IResponseMetadataCollector {
+        private final List<Integer> collectedRecordCounts = new ArrayList<>();
+
+        @Override
+        public JsonNode transformInput(JsonNode input) {
+            return input.has("data") ? input.get("data") : input;
+        }
+
+        @Override
+        public INextPageUrlProducer getNextPageUrlProducer() {
+            return (req, resp)->{
+                var next = resp.getBody().at("/links/next/href");
+                return next.isMissingNode() ? null : next.asText();
+            };
+        }
+
+        @Override
+        public ObjectNode collectResponseMetadata(JsonNode responseBody) {
+            collectedRecordCounts.add(responseBody.get("data").size());
+            return ((ObjectNode)responseBody.deepCopy()).retain("count");
+        }
+
+        public List<Integer> getCollectedRecordCounts() { return collectedRecordCounts; }
+    }
+
+    private static final class StreamableTestProductHelper extends TestProductHelper implements IStreamableInputTransformer {
+        @Override
+        public String getRecordsPropertyName() { return "data"; }
+    }
+
+    private static final class TestCommandHelper implements ICommandHelper {
+        @Override public CommandLine.Model.CommandSpec getCommandSpec() { return CommandLine.Model.CommandSpec.create(); }
+        @Override public Object getCommand() { return null; }
+        @Override public <T> Optional<T> getCommandAs(Class<T> type) { return Optional.empty(); }
+    }
+}
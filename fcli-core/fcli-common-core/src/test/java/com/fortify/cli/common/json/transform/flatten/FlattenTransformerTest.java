@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.transform.flatten;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Verifies that records flattened through a compiled flatten plan produce the same output
+ * (including property order) as records flattened by a fresh transformer, for both matching
+ * and non-matching record structures.
+ */
+public class FlattenTransformerTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<String> RECORDS = List.of(
+        "{\"a\":1,\"b\":{\"c\":\"x\",\"d\":[1,2]},\"e\":[\"p\",\"q\"],\"f\":[],\"g\":[{\"h\":1},{\"h\":2}],\"i\":null}",
+        "{\"a\":2,\"b\":{\"c\":\"y\",\"d\":[3]},\"e\":[\"r\"],\"f\":[],\"g\":[{\"h\":3},{\"h\":4}],\"i\":true}",
+        // Different nested array size
+        "{\"a\":3,\"b\":{\"c\":\"y\",\"d\":[3]},\"e\":[\"r\"],\"f\":[],\"g\":[{\"h\":3}],\"i\":true}",
+        // Value replaced by object
+        "{\"a\":{\"z\":1},\"b\":{\"c\":\"y\",\"d\":[3]},\"e\":[\"r\"],\"f\":[],\"g\":[{\"h\":3},{\"h\":4}],\"i\":true}",
+        // Different property order, non-empty array
+        "{\"a\":2,\"b\":{\"d\":[3],\"c\":\"y\"},\"e\":[\"r\"],\"f\":[1],\"g\":[{\"h\":3},{\"h\":4}],\"i\":true}",
+        // Array replaced by value and vice versa
+        "{\"a\":2,\"b\":{\"c\":\"y\",\"d\":[3]},\"e\":\"r\",\"f\":[],\"g\":[{\"h\":3},{\"h\":4}],\"i\":[]}",
+        // Missing property
+        "{\"a\":2,\"b\":{\"c\":\"y\"},\"e\":[\"r\"],\"f\":[],\"g\":[{\"h\":3},{\"h\":4}],\"i\":true}"
+    );
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testPlanMatchesGenericFlattening(boolean flattenNestedArrays) throws Exception {
+        var transformer = new FlattenTransformer(String::toUpperCase, ".", flattenNestedArrays);
+        // Repeat to also cover plan recompilation after multiple mismatches
+        for ( int i=0 ; i<20 ; i++ ) {
+            for ( var record : RECORDS ) {
+                var input = (ObjectNode)objectMapper.readTree(record);
+                var expected = new FlattenTransformer(String::toUpperCase, ".", flattenNestedArrays).transformObjectNode(input);
+                var actual = transformer.transformObjectNode(input);
+                assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual), record);
+            }
+        }
+    }
+}
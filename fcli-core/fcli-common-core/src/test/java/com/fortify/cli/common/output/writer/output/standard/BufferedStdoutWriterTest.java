@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.writer.output.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.common.output.transform.mask.MaskingPrintStream;
+
+public class BufferedStdoutWriterTest {
+    @Test
+    void testMaskingAcrossBufferBoundaries() throws Exception {
+        var bos = new ByteArrayOutputStream();
+        var out = new MaskingPrintStream(new PrintStream(bos, true, StandardCharsets.UTF_8), s->s.replace("SECRET", "******"));
+        try ( var writer = new BufferedStdoutWriter(out, StandardCharsets.UTF_8, 8, 0) ) {
+            for ( int i=0; i<50; i++ ) {
+                // Write in small pieces to make sure the secret crosses buffer boundaries
+                writer.write("record "+i+" SEC");
+                writer.write("RET value");
+                writer.flush();
+                writer.write("\n");
+            }
+            writer.write("last line without newline SECRET");
+        }
+        var result = bos.toString(StandardCharsets.UTF_8);
+        assertEquals(51, result.split("\n").length);
+        assertFalse(result.contains("SECRET"), "Secret should have been masked: "+result);
+        assertTrue(result.endsWith("last line without newline ******"));
+    }
+
+    @Test
+    void testOnlyCompleteLinesAreWrittenBeforeClose() throws Exception {
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        var out = new PrintStream(new OutputStream() {
+            @Override public void write(int b) { chunks.add(String.valueOf((char)b)); }
+            @Override public void write(byte[] b, int off, int len) { chunks.add(new String(b, off, len, StandardCharsets.UTF_8)); }
+        });
+        var writer = new BufferedStdoutWriter(out, StandardCharsets.UTF_8, 16, 10);
+        writer.write("first line\nsecond");
+        // Wait for periodic flush
+        for ( int i=0; i<100 && chunks.isEmpty(); i++ ) { Thread.sleep(10); }
+        assertEquals(List.of("first line\n"), chunks);
+        writer.write(" line with unicode \u00e9\u20ac\n");
+        writer.write("third");
+        writer.close();
+        assertEquals("first line\nsecond line with unicode \u00e9\u20ac\nthird", String.join("", chunks));
+        // All chunks except the last one must consist of complete lines
+        chunks.subList(0, chunks.size()-1).forEach(c->assertTrue(c.endsWith("\n"), "Incomplete line: "+c));
+    }
+
+    @Test
+    void testFlushWritesCompleteLines() throws Exception {
+        var bos = new ByteArrayOutputStream();
+        var out = new PrintStream(bos, true, StandardCharsets.UTF_8);
+        try ( var writer = new BufferedStdoutWriter(out, StandardCharsets.UTF_8, 1024, 0) ) {
+            writer.write("first line\nsecond");
+            writer.flush();
+            assertEquals("first line\n", bos.toString(StandardCharsets.UTF_8));
+            writer.write(" line\n");
+            writer.flush();
+            assertEquals("first line\nsecond line\n", bos.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testFlushTaskCancelledForUnreachableWriter() throws Exception {
+        int initialCount = BufferedStdoutWriter.getScheduledFlushTaskCount();
+        var writer = new BufferedStdoutWriter(new PrintStream(new ByteArrayOutputStream()), StandardCharsets.UTF_8, 1024, 1);
+        writer.write("never closed\n");
+        assertEquals(initialCount+1, BufferedStdoutWriter.getScheduledFlushTaskCount());
+        writer = null;
+        for ( int i=0; i<100 && BufferedStdoutWriter.getScheduledFlushTaskCount()>initialCount; i++ ) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(initialCount, BufferedStdoutWriter.getScheduledFlushTaskCount());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.writer.record.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
+import com.fortify.cli.common.output.writer.record.RecordWriterStyle;
+
+public class RecordWriterJsonTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @ParameterizedTest
+    @CsvSource({
+        "pretty,array,", "pretty,single,", "no-pretty,array,", "no-pretty,single,",
+        "pretty,array,'id,nested.name'", "no-pretty,array,'id,nested.name'"
+    })
+    void testSerializedRecordsMatchDirectlyWrittenRecords(String pretty, String singular, String args) throws Exception {
+        var expected = write(pretty, singular, args, (w,r)->w.append(r));
+        var actual = write(pretty, singular, args, (w,r)->w.append(w.serialize(r)));
+        assertFalse(expected.isBlank());
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "pretty,pretty,,,true", "pretty,no-pretty,,,false", "pretty,pretty,id,,false",
+        "pretty,pretty,id,id,true", "pretty|envelope,pretty|envelope,,,false"
+    })
+    void testSerializationCompatible(String style1, String style2, String args1, String args2, boolean expected) {
+        var writer1 = createWriter(style1.split("\\|"), args1, new StringWriter());
+        var writer2 = createWriter(style2.split("\\|"), args2, new StringWriter());
+        assertEquals(expected, writer1.isSerializationCompatible(writer2));
+        assertEquals(expected, writer2.isSerializationCompatible(writer1));
+    }
+
+    private static String write(String pretty, String singular, String args, BiConsumer<RecordWriterJson, ObjectNode> appender) throws Exception {
+        var result = new StringWriter();
+        try ( var writer = createWriter(new String[] {pretty, singular}, args, result) ) {
+            var recordCount = "single".equals(singular) ? 1 : 3;
+            for ( int i=0; i<recordCount; i++ ) {
+                appender.accept(writer, (ObjectNode)MAPPER.readTree(
+                    "{\"id\":"+i+",\"nested\":{\"name\":\"name\\\""+i+"\",\"list\":[1,{\"x\":[]}],\"empty\":{}}}"));
+            }
+        }
+        assertTrue(result.toString().contains("\"id\""));
+        return result.toString();
+    }
+
+    private static RecordWriterJson createWriter(String[] styleElements, String args, StringWriter writer) {
+        return new RecordWriterJson(RecordWriterConfig.builder()
+                .style(RecordWriterStyle.apply(styleElements))
+                .args(args)
+                .writerSupplier(()->writer)
+                .build());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.writer.record.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
+import com.fortify.cli.common.output.writer.record.RecordWriterStyle;
+import com.fortify.cli.common.util.ConsoleHelper;
+import com.github.freva.asciitable.AsciiTable;
+import com.github.freva.asciitable.Column;
+import com.github.freva.asciitable.HorizontalAlign;
+import com.github.freva.asciitable.OverflowBehaviour;
+
+/**
+ * Verifies that table output, including output rendered in segments from spooled rows, 
+ * matches the output of rendering all rows as a single table, as done by the original
+ * (non-spooling) implementation, and verifies escaping of markdown cell contents.
+ */
+public class RecordWriterTableTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] HEADERS = {"id", "name", "description"};
+
+    @ParameterizedTest
+    @CsvSource({
+        // Row counts below, at, and above SPOOL_THRESHOLD (1000), and spanning multiple segments
+        "border,1", "border,999", "border,1000", "border,1001", "border,2500",
+        "no-border,1", "no-border,1000", "no-border,1001", "no-border,2500",
+        "md-border,1", "md-border,1000", "md-border,1001", "md-border,2500",
+    })
+    void testNoFastOutputMatchesSingleTable(String border, int rowCount) throws Exception {
+        var style = new String[] {border, "no-fast-output"};
+        var rows = createRows(rowCount, !"md-border".equals(border));
+        var expected = renderSingleTable(style, rows);
+        var actual = write(style, rows);
+        if ( "md-border".equals(border) ) {
+            // Blank lines were handled slightly differently by the original implementation 
+            assertEquals(nonBlankLines(expected), nonBlankLines(actual));
+        } else {
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testFastOutputWithSingleBatchMatchesSingleTable() throws Exception {
+        var style = new String[] {"border", "fast-output"};
+        var rows = createRows(50, true);
+        assertEquals(renderSingleTable(style, rows), write(style, rows));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "2500"})
+    void testMarkdownEscaping(int rowCount) throws Exception {
+        var style = new String[] {"md-border", "no-fast-output"};
+        var rows = new ArrayList<String[]>();
+        for ( int i=0; i<rowCount; i++ ) {
+            rows.add(new String[] {String.valueOf(i), "a|b", i%2==0 ? "line1\nline2" : "line1\r\nline2|x"});
+        }
+        var lines = nonBlankLines(write(style, rows));
+        // Header, header separator and one line per row
+        assertEquals(rowCount+2, lines.size());
+        for ( var line : lines ) {
+            // Each line should have 4 unescaped column separators
+            assertEquals(4, line.replace("\\|", "").chars().filter(c->c=='|').count(), line);
+        }
+        assertTrue(lines.get(2).contains(" a\\|b "), lines.get(2));
+        assertTrue(lines.get(2).contains(" line1<br>line2 "), lines.get(2));
+        if ( rowCount>1 ) {
+            assertTrue(lines.get(3).contains(" line1<br>line2\\|x "), lines.get(3));
+        }
+    }
+
+    @Test
+    void testNoEscapingWithoutMarkdown() throws Exception {
+        var rows = new ArrayList<String[]>();
+        rows.add(new String[] {"1", "a|b", "line1\nline2"});
+        var output = write(new String[] {"border", "no-fast-output"}, rows);
+        assertTrue(output.contains("a|b"), output);
+        assertFalse(output.contains("<br>"), output);
+        assertEquals(renderSingleTable(new String[] {"border", "no-fast-output"}, rows), output);
+    }
+
+    private static List<String[]> createRows(int rowCount, boolean multiLine) {
+        var result = new ArrayList<String[]>();
+        for ( int i=0; i<rowCount; i++ ) {
+            // Vary value lengths, with the longest values in the last segment
+            var description = "description".substring(0, 1+(i*7)%11) + (i>=2000 ? " (long)" : "");
+            if ( multiLine && i%10==3 ) { description = description+"\nsecond line"; }
+            result.add(new String[] {String.valueOf(i), "name"+i, description});
+        }
+        return result;
+    }
+
+    private static String write(String[] style, List<String[]> rows) throws Exception {
+        var result = new StringWriter();
+        var config = RecordWriterConfig.builder()
+                .style(RecordWriterStyle.apply(style))
+                .writerSupplier(()->result)
+                .build();
+        try ( var writer = new RecordWriterTable(config) ) {
+            for ( var row : rows ) {
+                ObjectNode record = MAPPER.createObjectNode();
+                for ( int i=0; i<HEADERS.length; i++ ) { record.put(HEADERS[i], row[i]); }
+                writer.append(record);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Render all rows as a single table, as done by the original implementation in
+     * no-fast-output mode.
+     */
+    private static String renderSingleTable(String[] styleElements, List<String[]> rows) {
+        var style = RecordWriterStyle.apply(styleElements);
+        var borders = getBorders(style);
+        var columnWidths = calculateColumnWidths(borders, rows);
+        var columns = new Column[HEADERS.length];
+        for ( int i=0; i<HEADERS.length; i++ ) {
+            int paddedWidth = columnWidths[i]+2;
+            columns[i] = new Column().dataAlign(HorizontalAlign.LEFT).headerAlign(HorizontalAlign.LEFT)
+                    .header(HEADERS[i])
+                    .minWidth(paddedWidth).maxWidth(paddedWidth, style.isWrap() ? OverflowBehaviour.NEWLINE : OverflowBehaviour.ELLIPSIS_RIGHT);
+        }
+        var result = AsciiTable.getTable(borders, columns, rows.toArray(String[][]::new));
+        if ( style.isMarkdownBorder() ) {
+            result = result.replaceAll("(?m)^\\s+$", "").replaceAll("(?m)^\\n", "");
+        }
+        return result+"\n";
+    }
+
+    private static int[] calculateColumnWidths(Character[] borders, List<String[]> rows) {
+        int cols = HEADERS.length;
+        int[] minWidths = new int[cols];
+        int[] maxWidths = new int[cols];
+        for ( int i=0; i<cols; i++ ) {
+            minWidths[i] = Math.max(6, HEADERS[i].length());
+            maxWidths[i] = minWidths[i];
+            for ( var row : rows ) {
+                for ( var line : row[i].split("\n") ) { maxWidths[i] = Math.max(maxWidths[i], line.length()); }
+            }
+        }
+        Integer terminalWidth = ConsoleHelper.getTerminalWidth();
+        if ( terminalWidth==null ) { return maxWidths; }
+        int verticalBorders = borders[0]!=null && borders[3]!=null ? 2 : 0;
+        int remaining = Math.max(0, terminalWidth - (2*cols + cols-1 + verticalBorders) - Arrays.stream(minWidths).sum());
+        int[] finalWidths = Arrays.copyOf(minWidths, cols);
+        boolean progress = true;
+        while ( remaining>0 && progress ) {
+            progress = false;
+            for ( int i=0; i<cols && remaining>0; i++ ) {
+                if ( finalWidths[i]<maxWidths[i] ) { finalWidths[i]++; remaining--; progress=true; }
+            }
+        }
+        return finalWidths;
+    }
+
+    private static Character[] getBorders(RecordWriterStyle style) {
+        if ( style.isMarkdownBorder() ) { return "    ||||-|||||               ".chars().mapToObj(c->(char)c).toArray(Character[]::new); }
+        if ( style.isBorder() ) { return AsciiTable.BASIC_ASCII; }
+        return AsciiTable.NO_BORDERS;
+    }
+
+    private static List<String> nonBlankLines(String s) {
+        return s.lines().filter(l->!l.isBlank()).collect(Collectors.toList());
+    }
+}
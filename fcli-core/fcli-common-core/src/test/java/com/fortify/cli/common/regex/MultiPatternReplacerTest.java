@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.regex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class MultiPatternReplacerTest {
+    @Test
+    void testNoRegistrations() {
+        assertEquals("some value", new MultiPatternReplacer().applyReplacements("some value"));
+    }
+
+    @Test
+    void testValueReplacements() {
+        var replacer = new MultiPatternReplacer()
+                .registerValue("secret", "<S1>")
+                .registerValue("password", "<S2>")
+                .registerValue("$1\\", "<S3>");
+        assertEquals("a <S1> and <S2>, <S1><S2><S2> <S3>", 
+                replacer.applyReplacements("a secret and password, secretpasswordpassword $1\\"));
+    }
+
+    @Test
+    void testLongestValueWinsAtSamePosition() {
+        var replacer = new MultiPatternReplacer()
+                .registerValue("abc", "<SHORT>")
+                .registerValue("abcdef", "<LONG>");
+        assertEquals("x<LONG>y<SHORT>z", replacer.applyReplacements("xabcdefyabcz"));
+    }
+
+    @Test
+    void testPatternWithoutGroups() {
+        var replacer = new MultiPatternReplacer().registerPattern("ab+c", "<P>");
+        assertEquals("x<P>y<P>", replacer.applyReplacements("xabbbcyabc"));
+    }
+
+    @Test
+    void testPatternGroupValuesAreReplacedInFutureInput() {
+        var replacer = new MultiPatternReplacer()
+                .registerPattern("token=(\\w+)", "<TOKEN>");
+        assertEquals("token=<TOKEN> other", replacer.applyReplacements("token=abc123 other"));
+        assertEquals("Authorization: <TOKEN>", replacer.applyReplacements("Authorization: abc123"));
+    }
+
+    @Test
+    void testPatternGroupUsesRegisteredValueReplacement() {
+        var replacer = new MultiPatternReplacer()
+                .registerValue("abc123", "<KNOWN>")
+                .registerPattern("token=(\\w+)", "<TOKEN>");
+        assertEquals("token=<KNOWN>", replacer.applyReplacements("token=abc123"));
+    }
+
+    @Test
+    void testCustomReplacementValueConsumer() {
+        var replacer = new MultiPatternReplacer().registerPattern("token=(\\w+)", "<TOKEN>");
+        List<String> found = new ArrayList<>();
+        assertEquals("token=<TOKEN>", replacer.applyReplacements("token=abc", (v,r)->found.add(v)));
+        assertEquals(List.of("abc"), found);
+        assertEquals("abc", replacer.applyReplacements("abc", (v,r)->{}));
+    }
+
+    @Test
+    void testConcurrentApplyAndRegister() throws Exception {
+        var replacer = new MultiPatternReplacer().registerPattern("token=(\\w+)", "<TOKEN>");
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for ( int t=0; t<4; t++ ) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for ( int i=0; i<500; i++ ) {
+                        var value = "v"+thread+"x"+i;
+                        replacer.registerValue(value, "<V>");
+                        assertEquals("a <V> b <TOKEN>", replacer.applyReplacements("a "+value+" b token=t"+thread+"y"+i));
+                    }
+                }));
+            }
+            for ( var f : futures ) { f.get(); }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.fortify.cli.common.util.Break;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.UnirestInstance;
+
+/**
+ * Verifies that {@link ReadAheadPager} delivers pages in order and stops requesting
+ * pages once the processor breaks, using a local HTTP server that serves numbered pages.
+ */
+public class ReadAheadPagerTest {
+    private static final int PAGE_COUNT = 20;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer server;
+    private UnirestInstance unirest;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", exchange -> {
+            requestCount.incrementAndGet();
+            var page = Integer.parseInt(exchange.getRequestURI().getQuery().replace("page=", ""));
+            var next = page+1<PAGE_COUNT ? "\""+baseUrl+"?page="+(page+1)+"\"" : "null";
+            var body = ("{\"page\":"+page+",\"next\":"+next+"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(body); }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:"+server.getAddress().getPort()+"/page";
+        unirest = UnirestHelper.createUnirestInstance();
+    }
+
+    @AfterEach
+    void stopServer() {
+        unirest.close();
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3})
+    void testPagesProcessedInOrder(int maxPagesAhead) {
+        List<Integer> pages = new ArrayList<>();
+        ReadAheadPager.processPagesWithBreak(unirest.get(baseUrl+"?page=0"), nextPageRequestProducer(), maxPagesAhead, r->{
+            pages.add(r.getBody().get("page").asInt());
+            return Break.FALSE;
+        });
+        assertEquals(PAGE_COUNT, pages.size());
+        for ( int i=0; i<PAGE_COUNT; i++ ) { assertEquals(i, pages.get(i)); }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void testBreakStopsLoadingPages(int maxPagesAhead) {
+        List<Integer> pages = new ArrayList<>();
+        ReadAheadPager.processPagesWithBreak(unirest.get(baseUrl+"?page=0"), nextPageRequestProducer(), maxPagesAhead, r->{
+            pages.add(r.getBody().get("page").asInt());
+            return pages.size()==2 ? Break.TRUE : Break.FALSE;
+        });
+        assertEquals(List.of(0, 1), pages);
+        // Pages being processed plus read-ahead pages bound the number of requests
+        assertTrue(requestCount.get()<=2+maxPagesAhead, "Unexpected number of requests: "+requestCount.get());
+    }
+
+    private INextPageRequestProducer nextPageRequestProducer() {
+        return PagingHelper.asNextPageRequestProducer(unirest, (req, resp)->{
+            var next = resp.getBody().get("next");
+            return next==null || next.isNull() ? null : next.asText();
+        });
+    }
+}
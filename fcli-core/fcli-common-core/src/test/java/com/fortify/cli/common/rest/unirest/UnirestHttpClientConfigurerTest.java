@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.unirest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.common.rest.unirest.config.UnirestHttpClientConfigurer;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Verifies that Unirest instances with identical trust settings share pooled connections,
+ * even after the instance that originally opened the connection has been closed, and
+ * that shutting down the shared pools closes pooled connections and evictor threads.
+ */
+public class UnirestHttpClientConfigurerTest {
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            var response = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(response); }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void testConnectionReusedAcrossInstances() {
+        var url = "http://127.0.0.1:"+server.getAddress().getPort()+"/ping";
+        for ( int i=0; i<3; i++ ) {
+            try ( var unirest = UnirestHelper.createUnirestInstance() ) {
+                assertEquals("pong", unirest.get(url).asString().getBody());
+            }
+        }
+        assertEquals(3, clientPorts.size());
+        assertEquals(1, clientPorts.stream().distinct().count(), "Expected single pooled connection, got client ports "+clientPorts);
+    }
+
+    @Test
+    void testShutdownPoolsClosesConnections() throws Exception {
+        var url = "http://127.0.0.1:"+server.getAddress().getPort()+"/ping";
+        try ( var unirest = UnirestHelper.createUnirestInstance() ) {
+            assertEquals("pong", unirest.get(url).asString().getBody());
+        }
+        UnirestHttpClientConfigurer.shutdownPools();
+        for ( int i=0; i<100 && countEvictorThreads()>0; i++ ) { Thread.sleep(10); }
+        assertEquals(0, countEvictorThreads());
+        try ( var unirest = UnirestHelper.createUnirestInstance() ) {
+            assertEquals("pong", unirest.get(url).asString().getBody());
+        }
+        assertEquals(2, clientPorts.size());
+        assertNotEquals(clientPorts.get(0), clientPorts.get(1), "Expected new connection after pool shutdown");
+    }
+
+    private static long countEvictorThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t->t.isAlive() && t.getName().startsWith("Connection evictor"))
+                .count();
+    }
+}
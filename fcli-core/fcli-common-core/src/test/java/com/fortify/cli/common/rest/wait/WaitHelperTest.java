@@ -12,12 +12,154 @@
  */
 package com.fortify.cli.common.rest.wait;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.rest.wait.WaitHelper.PollInterval;
+import com.fortify.cli.common.rest.wait.WaitHelper.WaitStatus;
+import com.fortify.cli.common.rest.wait.WaitType.AnyOrAll;
+import com.fortify.cli.common.rest.wait.WaitType.LoopType;
+
 // TODO Add multithreaded tests that emulate actual state changes
 @Timeout(value = 5)
 public class WaitHelperTest {
-    //private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void testBackoffDoublesUpToMaxAndResetsOnStateChange() {
+        var pollInterval = new PollInterval(1000, 5000);
+        assertEquals(1000, pollInterval.getCurrentMillis());
+        pollInterval.update(false);
+        assertEquals(2000, pollInterval.getCurrentMillis());
+        pollInterval.update(false);
+        assertEquals(4000, pollInterval.getCurrentMillis());
+        pollInterval.update(false);
+        assertEquals(5000, pollInterval.getCurrentMillis());
+        pollInterval.update(false);
+        assertEquals(5000, pollInterval.getCurrentMillis());
+        pollInterval.update(true);
+        assertEquals(1000, pollInterval.getCurrentMillis());
+        pollInterval.update(false);
+        assertEquals(2000, pollInterval.getCurrentMillis());
+    }
+    
+    @Test
+    public void testNoBackoffWithoutMaxInterval() {
+        var pollInterval = new PollInterval(1000, 1000);
+        pollInterval.update(false);
+        pollInterval.update(false);
+        assertEquals(1000, pollInterval.getCurrentMillis());
+        // Max interval smaller than interval is treated as no max interval
+        pollInterval = new PollInterval(1000, 500);
+        pollInterval.update(false);
+        assertEquals(1000, pollInterval.getCurrentMillis());
+    }
+    
+    @Test
+    public void testJitterBounds() {
+        var withJitter = new PollInterval(1000, 8000);
+        var withoutJitter = new PollInterval(1000, 1000);
+        for ( int i=0; i<1000; i++ ) {
+            var sleepMillis = withJitter.getSleepMillis(Long.MAX_VALUE);
+            assertTrue(sleepMillis>=1000 && sleepMillis<=1100, "Sleep time out of jitter bounds: "+sleepMillis);
+            assertEquals(1000, withoutJitter.getSleepMillis(Long.MAX_VALUE));
+        }
+        withJitter.update(false);
+        for ( int i=0; i<1000; i++ ) {
+            var sleepMillis = withJitter.getSleepMillis(Long.MAX_VALUE);
+            assertTrue(sleepMillis>=2000 && sleepMillis<=2200, "Sleep time out of jitter bounds: "+sleepMillis);
+        }
+    }
+    
+    @Test
+    public void testSleepCappedAtTimeout() {
+        var pollInterval = new PollInterval(1000, 8000);
+        pollInterval.update(false);
+        assertEquals(300, pollInterval.getSleepMillis(300));
+        assertEquals(0, pollInterval.getSleepMillis(0));
+        assertEquals(0, pollInterval.getSleepMillis(-500));
+        assertEquals(1000, new PollInterval(1000, 1000).getSleepMillis(1500));
+    }
+    
+    @Test
+    public void testRefreshesOnlyWaitingRecords() {
+        var supplierCalls = new AtomicInteger();
+        var refreshCounts = new ConcurrentHashMap<String, AtomicInteger>();
+        // Record a is complete immediately, b after one refresh, c after two refreshes 
+        var refreshesUntilDone = Map.of("a", 0, "b", 1, "c", 2);
+        var result = WaitHelper.builder()
+            .recordsSupplier(u->{
+                supplierCalls.incrementAndGet();
+                return List.of(record("a", "done"), record("b", "running"), record("c", "running"));
+            })
+            .recordRefresher((u,r)->{
+                var id = r.get("id").asText();
+                var count = refreshCounts.computeIfAbsent(id, k->new AtomicInteger()).incrementAndGet();
+                return record(id, count>=refreshesUntilDone.get(id) ? "done" : "running");
+            })
+            .currentStateProperty("state")
+            .matchStates(Set.of("done"))
+            .waitType(new WaitType(LoopType.Until, AnyOrAll.all_match))
+            .intervalPeriod("1s")
+            .timeoutPeriod("1m")
+            .build()
+            .wait(null)
+            .getResult();
+        assertEquals(1, supplierCalls.get());
+        assertEquals(null, refreshCounts.get("a"));
+        assertEquals(1, refreshCounts.get("b").get());
+        assertEquals(2, refreshCounts.get("c").get());
+        assertEquals(List.of("a", "b", "c"), result.keySet().stream().map(r->r.get("id").asText()).toList());
+        assertTrue(result.values().stream().allMatch(WaitStatus.WAIT_COMPLETE::equals));
+    }
+    
+    @Test
+    public void testRefreshThreadsReusedAcrossPollsAndStoppedAfterWait() throws Exception {
+        var refreshCounts = new ConcurrentHashMap<String, AtomicInteger>();
+        var refreshThreads = ConcurrentHashMap.<Thread>newKeySet();
+        WaitHelper.builder()
+            .recordsSupplier(u->List.of(record("a", "running"), record("b", "running"), record("c", "running")))
+            .recordRefresher((u,r)->{
+                refreshThreads.add(Thread.currentThread());
+                var id = r.get("id").asText();
+                var count = refreshCounts.computeIfAbsent(id, k->new AtomicInteger()).incrementAndGet();
+                return record(id, count>=2 ? "done" : "running");
+            })
+            .maxConcurrentRefreshes(2)
+            .currentStateProperty("state")
+            .matchStates(Set.of("done"))
+            .waitType(new WaitType(LoopType.Until, AnyOrAll.all_match))
+            .intervalPeriod("1s")
+            .timeoutPeriod("1m")
+            .build()
+            .wait(null);
+        // All poll iterations share the same executor, so no more threads than
+        // the configured maximum number of concurrent refreshes are ever started
+        assertTrue(refreshThreads.size()<=2, "Unexpected number of refresh threads: "+refreshThreads.size());
+        for ( var thread : refreshThreads ) {
+            thread.join(1000);
+            assertFalse(thread.isAlive(), "Refresh thread still running after wait: "+thread);
+        }
+    }
+    
+    private static final JsonNode record(String id, String state) {
+        ObjectNode result = objectMapper.createObjectNode();
+        return result.put("id", id).put("state", state);
+    }
+    
     /*
     @Test
     public void testNoRequests() {
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.session.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder.ContextFrame;
+import com.fortify.cli.common.crypto.helper.EncryptionHelper;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Tests for the session index maintained by {@link AbstractSessionHelper}.
+ */
+class AbstractSessionHelperTest {
+    private static final String DATA_DIR_PROPERTY = EnvHelper.envSystemPropertyName("FCLI_DATA_DIR");
+    
+    @TempDir
+    Path tempDir;
+    private ContextFrame frame;
+    private TestSessionHelper helper;
+    
+    @BeforeEach
+    void setup() {
+        System.setProperty(DATA_DIR_PROPERTY, tempDir.toString());
+        frame = FcliExecutionContextHolder.pushNew();
+        helper = new TestSessionHelper();
+    }
+    
+    @AfterEach
+    void cleanup() {
+        frame.close();
+        System.clearProperty(DATA_DIR_PROPERTY);
+    }
+    
+    @Test
+    void testIndexIsEncrypted() throws Exception {
+        helper.save("s1", new TestSessionDescriptor("https://secret.example.com", 1000L));
+        assertEquals(Map.of("s1", "https://secret.example.com"), urls(helper));
+        var contents = Files.readString(indexFile());
+        assertTrue(contents.startsWith("$fcli2$"), "Session index isn't encrypted");
+        assertFalse(contents.contains("secret.example.com"), "Session index contains plain-text URL");
+    }
+    
+    @Test
+    void testSummariesServedFromIndex() throws Exception {
+        helper.save("s1", new TestSessionDescriptor("https://one", 1000L));
+        helper.save("s2", new TestSessionDescriptor("https://two", 2000L));
+        var expected = Map.of("s1", "https://one", "s2", "https://two");
+        // Index is populated on save, so listing doesn't need to read any session descriptors 
+        assertEquals(expected, urls(helper));
+        assertEquals(0, helper.descriptorReads);
+        // Other helper instances share the same index
+        var otherHelper = new TestSessionHelper();
+        assertEquals(expected, urls(otherHelper));
+        assertEquals(0, otherHelper.descriptorReads);
+        var created = otherHelper.sessionSummaries().stream()
+                .collect(Collectors.toMap(SessionSummary::getName, s->s.getCreated().getTime()));
+        assertEquals(Map.of("s1", 1000L, "s2", 2000L), created);
+    }
+    
+    @Test
+    void testIndexRebuiltIfMissing() throws Exception {
+        helper.save("s1", new TestSessionDescriptor("https://one", 1000L));
+        helper.save("s2", new TestSessionDescriptor("https://two", 2000L));
+        Files.delete(indexFile());
+        assertEquals(Map.of("s1", "https://one", "s2", "https://two"), urls(helper));
+        assertEquals(2, helper.descriptorReads);
+        assertTrue(Files.exists(indexFile()), "Session index wasn't rebuilt");
+        assertEquals(Map.of("s1", "https://one", "s2", "https://two"), urls(helper));
+        assertEquals(2, helper.descriptorReads);
+    }
+    
+    @Test
+    void testIndexRebuiltIfCorrupt() throws Exception {
+        helper.save("s1", new TestSessionDescriptor("https://one", 1000L));
+        Files.writeString(indexFile(), "not a valid index");
+        assertEquals(Map.of("s1", "https://one"), urls(helper));
+        assertEquals(1, helper.descriptorReads);
+        assertTrue(Files.readString(indexFile()).startsWith("$fcli2$"), "Session index wasn't rebuilt");
+    }
+    
+    @Test
+    void testIndexInvalidatedOnExternalSessionWrite() throws Exception {
+        helper.save("s1", new TestSessionDescriptor("https://one", 1000L));
+        helper.save("s2", new TestSessionDescriptor("https://two", 2000L));
+        assertEquals(Map.of("s1", "https://one", "s2", "https://two"), urls(helper));
+        // Simulate other fcli process updating s1 and adding s3, bypassing this process' helper
+        writeExternal("s1", new TestSessionDescriptor("https://updated", 3000L));
+        writeExternal("s3", new TestSessionDescriptor("https://three", 4000L));
+        assertEquals(Map.of("s1", "https://updated", "s2", "https://two", "s3", "https://three"), urls(helper));
+        assertEquals(2, helper.descriptorReads);
+        assertEquals("https://updated", helper.get("s1", true).getUrl());
+        // Simulate other fcli process logging out of s2
+        Files.delete(sessionFile("s2"));
+        assertEquals(Map.of("s1", "https://updated", "s3", "https://three"), urls(helper));
+    }
+    
+    @Test
+    void testIndexUpdatedOnDestroy() throws Exception {
+        helper.save("s1", new TestSessionDescriptor("https://one", 1000L));
+        helper.save("s2", new TestSessionDescriptor("https://two", 2000L));
+        helper.destroy("s1");
+        assertEquals(Map.of("s2", "https://two"), urls(new TestSessionHelper()));
+    }
+    
+    @Test
+    void testIndexNotSavedWithEphemeralEncryption() throws Exception {
+        FcliExecutionContextHolder.current().enableEphemeralEncryption();
+        helper.save("s1", new TestSessionDescriptor("https://one", 1000L));
+        assertEquals(Map.of("s1", "https://one"), urls(helper));
+        assertFalse(Files.exists(indexFile()), "Session index saved with ephemeral encryption");
+    }
+    
+    private void writeExternal(String sessionName, TestSessionDescriptor descriptor) throws Exception {
+        var file = sessionFile(sessionName);
+        var existed = Files.exists(file);
+        var lastModified = existed ? Files.getLastModifiedTime(file).toMillis() : 0L;
+        EncryptionHelper.DEFAULT.save(JsonHelper.getObjectMapper().writeValueAsString(descriptor), file);
+        if ( existed ) {
+            // Make sure modification is detected even on file systems with coarse time stamps
+            Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified+10000));
+        }
+    }
+    
+    private static Map<String, String> urls(TestSessionHelper helper) {
+        return helper.sessionSummaries().stream()
+                .collect(Collectors.toMap(SessionSummary::getName, SessionSummary::getUrl, (a,b)->a, TreeMap::new));
+    }
+    
+    private Path sessionsDir() {
+        return tempDir.resolve("state").resolve("sessions");
+    }
+    
+    private Path sessionFile(String sessionName) {
+        return sessionsDir().resolve("test").resolve(sessionName);
+    }
+    
+    private Path indexFile() {
+        return sessionsDir().resolve("test.index.json");
+    }
+    
+    private static final class TestSessionHelper extends AbstractSessionHelper<TestSessionDescriptor> {
+        private int descriptorReads;
+        
+        @Override
+        public String getType() {
+            return "test";
+        }
+        
+        @Override
+        protected String getLoginCmd() {
+            return "fcli test session login";
+        }
+        
+        @Override
+        protected Class<TestSessionDescriptor> getSessionDescriptorType() {
+            descriptorReads++;
+            return TestSessionDescriptor.class;
+        }
+    }
+    
+    public static final class TestSessionDescriptor implements ISessionDescriptor {
+        private String url;
+        private Date createdDate;
+        private Date expiryDate;
+        
+        public TestSessionDescriptor() {}
+        
+        private TestSessionDescriptor(String url, long created) {
+            this.url = url;
+            this.createdDate = new Date(created);
+        }
+        
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        @Override public String getUrlDescriptor() { return url; }
+        @Override public Date getCreatedDate() { return createdDate; }
+        public void setCreatedDate(Date createdDate) { this.createdDate = createdDate; }
+        @Override public Date getExpiryDate() { return expiryDate; }
+        public void setExpiryDate(Date expiryDate) { this.expiryDate = expiryDate; }
+        @Override public String getType() { return "test"; }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.common.TemplateParserContext;
+
+import com.fortify.cli.common.json.JsonHelper;
+
+public class SpelExpressionCacheTest {
+    @BeforeEach
+    void clearCache() {
+        SpelExpressionCache.clear();
+    }
+
+    @Test
+    void testSameExpressionIsParsedOnce() {
+        var e1 = SpelExpressionCache.parseExpression("links.next.href");
+        var e2 = SpelExpressionCache.parseExpression("links.next.href");
+        assertSame(e1, e2);
+        var stats = SpelExpressionCache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void testParserContextIsPartOfKey() {
+        var plain = SpelExpressionCache.parseExpression("name");
+        var template = SpelExpressionCache.parseExpression("name", new TemplateParserContext("${", "}"));
+        var otherTemplate = SpelExpressionCache.parseExpression("name", new TemplateParserContext("${", "}"));
+        assertNotSame(plain, template);
+        assertSame(template, otherTemplate);
+    }
+
+    @Test
+    void testEvaluatorUsesCache() {
+        var input = JsonHelper.getObjectMapper().createObjectNode().put("name", "value");
+        for ( int i=0; i<3; i++ ) {
+            assertEquals("value", SpelEvaluator.JSON_GENERIC.evaluate("name", input, String.class));
+        }
+        assertEquals(2, SpelExpressionCache.getStats().hits());
+    }
+}
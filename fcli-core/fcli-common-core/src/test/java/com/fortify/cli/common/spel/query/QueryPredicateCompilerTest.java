@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.spel.SpelEvaluator;
+
+/**
+ * Verifies that compiled query predicates produce the same results as SpEL evaluation,
+ * for records with matching, non-matching, missing and differently typed properties.
+ */
+public class QueryPredicateCompilerTest {
+    private static final ObjectMapper om = new ObjectMapper();
+    private static final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final List<String> records = List.of(
+        "{\"severity\":\"Critical\", \"suppressed\":false, \"count\":5, \"score\":7.5, \"big\":12345678901, \"nested\":{\"name\":\"abc\", \"level\":2}}",
+        "{\"severity\":\"Low\", \"suppressed\":true, \"count\":-1, \"score\":-0.0, \"big\":1, \"nested\":{\"name\":\"xyz\", \"level\":null}}",
+        "{\"severity\":null, \"suppressed\":\"true\", \"count\":\"5\", \"score\":5, \"big\":null, \"nested\":null}",
+        "{\"severity\":[\"Critical\"], \"suppressed\":null, \"count\":5.0, \"score\":{}, \"nested\":{}}",
+        "{\"other\":1}"
+    );
+    
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "severity=='Critical'", "severity!='Critical' and !suppressed", "severity=='Critical' && !suppressed",
+        "!suppressed", "suppressed or count>3", "!(suppressed) || severity eq 'Low'",
+        "count==5", "count!=5", "count<5", "count<=5", "count>-1", "count>=5L", "count==5.0", "count<5.5f",
+        "score>7", "score<0", "score>=-0.0", "score==7.5 and big>12345678900", "big>=1 and big<=1L",
+        "severity<'D'", "severity>='Low'", "severity==null", "severity!=null and count!=null",
+        "nested.name=='abc'", "nested.level>1", "nested.level==null", "suppressed==false",
+        "true", "false or count==5", "count=='5'", "count<'6'"
+    })
+    void testCompiledMatchesSpel(String expression) throws Exception {
+        var spelExpression = parser.parseExpression(expression);
+        assertNotNull(QueryPredicateCompiler.compileCondition(spelExpression), "Expression should be compiled");
+        var queryExpression = new QueryExpression(spelExpression);
+        for ( var json : records ) {
+            var record = om.readTree(json);
+            assertEquals(evaluate(()->SpelEvaluator.JSON_QUERY.evaluate(spelExpression, record, Boolean.class)), 
+                    evaluate(()->queryExpression.matches(record)), expression+" on "+json);
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "severity matches 'Crit.*'", "severity.length()>3", "nested?.name=='abc'", "count+1>5", 
+        "severity=='Critical' and #isBlank(severity)", "nested['name']=='abc'", "count>5 ? true : false"
+    })
+    void testUnsupportedExpressionsNotCompiled(String expression) {
+        assertNull(QueryPredicateCompiler.compileCondition(parser.parseExpression(expression)));
+    }
+    
+    /**
+     * Return the evaluation result, or "error" if evaluation fails. We don't
+     * compare exception types, as QueryExpression wraps the SpEL exception.
+     */
+    private static final Object evaluate(EvaluationSupplier supplier) {
+        try {
+            return supplier.get();
+        } catch ( Exception e ) {
+            return "error";
+        }
+    }
+    
+    @FunctionalInterface
+    private static interface EvaluationSupplier {
+        Boolean get() throws Exception;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.OpEQ;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.spel.SpelNodeHelper;
+import com.fortify.cli.common.util.JavaHelper;
+
+/**
+ * Verifies that query expressions are correctly split into server-side query parameter
+ * values and residual query expressions, and that evaluating the residual query expression 
+ * on the records matching the server-side query gives the same results as evaluating the 
+ * original query expression.
+ */
+public class QueryPushdownTest {
+    private static final ObjectMapper om = new ObjectMapper();
+    private static final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final List<String> records = List.of(
+        "{\"exact\":\"a\", \"partial\":\"b\", \"count\":5, \"nested\":{\"name\":\"abc\"}}",
+        "{\"exact\":\"a\", \"partial\":\"c\", \"count\":1, \"nested\":null}",
+        "{\"exact\":\"a\", \"partial\":\"b\", \"count\":9, \"nested\":null}",
+        "{\"exact\":\"x\", \"partial\":\"b\", \"count\":7}"
+    );
+    // Translate equality checks on 'exact' and 'partial' properties, treating the latter as non-exact
+    private static final IQueryPushdownTranslator translator = new IQueryPushdownTranslator() {
+        private final Map<String, Boolean> exactByPropertyName = Map.of("exact", true, "partial", false);
+        
+        @Override
+        public QueryPushdownTerm translate(SpelNode conjunct) {
+            var opEq = JavaHelper.as(conjunct, OpEQ.class).orElse(null);
+            if ( opEq==null ) { return null; }
+            var propertyName = SpelNodeHelper.operand(opEq, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+            var literalString = SpelNodeHelper.operand(opEq, SpelNodeHelper::literalString).orElse(null);
+            var exact = exactByPropertyName.get(propertyName);
+            return exact==null || literalString==null ? null : new QueryPushdownTerm(propertyName+":"+literalString, exact);
+        }
+        
+        @Override
+        public String combine(List<String> values) {
+            return String.join("+", values);
+        }
+    };
+    
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+        "exact=='a'|exact:a|NONE",
+        "'a'==exact && partial=='b'|exact:a+partial:b|RESIDUAL",
+        "exact=='a' and count>2 and partial=='b'|exact:a+partial:b|RESIDUAL",
+        "(exact=='a' && count>2) && (nested?.name=='abc' && exact=='a')|exact:a+exact:a|RESIDUAL",
+        "exact=='a' or count>2||ORIGINAL",
+        "!(exact=='a') && count>2||ORIGINAL"
+    })
+    void testSplit(String expression, String expectedValue, ResidualType expectedResidualType) throws Exception {
+        var queryExpression = new QueryExpression(parser.parseExpression(expression));
+        var pushdown = QueryPushdown.split(queryExpression, translator);
+        assertEquals(expectedValue, pushdown.getServerSideQueryParamValue());
+        assertEquals(expectedResidualType==ResidualType.NONE, pushdown.isFullyPushedDown());
+        assertEquals(expectedResidualType==ResidualType.ORIGINAL, pushdown.getResidualQueryExpression()==queryExpression);
+        assertTrue(pushdown.isFor(new QueryExpression(parser.parseExpression(expression))));
+        for ( var json : records ) {
+            var record = om.readTree(json);
+            // Simulate server-side filtering on exact conjuncts
+            var matchesServerSide = pushdown.getServerSideQueryParamValue()==null 
+                    || !pushdown.getServerSideQueryParamValue().contains("exact:a") 
+                    || record.get("exact").asText().equals("a");
+            var residual = pushdown.getResidualQueryExpression();
+            var actual = matchesServerSide && (residual==null || residual.matches(record));
+            assertEquals(queryExpression.matches(record), actual, expression+" on "+json);
+        }
+    }
+    
+    private static enum ResidualType { NONE, RESIDUAL, ORIGINAL }
+    
+    @Test
+    void testNotPushedDown() {
+        var queryExpression = new QueryExpression(parser.parseExpression("exact=='a'"));
+        var pushdown = QueryPushdown.notPushedDown(queryExpression, "exact:b");
+        assertEquals("exact:b", pushdown.getServerSideQueryParamValue());
+        assertSame(queryExpression, pushdown.getResidualQueryExpression());
+        assertFalse(pushdown.isFullyPushedDown());
+        assertFalse(pushdown.isFor(new QueryExpression(parser.parseExpression("exact=='b'"))));
+    }
+    
+    @Test
+    void testNoQuery() {
+        var pushdown = QueryPushdown.split(null, translator);
+        assertNull(pushdown.getServerSideQueryParamValue());
+        assertTrue(pushdown.isFullyPushedDown());
+        assertTrue(pushdown.isFor(null));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+
+public class EnvHelperTest {
+    private static final String ENV_NAME = "FCLI_TEST_INTEGER";
+
+    @AfterEach
+    void clearEnv() {
+        System.clearProperty(EnvHelper.envSystemPropertyName(ENV_NAME));
+    }
+
+    @Test
+    void testEnvIntegerDefault() {
+        assertEquals(3, EnvHelper.envInteger(ENV_NAME, 3));
+        setEnv("  ");
+        assertEquals(3, EnvHelper.envInteger(ENV_NAME, 3));
+    }
+
+    @Test
+    void testEnvIntegerValue() {
+        setEnv(" -5 ");
+        assertEquals(-5, EnvHelper.envInteger(ENV_NAME, 3));
+    }
+
+    @Test
+    void testEnvIntegerInvalid() {
+        setEnv("abc");
+        var e = assertThrows(FcliSimpleException.class, ()->EnvHelper.envInteger(ENV_NAME, 3));
+        assertEquals("Environment variable "+ENV_NAME+" must be an integer value, found: abc", e.getMessage());
+    }
+
+    private static void setEnv(String value) {
+        System.setProperty(EnvHelper.envSystemPropertyName(ENV_NAME), value);
+    }
+}
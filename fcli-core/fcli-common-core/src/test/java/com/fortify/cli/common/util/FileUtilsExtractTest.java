@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+
+/**
+ * Tests for FileUtils archive extraction functionality.
+ */
+class FileUtilsExtractTest {
+    @TempDir
+    Path tempDir;
+    private final Map<String, byte[]> contents = new TreeMap<>();
+
+    @BeforeEach
+    void setupContents() {
+        var random = new Random(1);
+        for ( int i=0; i<500; i++ ) {
+            // Include some entries that are too large to be buffered in memory
+            var bytes = new byte[i%100==0 ? 2*1024*1024 : random.nextInt(10000)];
+            random.nextBytes(bytes);
+            contents.put("dir"+(i%10)+"/sub/file"+i+".bin", bytes);
+        }
+    }
+
+    @Test
+    void testExtractZip() throws IOException {
+        var zipFile = tempDir.resolve("test.zip");
+        try ( var zos = new ZipOutputStream(Files.newOutputStream(zipFile)) ) {
+            zos.putNextEntry(new ZipEntry("dir0/"));
+            zos.closeEntry();
+            for ( var e : contents.entrySet() ) {
+                zos.putNextEntry(new ZipEntry(e.getKey()));
+                zos.write(e.getValue());
+                zos.closeEntry();
+            }
+        }
+        var targetDir = tempDir.resolve("zip");
+        FileUtils.extractZip(zipFile.toFile(), targetDir);
+        assertContents(targetDir);
+    }
+
+    @Test
+    void testExtractTarGZ() throws IOException {
+        var tgzFile = tempDir.resolve("test.tgz");
+        try ( var tos = new TarArchiveOutputStream(new GZIPOutputStream(Files.newOutputStream(tgzFile))) ) {
+            // Duplicate entry for the same path; the last entry should win
+            addTarEntry(tos, "dir1/sub/file1.bin", new byte[] {1, 2, 3});
+            for ( var e : contents.entrySet() ) {
+                addTarEntry(tos, e.getKey(), e.getValue());
+            }
+        }
+        var targetDir = tempDir.resolve("tgz");
+        FileUtils.extractTarGZ(tgzFile.toFile(), targetDir);
+        assertContents(targetDir);
+    }
+
+    @Test
+    void testExtractZipWithIllegalPath() throws IOException {
+        var zipFile = tempDir.resolve("illegal.zip");
+        try ( var zos = new ZipOutputStream(Files.newOutputStream(zipFile)) ) {
+            zos.putNextEntry(new ZipEntry("legal.txt"));
+            zos.closeEntry();
+            zos.putNextEntry(new ZipEntry("../illegal.txt"));
+            zos.closeEntry();
+        }
+        var targetDir = tempDir.resolve("illegal");
+        assertThrows(FcliSimpleException.class, ()->FileUtils.extractZip(zipFile.toFile(), targetDir));
+        assertFalse(Files.exists(tempDir.resolve("illegal.txt")));
+        assertFalse(Files.exists(targetDir.resolve("legal.txt")), "No entries should be extracted if any entry path is illegal");
+    }
+
+    private void assertContents(Path targetDir) throws IOException {
+        assertTrue(Files.isDirectory(targetDir.resolve("dir0")));
+        for ( var e : contents.entrySet() ) {
+            assertArrayEquals(e.getValue(), Files.readAllBytes(targetDir.resolve(e.getKey())), e.getKey());
+        }
+    }
+
+    private static void addTarEntry(TarArchiveOutputStream tos, String name, byte[] bytes) throws IOException {
+        var entry = new TarArchiveEntry(name);
+        entry.setSize(bytes.length);
+        tos.putArchiveEntry(entry);
+        tos.write(bytes);
+        tos.closeArchiveEntry();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.variable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Tests for {@link FcliVariableStore} cache validation, invalidation and property index.
+ */
+class FcliVariableStoreTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String DATA_DIR_PROPERTY = EnvHelper.envSystemPropertyName("FCLI_DATA_DIR");
+    private static final Path VAR_DIR = Path.of("state", "vars", "test");
+    private static final Path CONTENTS = VAR_DIR.resolve("contents.json");
+    
+    @TempDir
+    Path tempDir;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    
+    @BeforeEach
+    void setDataDir() throws IOException {
+        System.setProperty(DATA_DIR_PROPERTY, tempDir.toString());
+        Files.createDirectories(tempDir.resolve(VAR_DIR));
+    }
+    
+    @AfterEach
+    void clearDataDir() {
+        FcliVariableStore.invalidate(VAR_DIR);
+        System.clearProperty(DATA_DIR_PROPERTY);
+    }
+    
+    @Test
+    void testCachedUntilModified() throws Exception {
+        write("{\"v\":1}");
+        var first = FcliVariableStore.get(CONTENTS, loader("a"));
+        assertSame(first, FcliVariableStore.get(CONTENTS, loader("b")));
+        assertEquals(1, loads.get());
+        write("{\"v\":12}");
+        assertEquals("b", FcliVariableStore.get(CONTENTS, loader("b")).get("value").asText());
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void testReloadOnModifiedTimeWithSameSize() throws Exception {
+        write("{\"v\":1}");
+        FcliVariableStore.get(CONTENTS, loader("a"));
+        write("{\"v\":2}");
+        var file = file();
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis()+10000));
+        assertEquals("b", FcliVariableStore.get(CONTENTS, loader("b")).get("value").asText());
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void testReloadOnReplacedFileWithSameSizeAndModifiedTime() throws Exception {
+        write("{\"v\":1}");
+        var file = file();
+        var original = Files.readAttributes(file, BasicFileAttributes.class);
+        assumeTrue(original.fileKey()!=null, "File system doesn't provide file keys");
+        FcliVariableStore.get(CONTENTS, loader("a"));
+        var replacement = file.resolveSibling("replacement.json");
+        Files.writeString(replacement, "{\"v\":2}");
+        Files.setLastModifiedTime(replacement, original.lastModifiedTime());
+        Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("b", FcliVariableStore.get(CONTENTS, loader("b")).get("value").asText());
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void testNotCachedIfMissingOrNull() throws Exception {
+        assertEquals("a", FcliVariableStore.get(CONTENTS, loader("a")).get("value").asText());
+        assertEquals("b", FcliVariableStore.get(CONTENTS, loader("b")).get("value").asText());
+        write("{}");
+        assertNull(FcliVariableStore.get(CONTENTS, p->{ loads.incrementAndGet(); return null; }));
+        assertEquals("c", FcliVariableStore.get(CONTENTS, loader("c")).get("value").asText());
+        assertEquals(4, loads.get());
+    }
+    
+    @Test
+    void testInvalidate() throws Exception {
+        write("{}");
+        FcliVariableStore.get(CONTENTS, loader("a"));
+        FcliVariableStore.getProperty(CONTENTS, "value", loader("a"), evaluator());
+        FcliVariableStore.invalidate(VAR_DIR);
+        assertEquals("b", FcliVariableStore.getProperty(CONTENTS, "value", loader("b"), evaluator()));
+        assertEquals(2, loads.get());
+        assertEquals(2, evaluations.get());
+    }
+    
+    @Test
+    void testPropertyIndex() throws Exception {
+        write("{\"v\":1}");
+        assertEquals("a", FcliVariableStore.getProperty(CONTENTS, "value", loader("a"), evaluator()));
+        assertEquals("a", FcliVariableStore.getProperty(CONTENTS, "value", loader("b"), evaluator()));
+        assertEquals(1, loads.get());
+        assertEquals(1, evaluations.get());
+        // Null values are not cached
+        assertNull(FcliVariableStore.getProperty(CONTENTS, "missing", loader("b"), evaluator()));
+        assertNull(FcliVariableStore.getProperty(CONTENTS, "missing", loader("b"), evaluator()));
+        assertEquals(1, loads.get());
+        assertEquals(3, evaluations.get());
+        // Property index is discarded when the file changes
+        write("{\"v\":12}");
+        assertEquals("b", FcliVariableStore.getProperty(CONTENTS, "value", loader("b"), evaluator()));
+        assertEquals(2, loads.get());
+        assertEquals(4, evaluations.get());
+    }
+    
+    @Test
+    void testLargeContentsSoftlyReferenced() throws Exception {
+        write("{\"v\":\""+"x".repeat(1100*1024)+"\"}");
+        assertEquals("a", FcliVariableStore.getProperty(CONTENTS, "value", loader("a"), evaluator()));
+        var entry = getEntry();
+        assertNull(getField(entry, "strongContents"));
+        SoftReference<?> softContents = (SoftReference<?>)getField(entry, "softContents");
+        assertNotNull(softContents.get());
+        // Simulate garbage collection of softly referenced contents
+        softContents.clear();
+        // Indexed property is still available without re-loading contents
+        assertEquals("a", FcliVariableStore.getProperty(CONTENTS, "value", loader("b"), evaluator()));
+        assertEquals(1, loads.get());
+        // Contents are re-loaded if needed, without discarding the property index 
+        assertEquals("b", FcliVariableStore.get(CONTENTS, loader("b")).get("value").asText());
+        assertEquals(2, loads.get());
+        assertEquals("a", FcliVariableStore.getProperty(CONTENTS, "value", loader("c"), evaluator()));
+        assertEquals(1, evaluations.get());
+    }
+    
+    @Test
+    void testSmallContentsStronglyReferenced() throws Exception {
+        write("{}");
+        FcliVariableStore.get(CONTENTS, loader("a"));
+        var entry = getEntry();
+        assertNotNull(getField(entry, "strongContents"));
+        assertNull(getField(entry, "softContents"));
+    }
+    
+    private Function<Path, JsonNode> loader(String value) {
+        return p->{
+            loads.incrementAndGet();
+            return objectMapper.createObjectNode().put("value", value);
+        };
+    }
+    
+    private BiFunction<JsonNode, String, String> evaluator() {
+        return (contents, path)->{
+            evaluations.incrementAndGet();
+            var value = contents.get(path);
+            return value==null ? null : value.asText();
+        };
+    }
+    
+    private Path file() {
+        return tempDir.resolve(CONTENTS);
+    }
+    
+    private void write(String contents) throws IOException {
+        Files.writeString(file(), contents);
+    }
+    
+    private Object getEntry() throws Exception {
+        var entriesField = FcliVariableStore.class.getDeclaredField("ENTRIES");
+        entriesField.setAccessible(true);
+        return ((Map<?,?>)entriesField.get(null)).get(file());
+    }
+    
+    private static Object getField(Object entry, String name) throws Exception {
+        var field = entry.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(entry);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.helper;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.cli.util.FcliExecutionContext;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.progress.helper.IProgressWriter;
+import com.fortify.cli.common.rest.unirest.HttpHeader;
+import com.fortify.cli.common.rest.unirest.URIHelper;
+import com.fortify.cli.common.rest.unirest.UnexpectedHttpResponseException;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.fod._common.util.FoDConstants;
+
+import kong.unirest.HttpRequest;
+import kong.unirest.UnirestException;
+import kong.unirest.UnirestInstance;
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * Chunked uploader for FoD upload endpoints that accept fragmented uploads through
+ * the {@code fragNo} and {@code offset} query parameters. Chunks are read through
+ * positional {@link FileChannel} reads, allowing multiple chunks to be uploaded
+ * concurrently. The final chunk (identified by {@code fragNo=-1}) is only sent
+ * after all other chunks have been uploaded successfully, as FoD starts processing
+ * the upload upon receiving the final chunk; the response of this final chunk
+ * is returned as the upload result.
+ * <p>
+ * Failed chunks are retried individually, so a single transient failure doesn't
+ * require the whole upload to be restarted. Memory usage is bounded by
+ * {@code maxConcurrentChunks * chunkSize}, as chunk buffers are reused.
+ */
+@Builder
+public final class FoDChunkedUploader {
+    public static final String ENV_MAX_CONCURRENT_CHUNKS = "FCLI_FOD_UPLOAD_CONCURRENCY";
+    private static final Logger LOG = LoggerFactory.getLogger(FoDChunkedUploader.class);
+    @NonNull private final UnirestInstance unirest;
+    @NonNull private final HttpRequest<?> baseRequest;
+    @NonNull private final File file;
+    private final IProgressWriter progressWriter;
+    @Builder.Default private final int chunkSize = FoDConstants.DEFAULT_CHUNK_SIZE;
+    @Builder.Default private final int maxConcurrentChunks = getDefaultMaxConcurrentChunks();
+    @Builder.Default private final int maxChunkAttempts = 3;
+    @Builder.Default private final long retryDelayMillis = 1000;
+
+    /**
+     * Upload the configured file, returning the JSON response for the final chunk.
+     */
+    public final JsonNode upload() {
+        if ( !file.exists() || !file.canRead() ) {
+            throw new FcliSimpleException("Could not read file: " + file.getPath());
+        }
+        if ( chunkSize<1 ) {
+            throw new FcliSimpleException("Chunk size must be a positive number");
+        }
+        long fileLength = file.length();
+        long chunkCount = Math.max(1, (fileLength+chunkSize-1)/chunkSize);
+        try ( var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+              var progressMonitor = new FoDFileTransferHelper.FoDProgressMonitor(progressWriter, "Upload") ) {
+            var progress = new ChunkProgress(progressMonitor, file.getName(), fileLength);
+            progress.report();
+            uploadIntermediateChunks(channel, chunkCount-1, progress);
+            long lastOffset = (chunkCount-1)*chunkSize;
+            var lastChunk = new byte[(int)(fileLength-lastOffset)];
+            readChunk(channel, lastChunk, lastOffset);
+            var lastBody = uploadChunk(-1, lastOffset, lastChunk);
+            progress.add(lastChunk.length);
+            return JsonHelper.getObjectMapper().readTree(lastBody);
+        } catch ( FcliSimpleException e ) {
+            throw e;
+        } catch ( Exception e ) {
+            throw new FcliSimpleException("Error uploading file", e);
+        }
+    }
+
+    private void uploadIntermediateChunks(FileChannel channel, long chunkCount, ChunkProgress progress) throws Exception {
+        if ( chunkCount<1 ) { return; }
+        int concurrency = (int)Math.max(1, Math.min(maxConcurrentChunks, chunkCount));
+        if ( concurrency==1 ) {
+            var buffer = new byte[chunkSize];
+            for ( int fragNo=0; fragNo<chunkCount; fragNo++ ) {
+                uploadIntermediateChunk(channel, fragNo, buffer, progress);
+            }
+        } else {
+            uploadIntermediateChunksConcurrently(channel, chunkCount, concurrency, progress);
+        }
+    }
+
+    private void uploadIntermediateChunksConcurrently(FileChannel channel, long chunkCount, int concurrency, ChunkProgress progress) throws Exception {
+        var parentContext = FcliExecutionContextHolder.tryCurrentContext();
+        BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(concurrency);
+        for ( int i=0; i<concurrency; i++ ) { buffers.add(new byte[chunkSize]); }
+        var failure = new AtomicReference<Throwable>();
+        List<Future<?>> futures = new ArrayList<>();
+        var executor = Executors.newFixedThreadPool(concurrency, r -> {
+            var t = new Thread(r, "fcli-fod-upload");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            for ( int i=0; i<chunkCount && failure.get()==null; i++ ) {
+                // Blocks until a buffer becomes available, bounding the number of chunks in flight
+                var buffer = buffers.take();
+                int fragNo = i;
+                futures.add(executor.submit(() -> {
+                    try {
+                        runInContext(parentContext, () -> uploadIntermediateChunk(channel, fragNo, buffer, progress));
+                    } catch ( Throwable t ) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        buffers.add(buffer);
+                    }
+                }));
+            }
+            for ( var future : futures ) { future.get(); }
+        } catch ( ExecutionException e ) {
+            failure.compareAndSet(null, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        var t = failure.get();
+        if ( t instanceof Exception e ) { throw e; }
+        if ( t instanceof Error e ) { throw e; }
+    }
+
+    private void uploadIntermediateChunk(FileChannel channel, int fragNo, byte[] buffer, ChunkProgress progress) throws IOException {
+        long offset = (long)fragNo*chunkSize;
+        readChunk(channel, buffer, offset);
+        uploadChunk(fragNo, offset, buffer);
+        progress.add(buffer.length);
+    }
+
+    private static void readChunk(FileChannel channel, byte[] buffer, long offset) throws IOException {
+        var byteBuffer = ByteBuffer.wrap(buffer);
+        while ( byteBuffer.hasRemaining() ) {
+            if ( channel.read(byteBuffer, offset+byteBuffer.position())<0 ) {
+                throw new EOFException("Unexpected end of file at offset "+(offset+byteBuffer.position()));
+            }
+        }
+    }
+
+    private String uploadChunk(int fragNo, long offset, byte[] data) {
+        for ( int attempt=1; ; attempt++ ) {
+            try {
+                var response = unirest.request(baseRequest.getHttpMethod().name(), getUri(fragNo, offset))
+                        // Use headerReplace to replace rather than add headers (avoid duplicates with defaults)
+                        .headerReplace(HttpHeader.CONTENT_TYPE, "application/octet-stream")
+                        .headerReplace(HttpHeader.ACCEPT, "application/json")
+                        .body(data)
+                        .asString();
+                if ( !response.isSuccess() ) { throw new UnexpectedHttpResponseException(response); }
+                return response.getBody();
+            } catch ( UnirestException e ) {
+                if ( attempt>=maxChunkAttempts || !isRetryable(e) ) { throw e; }
+                LOG.debug("Upload of chunk {} (offset {}) failed on attempt {}, retrying", fragNo, offset, attempt, e);
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private static boolean isRetryable(UnirestException e) {
+        if ( e instanceof UnexpectedHttpResponseException ue ) {
+            var status = ue.getStatus();
+            return status>=500 || status==408 || status==429;
+        }
+        return true; // Connection failures, timeouts, ...
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryDelayMillis*attempt);
+        } catch ( InterruptedException ie ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Interrupted while waiting to retry chunk upload", ie);
+        }
+    }
+
+    private String getUri(int fragNo, long offset) {
+        URI uri = URI.create(baseRequest.getUrl());
+        uri = URIHelper.addOrReplaceParam(uri, "fragNo", fragNo);
+        uri = URIHelper.addOrReplaceParam(uri, "offset", offset);
+        return uri.toString();
+    }
+
+    private static void runInContext(FcliExecutionContext parentContext, IOAction action) throws IOException {
+        if ( parentContext==null ) {
+            action.run();
+        } else {
+            try ( var frame = FcliExecutionContextHolder.push(parentContext.createChild()) ) {
+                action.run();
+            }
+        }
+    }
+
+    private static int getDefaultMaxConcurrentChunks() {
+        return Math.max(1, EnvHelper.envInteger(ENV_MAX_CONCURRENT_CHUNKS, 4));
+    }
+
+    @FunctionalInterface
+    private static interface IOAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Tracks number of bytes uploaded; as chunks may complete concurrently and in any order,
+     * we report the total number of bytes uploaded so far rather than the chunk offset.
+     */
+    private static final class ChunkProgress {
+        private final FoDFileTransferHelper.FoDProgressMonitor progressMonitor;
+        private final String fileName;
+        private final long totalBytes;
+        private final AtomicLong bytesComplete = new AtomicLong();
+
+        private ChunkProgress(FoDFileTransferHelper.FoDProgressMonitor progressMonitor, String fileName, long totalBytes) {
+            this.progressMonitor = progressMonitor;
+            this.fileName = fileName;
+            this.totalBytes = totalBytes;
+        }
+
+        private void add(long bytes) {
+            bytesComplete.addAndGet(bytes);
+            report();
+        }
+
+        private synchronized void report() {
+            progressMonitor.accept(null, fileName, bytesComplete.get(), totalBytes);
+        }
+    }
+}
@@ -13,17 +13,11 @@
 package com.fortify.cli.fod._common.rest.helper;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.Arrays;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.progress.helper.IProgressWriter;
-import com.fortify.cli.common.rest.unirest.HttpHeader;
-import com.fortify.cli.common.rest.unirest.URIHelper;
 import com.fortify.cli.fod._common.util.FoDConstants;
 
 import kong.unirest.HttpRequest;
@@ -37,9 +31,6 @@ import lombok.SneakyThrows;
 //      generic class in fcli-common.
 public final class FoDFileTransferHelper {
 
-    private static int chunkSize = FoDConstants.DEFAULT_CHUNK_SIZE;
-    public static void setChunkSize(int chunkSize) { FoDFileTransferHelper.chunkSize = chunkSize; }
-
     @SneakyThrows
     public static final JsonNode upload(UnirestInstance unirest, HttpRequest<?> baseRequest, File f, IProgressWriter progressWriter) {
         if (!f.exists() || !f.canRead()) {
@@ -57,62 +48,32 @@ public final class FoDFileTransferHelper {
         } catch (Exception e) {
             throw new FcliSimpleException("Error uploading file", e);
         }
-        return new ObjectMapper().readTree(body);
+        return JsonHelper.getObjectMapper().readTree(body);
     }
 
-    @SneakyThrows
+    /**
+     * Upload the given file in chunks of {@link FoDConstants#DEFAULT_CHUNK_SIZE} bytes,
+     * see {@link FoDChunkedUploader} for details.
+     */
     public static final JsonNode uploadChunked(UnirestInstance unirest, HttpRequest<?> baseRequest, File f, IProgressWriter progressWriter) {
-        if (!f.exists() || !f.canRead()) {
-            throw new FcliSimpleException("Could not read file: " + f.getPath());
-        }
-        long fileLen = f.length();
-        String lastBody = null;
-        try (var fs = new FileInputStream(f); var progressMonitor = new FoDProgressMonitor(progressWriter, "Upload"); ) {
-            byte[] readByteArray = new byte[chunkSize];
-            byte[] sendByteArray;
-            int fragmentNumber = 0;
-            int byteCount;
-            long offset = 0;
-
-            // loop through chunks
-            while ((byteCount = fs.read(readByteArray)) != -1) {
-
-                if (byteCount < chunkSize) {
-                    sendByteArray = Arrays.copyOf(readByteArray, byteCount);
-                    fragmentNumber = -1;
-                } else {
-                    sendByteArray = readByteArray;
-                }
-
-                lastBody = unirest.request(
-                                String.valueOf(baseRequest.getHttpMethod()),
-                                getUri(baseRequest, fragmentNumber++, offset))
-                        // Use headerReplace to replace rather than add headers (avoid duplicates with defaults)
-                        .headerReplace(HttpHeader.CONTENT_TYPE, "application/octet-stream")
-                        .headerReplace(HttpHeader.ACCEPT, "application/json")
-                        .body(sendByteArray)
-                        .asString()
-                        .getBody();
-                progressMonitor.accept(baseRequest.getUrl(), f.getName(), offset, fileLen);
-                offset += byteCount;
-            }
-            progressMonitor.accept(baseRequest.getUrl(), f.getName(), offset, fileLen);
-        } catch (Exception e) {
-            throw new FcliSimpleException("Error uploading file", e);
-        }
-
-        return new ObjectMapper().readTree(lastBody);
+        return uploadChunked(unirest, baseRequest, f, progressWriter, FoDConstants.DEFAULT_CHUNK_SIZE);
     }
 
-    private static final String getUri(HttpRequest<?> baseRequest, int fragmentNumber, long offset) throws URISyntaxException {
-        URI uri = URI.create(baseRequest.getUrl());
-        uri = URIHelper.addOrReplaceParam(uri, "fragNo", fragmentNumber);
-        uri = URIHelper.addOrReplaceParam(uri, "offset", offset);
-        return uri.toString();
+    /**
+     * Upload the given file in chunks of the given size, see {@link FoDChunkedUploader} for details.
+     */
+    public static final JsonNode uploadChunked(UnirestInstance unirest, HttpRequest<?> baseRequest, File f, IProgressWriter progressWriter, int chunkSize) {
+        return FoDChunkedUploader.builder()
+                .unirest(unirest)
+                .baseRequest(baseRequest)
+                .file(f)
+                .progressWriter(progressWriter)
+                .chunkSize(chunkSize)
+                .build().upload();
     }
 
     @RequiredArgsConstructor
-    private static final class FoDProgressMonitor implements ProgressMonitor, AutoCloseable {
+    static final class FoDProgressMonitor implements ProgressMonitor, AutoCloseable {
         private final IProgressWriter progressWriter;
         private final String action;
 
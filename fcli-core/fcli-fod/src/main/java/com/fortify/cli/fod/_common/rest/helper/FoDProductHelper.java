@@ -21,7 +21,7 @@ import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.output.product.IProductHelper;
 import com.fortify.cli.common.output.product.IResponseMetadataCollector;
-import com.fortify.cli.common.output.transform.IInputTransformer;
+import com.fortify.cli.common.output.transform.IStreamableInputTransformer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 
@@ -29,7 +29,7 @@ import lombok.SneakyThrows;
 
 // IMPORTANT: When updating/adding any methods in this class, FoDRestCallCommand
 // also likely needs to be updated
-public class FoDProductHelper implements IProductHelper, IInputTransformer, INextPageUrlProducerSupplier, IResponseMetadataCollector 
+public class FoDProductHelper implements IProductHelper, IStreamableInputTransformer, INextPageUrlProducerSupplier, IResponseMetadataCollector 
 {
     public static final FoDProductHelper INSTANCE = new FoDProductHelper(); 
     private FoDProductHelper() {}
@@ -38,6 +38,11 @@ public class FoDProductHelper implements IProductHelper, IInputTransformer, INex
         return FoDPagingHelper.nextPageUrlProducer();
     }
     
+    @Override
+    public String getRecordsPropertyName() {
+        return "items";
+    }
+    
     @Override
     public JsonNode transformInput(JsonNode input) {
         return FoDInputTransformer.getItems(input);
@@ -16,8 +16,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,17 +32,30 @@ import org.springframework.expression.spel.ast.CompoundExpression;
 import org.springframework.expression.spel.ast.InlineList;
 import org.springframework.expression.spel.ast.Literal;
 import org.springframework.expression.spel.ast.MethodReference;
-import org.springframework.expression.spel.ast.OpAnd;
 import org.springframework.expression.spel.ast.OpEQ;
 import org.springframework.expression.spel.ast.OpOr;
 import org.springframework.expression.spel.ast.OperatorMatches;
 
 import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
-import com.fortify.cli.common.spel.AbstractSpelNodeVisitor;
 import com.fortify.cli.common.spel.SpelNodeHelper;
+import com.fortify.cli.common.spel.query.IQueryPushdownTranslator;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryPushdown;
+import com.fortify.cli.common.spel.query.QueryPushdownTerm;
 import com.fortify.cli.common.util.JavaHelper;
 
-public final class FoDFiltersParamGenerator implements IServerSideQueryParamValueGenerator {
+/**
+ * This class generates FoD 'filters' parameter values for the conjuncts of a query expression
+ * that compare a known property against one or more literal values, through equality checks,
+ * 'or' expressions on a single property, inline list 'contains' expressions or simple 'matches'
+ * expressions. FoD filter matching may differ from SpEL evaluation (for example with respect to
+ * case sensitivity or value types), so these filters usually only reduce the number of records
+ * returned by FoD; the corresponding conjuncts are still evaluated client-side. The only exception
+ * are equality checks between properties registered through {@link #addNumeric(String, String)}
+ * and an integer literal, like <code>releaseId==5</code>; as FoD matches numeric fields exactly,
+ * such conjuncts are fully handled by FoD and not evaluated again client-side.
+ */
+public final class FoDFiltersParamGenerator implements IServerSideQueryParamValueGenerator, IQueryPushdownTranslator {
     private static final Logger LOG = LoggerFactory.getLogger(FoDFiltersParamGenerator.class);
     // TODO Review this pattern
     // This should match any characters/sequences that have a special meaning in regex (apart from '|'), 
@@ -49,6 +64,7 @@ public final class FoDFiltersParamGenerator implements IServerSideQueryParamValu
     // where this pattern is used.
     private static final Pattern SPECIAL_REGEX_CHAR_PATTERN = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*[\\[\\].+*?^$(){}]|(?<=\\\\)[\\d\\w]");
     private final Map<String, String> filterNamesByPropertyPaths = new HashMap<>();
+    private final Set<String> numericPropertyPaths = new HashSet<>();
     
     public FoDFiltersParamGenerator add(String propertyPath, String filterName) {
         filterNamesByPropertyPaths.put(propertyPath, filterName);
@@ -59,120 +75,117 @@ public final class FoDFiltersParamGenerator implements IServerSideQueryParamValu
         return add(propertyPath, propertyPath);
     }
 
+    /**
+     * Add a property that always holds an integer value on every record returned by FoD,
+     * like record id's. Equality checks between this property and an integer literal are
+     * translated to exact FoD filters.
+     */
+    public FoDFiltersParamGenerator addNumeric(String propertyPath, String filterName) {
+        numericPropertyPaths.add(propertyPath);
+        return add(propertyPath, filterName);
+    }
+
+    public FoDFiltersParamGenerator addNumeric(String propertyPath) {
+        return addNumeric(propertyPath, propertyPath);
+    }
+
     @Override
     public final String getServerSideQueryParamValue(Expression expression) {
-        return new FoDFilterParamSpELNodeVisitor(expression).getQParamValue();
+        return QueryPushdown.split(new QueryExpression(expression), this).getServerSideQueryParamValue();
     }
     
-    private final class FoDFilterParamSpELNodeVisitor extends AbstractSpelNodeVisitor {
-        private StringBuffer filterParamValue = new StringBuffer();
-        
-        public FoDFilterParamSpELNodeVisitor(Expression expression) {
-            super(expression); visit();
-        }
-
-        public String getQParamValue() {
-            return filterParamValue.isEmpty() ? null : filterParamValue.toString();
-        }
-        
-        @Override
-        protected void visit(SpelNode node) {
-            LOG.trace("Visiting node: "+node);
-            JavaHelper.as(node, OpAnd.class).ifPresent(this::visitAnd);
-            JavaHelper.as(node, OpEQ.class).ifPresent(this::visitEQ);
-            JavaHelper.as(node, OpOr.class).ifPresent(this::visitOr);
-            JavaHelper.as(node, CompoundExpression.class).ifPresent(this::visitCompoundExpression);
-            JavaHelper.as(node, OperatorMatches.class).ifPresent(this::visitOperatorMatches);
-        }
-        
-        private void visitAnd(OpAnd node) {
-            LOG.trace("Processing OpAnd node: "+node);
-            visitChildren(node);
-        }
-        
-        private void visitEQ(OpEQ node) {
-            LOG.trace("Processing OpEq node: "+node);
-            var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
-            var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
-            LOG.trace("OpEQ property: {}, literal: {}", propertyName, literalString);
-            if ( propertyName!=null && literalString!=null ) {
-                addEQ(propertyName, literalString);
-            }
-        }
-        
-        private void visitOr(OpOr node) {
-            LOG.trace("Processing OpOr node: "+node);
-            SpelNodeHelper.mapChildrenStream(node, OpEQ.class).ifPresent(this::collectOr);
-        }
-        
-        private void visitOperatorMatches(OperatorMatches node) {
-            LOG.trace("Processing OperatorMatches node: "+node);
-            var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
-            var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
-            if ( propertyName!=null && literalString!=null ) {
-                if ( !SPECIAL_REGEX_CHAR_PATTERN.matcher(literalString).find() ) {
-                    List<String> values = Arrays.asList(literalString.replaceAll("\\\\", "").split("\\|"));
-                    addOr(propertyName, values);
-                }
-            }
-        }
-        
-        private void visitCompoundExpression(CompoundExpression node) {
-            LOG.trace("Processing CompoundExpression node: "+node);
-            if ( node.getChildCount()==2 ) {
-                var inlineList = JavaHelper.as(node.getChild(0), InlineList.class);
-                var methodReference = JavaHelper.as(node.getChild(1), MethodReference.class);
-                inlineList.ifPresent(list->methodReference.ifPresent(mr->visitInlineListMethodReference(list, mr)));
-            }
-        }
-        
-        private void visitInlineListMethodReference(InlineList inlineList, MethodReference methodReference) {
-            if ( methodReference.getName().equals("contains") && methodReference.getChildCount()==1 ) {
-                var values = SpelNodeHelper.collectChildren(inlineList, Literal.class, SpelNodeHelper::literalStringValue, Collectors.toList());
-                var propertyName = SpelNodeHelper.qualifiedPropertyName(methodReference.getChild(0));
-                propertyName.ifPresent(p->values.ifPresent(v->addOr(p,v)));
-            }
-        }
-
-        private void collectOr(Stream<OpEQ> stream) {
-            // First list entry will be the property name, remaining entries the values to be matched
-            List<String> results = new ArrayList<>();
-            if ( stream.map(opEq->collectOr(opEq, results)).allMatch(Boolean::booleanValue) && results.size()>1 ) {
-                addOr(results.get(0), results.subList(1, results.size()));
-            }
+    @Override
+    public final QueryPushdownTerm translate(SpelNode conjunct) {
+        LOG.trace("Translating node: "+conjunct);
+        var filter = JavaHelper.as(conjunct, OpEQ.class).map(this::translateEQ)
+                .or(()->JavaHelper.as(conjunct, OpOr.class).map(this::translateOr))
+                .or(()->JavaHelper.as(conjunct, CompoundExpression.class).map(this::translateCompoundExpression))
+                .or(()->JavaHelper.as(conjunct, OperatorMatches.class).map(this::translateOperatorMatches))
+                .orElse(null);
+        if ( filter==null ) { return null; }
+        var exact = JavaHelper.as(conjunct, OpEQ.class).filter(this::isNumericEQ).isPresent();
+        return exact ? QueryPushdownTerm.exact(filter) : QueryPushdownTerm.partial(filter);
+    }
+    
+    @Override
+    public final String combine(List<String> values) {
+        return String.join("+", values);
+    }
+    
+    private String translateEQ(OpEQ node) {
+        LOG.trace("Processing OpEq node: "+node);
+        var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+        var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
+        LOG.trace("OpEQ property: {}, literal: {}", propertyName, literalString);
+        return propertyName==null || literalString==null ? null : getFilter(propertyName, literalString);
+    }
+    
+    private boolean isNumericEQ(OpEQ node) {
+        var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+        return propertyName!=null && numericPropertyPaths.contains(propertyName)
+                && SpelNodeHelper.operand(node, SpelNodeHelper::integralLiteralString).isPresent();
+    }
+    
+    private String translateOr(OpOr node) {
+        LOG.trace("Processing OpOr node: "+node);
+        return SpelNodeHelper.mapChildrenStream(node, OpEQ.class).map(this::collectOr).orElse(null);
+    }
+    
+    private String translateOperatorMatches(OperatorMatches node) {
+        LOG.trace("Processing OperatorMatches node: "+node);
+        var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+        var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
+        if ( propertyName==null || literalString==null || SPECIAL_REGEX_CHAR_PATTERN.matcher(literalString).find() ) {
+            return null;
         }
+        List<String> values = Arrays.asList(literalString.replaceAll("\\\\", "").split("\\|"));
+        return getOrFilter(propertyName, values);
+    }
+    
+    private String translateCompoundExpression(CompoundExpression node) {
+        LOG.trace("Processing CompoundExpression node: "+node);
+        if ( node.getChildCount()!=2 ) { return null; }
+        var inlineList = JavaHelper.as(node.getChild(0), InlineList.class).orElse(null);
+        var methodReference = JavaHelper.as(node.getChild(1), MethodReference.class).orElse(null);
+        return inlineList==null || methodReference==null ? null : translateInlineListMethodReference(inlineList, methodReference);
+    }
+    
+    private String translateInlineListMethodReference(InlineList inlineList, MethodReference methodReference) {
+        if ( !methodReference.getName().equals("contains") || methodReference.getChildCount()!=1 ) { return null; }
+        var values = SpelNodeHelper.collectChildren(inlineList, Literal.class, SpelNodeHelper::literalStringValue, Collectors.toList()).orElse(null);
+        var propertyName = SpelNodeHelper.qualifiedPropertyName(methodReference.getChild(0)).orElse(null);
+        return propertyName==null || values==null ? null : getOrFilter(propertyName, values);
+    }
 
-        private boolean collectOr(OpEQ opEq, List<String> result) {
-            var propertyName = SpelNodeHelper.operand(opEq, SpelNodeHelper::qualifiedPropertyName).orElse(null);
-            var literalString = SpelNodeHelper.operand(opEq, SpelNodeHelper::literalString).orElse(null);
-            // We only support equals operators comparing simple property names with literals 
-            if ( propertyName==null || literalString==null ) { return false; }
-            // Add property name if not already added, otherwise check that
-            // previously stored property name matches current property name
-            // (FoD only supports OR operations on single field)
-            if ( result.isEmpty() ) { result.add(propertyName); } 
-            else if ( !propertyName.equals(result.get(0)) ) { return false; }
-            result.add(literalString);
-            return true;
-        }
-        
-        private void addOr(String propertyName, Collection<String> values) {
-            addEQ(propertyName, values.stream().collect(Collectors.joining("|")));
-        }
-        
-        private void addEQ(String propertyName, String value) {
-            String qName = filterNamesByPropertyPaths.get(propertyName);
-            if ( qName!=null ) {
-                addQuery(String.format("%s:%s", qName, value));
-            }
+    private String collectOr(Stream<OpEQ> stream) {
+        // First list entry will be the property name, remaining entries the values to be matched
+        List<String> results = new ArrayList<>();
+        if ( stream.map(opEq->collectOr(opEq, results)).allMatch(Boolean::booleanValue) && results.size()>1 ) {
+            return getOrFilter(results.get(0), results.subList(1, results.size()));
         }
+        return null;
+    }
 
-        private void addQuery(String query) {
-            filterParamValue.append(
-                filterParamValue.isEmpty()
-                    ? query
-                    : ("+"+query)
-            );
-        }
+    private boolean collectOr(OpEQ opEq, List<String> result) {
+        var propertyName = SpelNodeHelper.operand(opEq, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+        var literalString = SpelNodeHelper.operand(opEq, SpelNodeHelper::literalString).orElse(null);
+        // We only support equals operators comparing simple property names with literals 
+        if ( propertyName==null || literalString==null ) { return false; }
+        // Add property name if not already added, otherwise check that
+        // previously stored property name matches current property name
+        // (FoD only supports OR operations on single field)
+        if ( result.isEmpty() ) { result.add(propertyName); } 
+        else if ( !propertyName.equals(result.get(0)) ) { return false; }
+        result.add(literalString);
+        return true;
+    }
+    
+    private String getOrFilter(String propertyName, Collection<String> values) {
+        return getFilter(propertyName, values.stream().collect(Collectors.joining("|")));
+    }
+    
+    private String getFilter(String propertyName, String value) {
+        String qName = filterNamesByPropertyPaths.get(propertyName);
+        return qName==null ? null : String.format("%s:%s", qName, value);
     }
 }
\ No newline at end of file
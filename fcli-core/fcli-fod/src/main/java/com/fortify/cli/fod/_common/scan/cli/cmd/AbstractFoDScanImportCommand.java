@@ -26,6 +26,7 @@ import com.fortify.cli.fod._common.output.cli.cmd.AbstractFoDJsonNodeOutputComma
 import com.fortify.cli.fod._common.rest.FoDUrls;
 import com.fortify.cli.fod._common.rest.helper.FoDFileTransferHelper;
 import com.fortify.cli.fod._common.scan.helper.FoDScanType;
+import com.fortify.cli.fod._common.util.FoDConstants;
 import com.fortify.cli.fod.release.cli.mixin.FoDReleaseByQualifiedNameOrIdResolverMixin;
 
 import kong.unirest.HttpRequest;
@@ -51,13 +52,12 @@ public abstract class AbstractFoDScanImportCommand extends AbstractFoDJsonNodeOu
             var releaseDescriptor = releaseResolver.getReleaseDescriptor(unirest);
             var releaseId = releaseDescriptor.getReleaseId();
             File file = scanFileMixin.getFile();
-            if (chunkSize != null && chunkSize > 0) FoDFileTransferHelper.setChunkSize(chunkSize);
             preUpload(unirest, progressWriter, file);
             var importScanSessionId = getImportScanSessionId(unirest, releaseId);
             HttpRequest<?> baseRequest = getBaseRequest(unirest, releaseId)
                     .queryString("importScanSessionId", importScanSessionId)
                     .queryString("fileLength", file.length());
-            FoDFileTransferHelper.uploadChunked(unirest, baseRequest, file, progressWriter);
+            FoDFileTransferHelper.uploadChunked(unirest, baseRequest, file, progressWriter, getEffectiveChunkSize());
             postUpload(unirest, progressWriter, file);
             return releaseDescriptor.asObjectNode()
                     .put("importScanSessionId", importScanSessionId)
@@ -65,6 +65,10 @@ public abstract class AbstractFoDScanImportCommand extends AbstractFoDJsonNodeOu
         }            
     }
 
+    private int getEffectiveChunkSize() {
+        return chunkSize != null && chunkSize > 0 ? chunkSize : FoDConstants.DEFAULT_CHUNK_SIZE;
+    }
+
     protected abstract HttpRequest<?> getBaseRequest(UnirestInstance unirest, String releaseId);
 
     protected abstract FoDScanType getScanType();
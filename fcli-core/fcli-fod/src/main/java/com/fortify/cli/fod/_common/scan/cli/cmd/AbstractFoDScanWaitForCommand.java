@@ -12,9 +12,14 @@
  */
 package com.fortify.cli.fod._common.scan.cli.cmd;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.cli.util.CommandGroup;
 import com.fortify.cli.common.output.transform.IRecordTransformer;
 import com.fortify.cli.common.rest.cli.cmd.AbstractWaitForCommand;
@@ -39,11 +44,14 @@ public abstract class AbstractFoDScanWaitForCommand extends AbstractWaitForComma
     @Mixin private FoDScanResolverMixin.PositionalParameterMulti scansResolver;
     @Option(names={"-s", "--any-state"}, required=true, split=",", defaultValue="Completed", completionCandidates = FoDScanStatusIterable.class)
     private Set<String> states;
+    // Original (possibly release-qualified) scan specification by scan id, used for refreshing scans
+    private final Map<String, String> scanSpecsById = new HashMap<>();
 
     @Override
     protected final WaitHelperBuilder configure(UnirestInstance unirest, WaitHelperBuilder builder) {
         return builder
-                .recordsSupplier(scansResolver::getScanDescriptorJsonNodes)
+                .recordsSupplier(this::getScanRecords)
+                .recordRefresher(this::refreshScanRecord)
                 .recordTransformer(this::transformRecord)
                 .currentStateProperty("analysisStatusType")
                 .knownStates(FoDScanStatus.getKnownStateNames())
@@ -51,6 +59,21 @@ public abstract class AbstractFoDScanWaitForCommand extends AbstractWaitForComma
                 .matchStates(states);
     }
     
+    private Collection<JsonNode> getScanRecords(UnirestInstance unirest) {
+        var result = new ArrayList<JsonNode>();
+        for ( var scanSpec : scansResolver.getReleaseQualifiedScanOrIds() ) {
+            var record = FoDScanHelper.getScanDescriptor(unirest, scanSpec, delimiterMixin.getDelimiter()).asJsonNode();
+            scanSpecsById.put(transformRecord(record).get("scanId").asText(), scanSpec);
+            result.add(record);
+        }
+        return result;
+    }
+    
+    private JsonNode refreshScanRecord(UnirestInstance unirest, ObjectNode record) {
+        var scanId = record.get("scanId").asText();
+        return FoDScanHelper.getScanDescriptor(unirest, scanSpecsById.getOrDefault(scanId, scanId), delimiterMixin.getDelimiter()).asJsonNode();
+    }
+    
     // TODO Verify that all given scan id's are of given scan type
     protected abstract FoDScanType getScanType();
 
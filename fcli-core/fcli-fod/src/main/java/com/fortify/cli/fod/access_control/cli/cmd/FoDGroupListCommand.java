@@ -39,7 +39,7 @@ public class FoDGroupListCommand extends AbstractFoDBaseRequestOutputCommand imp
     @Mixin private FoDFetchRangeMixin fetchRangeMixin;
     @Mixin private FoDFiltersParamMixin filterParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new FoDFiltersParamGenerator()
-            .add("groupId")
+            .addNumeric("groupId")
             .add("groupName");
 
     @Override
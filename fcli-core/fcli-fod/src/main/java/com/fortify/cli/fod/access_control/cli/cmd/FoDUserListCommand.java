@@ -39,7 +39,7 @@ public class FoDUserListCommand extends AbstractFoDBaseRequestOutputCommand impl
     @Mixin private FoDFetchRangeMixin fetchRangeMixin;
     @Mixin private FoDFiltersParamMixin filterParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new FoDFiltersParamGenerator()
-            .add("userId","userId")
+            .addNumeric("userId","userId")
             .add("userName","userName")
             .add("email", "email")
             .add("roleName", "roleName");
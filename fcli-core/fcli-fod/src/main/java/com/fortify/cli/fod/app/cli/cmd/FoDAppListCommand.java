@@ -36,7 +36,7 @@ public class FoDAppListCommand extends AbstractFoDBaseRequestOutputCommand imple
     @Mixin private FoDFetchRangeMixin fetchRangeMixin;
     @Mixin private FoDFiltersParamMixin filterParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new FoDFiltersParamGenerator()
-            .add("id","applicationId")
+            .addNumeric("id","applicationId")
             .add("name","applicationName")
             .add("criticality", "businessCriticalityType")
             .add("type", "applicationType");
@@ -14,16 +14,22 @@ package com.fortify.cli.fod.issue.cli.cmd;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.cli.util.FcliExecutionContext;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.exception.FcliSimpleException;
-import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.exception.FcliTechnicalException;
 import com.fortify.cli.common.json.producer.AbstractObjectNodeProducer.AbstractObjectNodeProducerBuilder;
 import com.fortify.cli.common.json.producer.IObjectNodeProducer;
 import com.fortify.cli.common.json.producer.ObjectNodeProducerApplyFrom;
@@ -32,6 +38,7 @@ import com.fortify.cli.common.output.cli.mixin.OutputHelperMixins;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamGeneratorSupplier;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
 import com.fortify.cli.common.util.Break;
+import com.fortify.cli.common.util.EnvHelper;
 import com.fortify.cli.fod._common.cli.mixin.FoDAppOrReleaseMixin;
 import com.fortify.cli.fod._common.cli.mixin.FoDDelimiterMixin;
 import com.fortify.cli.fod._common.cli.mixin.FoDFetchRangeMixin;
@@ -43,7 +50,7 @@ import com.fortify.cli.fod.issue.cli.mixin.FoDIssueEmbedMixin;
 import com.fortify.cli.fod.issue.cli.mixin.FoDIssueIncludeMixin;
 import com.fortify.cli.fod.issue.helper.FoDIssueHelper;
 import com.fortify.cli.fod.issue.helper.FoDIssueHelper.IssueAggregationData;
-import com.fortify.cli.fod.release.helper.FoDReleaseDescriptor;
+import com.fortify.cli.fod.issue.helper.FoDIssueHelper.ReleaseIssueMerger;
 import com.fortify.cli.fod.release.helper.FoDReleaseHelper;
 
 import kong.unirest.HttpRequest;
@@ -55,6 +62,7 @@ import picocli.CommandLine.Option;
 
 @Command(name = OutputHelperMixins.List.CMD_NAME)
 public class FoDIssueListCommand extends AbstractFoDOutputCommand implements IServerSideQueryParamGeneratorSupplier {
+    public static final String ENV_MAX_CONCURRENT_RELEASES = "FCLI_FOD_ISSUE_RELEASE_CONCURRENCY";
     @Getter @Mixin private OutputHelperMixins.List outputHelper;
     @Mixin private FoDFetchRangeMixin fetchRangeMixin;
     @Mixin private FoDDelimiterMixin delimiterMixin;
@@ -105,21 +113,20 @@ public class FoDIssueListCommand extends AbstractFoDOutputCommand implements ISe
      * @return Producer streaming transformed issue records for the release
      */
     private AbstractObjectNodeProducerBuilder<?,?> singleReleaseProducerBuilder(UnirestInstance unirest, String releaseId) {
-        return releaseIssuesProducerBuilder(unirest, releaseId);
+        String releaseName = FoDReleaseHelper.getReleaseDescriptorFromId(unirest, Integer.parseInt(releaseId), true).getReleaseName();
+        return releaseIssuesProducerBuilder(unirest, releaseId, releaseName);
     }
 
     /**
      * Build a producer that lists merged issues across all releases for an application. We aggregate
      * issues per release first (reusing existing helper logic), then perform merge & stream results.
-     * Streaming begins once all releases have been processed (merging requires full set).
+     * Streaming begins once all releases have been processed (merging requires full set), but releases
+     * are loaded concurrently and merged as they complete, see {@link #mergedApplicationProducerBuilder}.
      *
      * The merge operation combines issues with identical instanceId across releases, adding fields:
      * vulnIds|vulnIdsString, foundInReleases|foundInReleasesString, foundInReleaseIds|foundInReleaseIdsString,
      * ids|idsString. Ordering is applied by helper (severity desc, category, releaseId).
      *
-     * NOTE: We currently need all issues loaded before streaming because merge logic correlates
-     * across releases. Future optimization could stream partially if helper supports incremental merging.
-     *
      * Server-side filters are computed per release using the same logic as the single-release path,
      * but we must pass the resulting string explicitly to {@link FoDIssueHelper#getReleaseIssues}.
      *
@@ -136,13 +143,13 @@ public class FoDIssueListCommand extends AbstractFoDOutputCommand implements ISe
 
     /** Fast streaming producer for application issues: sequentially streams issues from all releases without merging, de-duplicating on instanceId. */
     private AbstractObjectNodeProducerBuilder<?,?> fastApplicationProducerBuilder(UnirestInstance unirest, String appId) {
-        List<String> releaseIds = loadReleaseIdsForApp(unirest, appId);
-        if ( releaseIds.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
+        Map<String, String> releaseNamesById = loadReleaseNamesByIdForApp(unirest, appId);
+        if ( releaseNamesById.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
         Supplier<Stream<ObjectNode>> streamSupplier = () -> {
             Set<String> seenInstanceIds = new HashSet<>();
-            return releaseIds.stream().flatMap(releaseId -> {
+            return releaseNamesById.entrySet().stream().flatMap(release -> {
                 List<ObjectNode> list = new ArrayList<>();
-                releaseIssuesProducerBuilder(unirest, releaseId).build().forEach(node -> {
+                releaseIssuesProducerBuilder(unirest, release.getKey(), release.getValue()).build().forEach(node -> {
                     if ( node instanceof ObjectNode ) {
                         ObjectNode o = (ObjectNode)node;
                         String instanceId = o.has("instanceId") ? o.get("instanceId").asText() : null;
@@ -160,41 +167,110 @@ public class FoDIssueListCommand extends AbstractFoDOutputCommand implements ISe
                 .streamSupplier(streamSupplier);
     }
 
-    /** Merged application producer; loads all issues then performs merge. */
+    /**
+     * Merged application producer; loads the issues for up to {@value #ENV_MAX_CONCURRENT_RELEASES}
+     * (default 4) releases concurrently, merging the issues for each release as soon as they have
+     * been loaded. Merge results don't depend on the order in which releases complete, as the
+     * merger prefers records from releases listed first, like sequential loading would.
+     */
     private AbstractObjectNodeProducerBuilder<?,?> mergedApplicationProducerBuilder(UnirestInstance unirest, String appId) {
-        List<String> releaseIds = loadReleaseIdsForApp(unirest, appId);
-        if ( releaseIds.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
-        ArrayNode aggregated = JsonHelper.getObjectMapper().createArrayNode();
-        for ( String releaseId : releaseIds ) {
-            releaseIssuesProducerBuilder(unirest, releaseId).build()
-                .forEach(node -> { aggregated.add(node); return Break.FALSE; });
+        Map<String, String> releaseNamesById = loadReleaseNamesByIdForApp(unirest, appId);
+        if ( releaseNamesById.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
+        var merger = new ReleaseIssueMerger();
+        List<Runnable> releaseLoaders = new ArrayList<>();
+        for ( var release : releaseNamesById.entrySet() ) {
+            int releaseOrder = releaseLoaders.size();
+            releaseLoaders.add(() -> releaseIssuesProducerBuilder(unirest, release.getKey(), release.getValue()).build()
+                .forEach(node -> {
+                    if ( node instanceof ObjectNode o ) { merger.add(releaseOrder, o); }
+                    return Break.FALSE;
+                }));
         }
+        runConcurrently(releaseLoaders, getMaxConcurrentReleases());
         return simpleObjectNodeProducerBuilder(ObjectNodeProducerApplyFrom.SPEC)
-                .source(FoDIssueHelper.mergeReleaseIssues(aggregated));
+                .source(merger.getMergedIssues());
+    }
+
+    /**
+     * Run the given tasks, running at most maxConcurrency tasks concurrently. Tasks are run on
+     * daemon threads in a child of the current fcli execution context (if any). If any task fails,
+     * remaining tasks are cancelled and the failure is rethrown.
+     */
+    private static void runConcurrently(List<Runnable> tasks, int maxConcurrency) {
+        int concurrency = Math.max(1, Math.min(maxConcurrency, tasks.size()));
+        if ( concurrency==1 ) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+        var parentContext = FcliExecutionContextHolder.tryCurrentContext();
+        var executor = Executors.newFixedThreadPool(concurrency, r -> {
+            var t = new Thread(r, "fcli-fod-issues");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            var completionService = new ExecutorCompletionService<Void>(executor);
+            int submitted = 0;
+            int inFlight = 0;
+            while ( submitted<tasks.size() || inFlight>0 ) {
+                while ( inFlight<concurrency && submitted<tasks.size() ) {
+                    var task = tasks.get(submitted++);
+                    completionService.submit(() -> runInContext(parentContext, task), null);
+                    inFlight++;
+                }
+                completionService.take().get();
+                inFlight--;
+            }
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException re ) { throw re; }
+            if ( e.getCause() instanceof Error err ) { throw err; }
+            throw new FcliTechnicalException("Error loading release issues", e.getCause());
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Interrupted while loading release issues", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runInContext(FcliExecutionContext parentContext, Runnable task) {
+        if ( parentContext==null ) {
+            task.run();
+        } else {
+            try ( var frame = FcliExecutionContextHolder.push(parentContext.createChild()) ) {
+                task.run();
+            }
+        }
+    }
+
+    private static int getMaxConcurrentReleases() {
+        return Math.max(1, EnvHelper.envInteger(ENV_MAX_CONCURRENT_RELEASES, 4));
     }
 
-    /** Load release ids for given application using requestObjectNodeProducerBuilder(PRODUCT) for paging/product transformations. */
-    private List<String> loadReleaseIdsForApp(UnirestInstance unirest, String appId) {
-        List<String> releaseIds = new ArrayList<>();
+    /**
+     * Load release ids and names for given application using requestObjectNodeProducerBuilder(PRODUCT)
+     * for paging/product transformations. As the release listing already includes release names, this
+     * avoids having to look up release descriptors for each individual release.
+     */
+    private Map<String, String> loadReleaseNamesByIdForApp(UnirestInstance unirest, String appId) {
+        Map<String, String> releaseNamesById = new LinkedHashMap<>();
         var producer = requestObjectNodeProducerBuilder(ObjectNodeProducerApplyFrom.PRODUCT)
                 .baseRequest(unirest.get(FoDUrls.RELEASES).queryString("filters", "applicationId:"+appId))
                 .build();
         producer.forEach(node -> {
             if ( node.has("releaseId") ) {
-                releaseIds.add(node.get("releaseId").asText());
+                releaseNamesById.put(node.get("releaseId").asText(), node.path("releaseName").asText());
             }
             return Break.FALSE; // continue
         });
-        return releaseIds;
+        return releaseNamesById;
     }
 
     @Override
     public boolean isSingular() { return false; }
 
     // Shared per-release issues producer builder
-    private AbstractObjectNodeProducerBuilder<?,?> releaseIssuesProducerBuilder(UnirestInstance unirest, String releaseId) {
-        FoDReleaseDescriptor releaseDescriptor = FoDReleaseHelper.getReleaseDescriptorFromId(unirest, Integer.parseInt(releaseId), true);
-        String releaseName = releaseDescriptor.getReleaseName();
+    private AbstractObjectNodeProducerBuilder<?,?> releaseIssuesProducerBuilder(UnirestInstance unirest, String releaseId, String releaseName) {
         HttpRequest<?> request = unirest.get(FoDUrls.VULNERABILITIES)
                 .routeParam("relId", releaseId)
                 .queryString("orderBy", "severity")
@@ -133,55 +133,80 @@ public class FoDIssueHelper {
     }
 
     public static final ArrayNode mergeReleaseIssues(ArrayNode issues) {
-        Map<String, ObjectNode> merged = new HashMap<>();
-        Map<String, Set<String>> releaseNamesByInstance = new HashMap<>();
-        Map<String, Set<String>> releaseIdsByInstance = new HashMap<>();
-        Map<String, Set<String>> idsByInstance = new HashMap<>();
-        Map<String, Set<String>> vulnIdsByInstance = new HashMap<>();
-
+        var merger = new ReleaseIssueMerger();
         for (JsonNode record : issues) {
             if (record instanceof ObjectNode objectNode) {
-                String instanceId = objectNode.get("instanceId").asText();
-                String releaseNameVal = objectNode.get("releaseName").asText();
-                String releaseIdVal = objectNode.get("releaseId").asText();
-                String idVal = objectNode.get("id").asText();
-                String vulnIdVal = objectNode.has("vulnId") ? objectNode.get("vulnId").asText() : "";
-
-                releaseNamesByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(releaseNameVal);
-                releaseIdsByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(releaseIdVal);
-                idsByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(idVal);
-                if (!vulnIdVal.isEmpty()) {
-                    vulnIdsByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(vulnIdVal);
-                }
-
-                merged.putIfAbsent(instanceId, (ObjectNode) objectNode.deepCopy());
+                merger.add(0, objectNode.deepCopy());
             }
         }
+        return merger.getMergedIssues();
+    }
 
-        List<ObjectNode> sortedRecords = new ArrayList<>(merged.values());
-        sortedRecords.sort(
-                Comparator.comparingInt((ObjectNode n) -> n.get("severity").asInt()).reversed()
-                        .thenComparing(n -> n.get("category").asText())
-                        .thenComparing(n -> n.get("releaseId").asInt())
-        );
+    /**
+     * Incrementally merges issues with identical instanceId across releases. Issues can be
+     * added from multiple threads as soon as the issues for a release have been loaded, so
+     * only a single record per instanceId needs to be held in memory. For each instanceId,
+     * the record for the release with the lowest release order is retained (first record
+     * added if release order is equal), making the merge result independent of the order
+     * in which releases complete. Added records are owned and potentially modified by this
+     * merger.
+     */
+    public static final class ReleaseIssueMerger {
+        private final Map<String, MergedIssue> mergedByInstanceId = new HashMap<>();
 
-        ArrayNode result = JsonHelper.getObjectMapper().createArrayNode();
-        for (ObjectNode record : sortedRecords) {
+        public synchronized void add(int releaseOrder, ObjectNode record) {
             String instanceId = record.get("instanceId").asText();
-            Set<String> releaseNames = releaseNamesByInstance.get(instanceId);
-            Set<String> releaseIds = releaseIdsByInstance.get(instanceId);
-            Set<String> issueIds = idsByInstance.get(instanceId);
-            Set<String> vulnIds = vulnIdsByInstance.getOrDefault(instanceId, Collections.emptySet());
-            var data = IssueAggregationData.builder()
-                    .releaseNames(releaseNames)
-                    .releaseIds(releaseIds)
-                    .ids(issueIds)
-                    .vulnIds(vulnIds)
-                    .build();
-            transformRecord(record, data);
-            result.add(record);
+            var merged = mergedByInstanceId.get(instanceId);
+            if (merged == null) {
+                merged = new MergedIssue(releaseOrder, record);
+                mergedByInstanceId.put(instanceId, merged);
+            } else if (releaseOrder < merged.releaseOrder) {
+                merged.releaseOrder = releaseOrder;
+                merged.record = record;
+            }
+            merged.releaseNames.add(record.get("releaseName").asText());
+            merged.releaseIds.add(record.get("releaseId").asText());
+            merged.ids.add(record.get("id").asText());
+            String vulnIdVal = record.has("vulnId") ? record.get("vulnId").asText() : "";
+            if (!vulnIdVal.isEmpty()) {
+                merged.vulnIds.add(vulnIdVal);
+            }
+        }
+
+        /** Get the merged issues, sorted by severity desc, category and releaseId. */
+        public synchronized ArrayNode getMergedIssues() {
+            List<MergedIssue> sortedIssues = new ArrayList<>(mergedByInstanceId.values());
+            sortedIssues.sort(
+                    Comparator.comparingInt((MergedIssue m) -> m.record.get("severity").asInt()).reversed()
+                            .thenComparing(m -> m.record.get("category").asText())
+                            .thenComparing(m -> m.record.get("releaseId").asInt())
+            );
+            ArrayNode result = JsonHelper.getObjectMapper().createArrayNode();
+            for (MergedIssue merged : sortedIssues) {
+                var data = IssueAggregationData.builder()
+                        .releaseNames(merged.releaseNames)
+                        .releaseIds(merged.releaseIds)
+                        .ids(merged.ids)
+                        .vulnIds(merged.vulnIds)
+                        .build();
+                result.add(transformRecord(merged.record, data));
+            }
+            return result;
+        }
+
+        private static final class MergedIssue {
+            private final Set<String> releaseNames = new HashSet<>();
+            private final Set<String> releaseIds = new HashSet<>();
+            private final Set<String> ids = new HashSet<>();
+            private final Set<String> vulnIds = new HashSet<>();
+            private int releaseOrder;
+            private ObjectNode record;
+
+            private MergedIssue(int releaseOrder, ObjectNode record) {
+                this.releaseOrder = releaseOrder;
+                this.record = record;
+            }
         }
-        return result;
     }
 
 
@@ -38,11 +38,11 @@ public class FoDReleaseListCommand extends AbstractFoDBaseRequestOutputCommand i
     @Mixin private FoDAppResolverMixin.OptionalOption appResolver;
     @Mixin private FoDFiltersParamMixin filterParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new FoDFiltersParamGenerator()
-            .add("releaseId")
+            .addNumeric("releaseId")
             .add("releaseName")
             .add("microserviceId")
             .add("microserviceName")
-            .add("applicationId")
+            .addNumeric("applicationId")
             .add("applicationName");
 
     @Override
@@ -33,7 +33,7 @@ public class FoDReportListCommand extends AbstractFoDBaseRequestOutputCommand im
     @Mixin private FoDFetchRangeMixin fetchRangeMixin;
     @Mixin private FoDFiltersParamMixin filterParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new FoDFiltersParamGenerator()
-            .add("id","reportId")
+            .addNumeric("id","reportId")
             .add("name","reportName")
             .add("status", "reportStatusType")
             .add("type", "reportType");
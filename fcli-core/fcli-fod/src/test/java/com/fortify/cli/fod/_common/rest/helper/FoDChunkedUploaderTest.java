@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.helper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fortify.cli.common.progress.helper.ProgressWriterType;
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.UnirestInstance;
+
+/**
+ * Verifies {@link FoDChunkedUploader} against a local HTTP stub that reassembles
+ * chunks by offset, failing the first attempt for one of the chunks to verify that
+ * individual chunks are retried.
+ */
+public class FoDChunkedUploaderTest {
+    @TempDir Path tempDir;
+    private final Map<Long, byte[]> chunksByOffset = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> attemptsByFragNo = new ConcurrentHashMap<>();
+    private final AtomicInteger chunksReceivedAfterFinal = new AtomicInteger();
+    private volatile boolean finalChunkReceived;
+    private HttpServer server;
+    private UnirestInstance unirest;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        server.createContext("/upload", exchange -> {
+            var params = parseQuery(exchange.getRequestURI().getQuery());
+            int fragNo = Integer.parseInt(params.get("fragNo"));
+            long offset = Long.parseLong(params.get("offset"));
+            var body = exchange.getRequestBody().readAllBytes();
+            var attempt = attemptsByFragNo.computeIfAbsent(fragNo, k->new AtomicInteger()).incrementAndGet();
+            if ( fragNo==1 && attempt==1 ) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            if ( finalChunkReceived ) { chunksReceivedAfterFinal.incrementAndGet(); }
+            chunksByOffset.put(offset, body);
+            if ( fragNo==-1 ) { finalChunkReceived = true; }
+            var response = ("{\"fragNo\":"+fragNo+"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(response); }
+        });
+        server.start();
+        unirest = UnirestHelper.createUnirestInstance();
+    }
+
+    @AfterEach
+    void stopServer() {
+        unirest.close();
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10000,1024,1", "10000,1024,4", "4096,1024,3", "100,1024,4"})
+    void testChunkedUpload(int fileSize, int chunkSize, int maxConcurrentChunks) throws Exception {
+        var content = new byte[fileSize];
+        new Random(fileSize).nextBytes(content);
+        File file = Files.write(tempDir.resolve("payload.bin"), content).toFile();
+        var baseRequest = unirest.post("http://127.0.0.1:"+server.getAddress().getPort()+"/upload?fileLength="+fileSize);
+        try ( var progressWriter = ProgressWriterType.none.create() ) {
+            var result = FoDChunkedUploader.builder()
+                    .unirest(unirest).baseRequest(baseRequest).file(file).progressWriter(progressWriter)
+                    .chunkSize(chunkSize).maxConcurrentChunks(maxConcurrentChunks).retryDelayMillis(1)
+                    .build().upload();
+            assertEquals(-1, result.get("fragNo").asInt());
+        }
+        assertEquals(0, chunksReceivedAfterFinal.get(), "Final chunk must be sent last");
+        assertArrayEquals(content, reassemble());
+        if ( fileSize>chunkSize ) {
+            assertTrue(attemptsByFragNo.get(1).get()==2, "Failed chunk should have been retried once");
+        }
+    }
+
+    private byte[] reassemble() {
+        var os = new ByteArrayOutputStream();
+        new TreeMap<>(chunksByOffset).values().forEach(os::writeBytes);
+        return os.toByteArray();
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        var result = new TreeMap<String, String>();
+        for ( var param : query.split("&") ) {
+            var parts = param.split("=", 2);
+            result.put(parts[0], parts.length>1 ? parts[1] : "");
+        }
+        return result;
+    }
+}
@@ -15,14 +15,17 @@ package com.fortify.cli.fod._common.rest.query;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.SpelParseException;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
-import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryPushdown;
 
 public class FoDFilterParamGeneratorTest {
-    private IServerSideQueryParamValueGenerator generator = new FoDFiltersParamGenerator()
+    private FoDFiltersParamGenerator generator = new FoDFiltersParamGenerator()
             .add("prop")
             .add("nested.nested.prop")
             .add("nested.reword.prop", "rewordProp");
@@ -40,4 +43,44 @@ public class FoDFilterParamGeneratorTest {
             Assertions.fail(e);
         }
     }
+    
+    @ParameterizedTest
+    @CsvFileSource(resources = "/com/fortify/cli/fod/rest/query/filterparam.csv", nullValues = "null")
+    public void testConjunctsEvaluatedClientSide(String expressionString, String expectedParam) {
+        // FoD server-side matching may differ from SpEL evaluation, so the full
+        // query must still be evaluated client-side, even if pushed down
+        var queryExpression = new QueryExpression(new SpelExpressionParser().parseExpression(expressionString));
+        var pushdown = QueryPushdown.split(queryExpression, generator);
+        Assertions.assertEquals(expectedParam, pushdown.getServerSideQueryParamValue());
+        Assertions.assertFalse(pushdown.isFullyPushedDown());
+        Assertions.assertSame(queryExpression, pushdown.getResidualQueryExpression());
+    }
+    
+    private FoDFiltersParamGenerator numericGenerator = new FoDFiltersParamGenerator()
+            .addNumeric("id", "applicationId")
+            .add("name", "applicationName");
+    
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", quoteCharacter = '"', value = {
+        "id==5, applicationId:5, null",
+        "5==id, applicationId:5, null",
+        "id=='5', applicationId:5, id=='5'",
+        "id==5 && name=='test', applicationId:5+applicationName:test, name=='test'",
+        "name=='test' && id==5 && name.length()>0, applicationName:test+applicationId:5, name=='test' && name.length()>0",
+        "id==5 || id==6, applicationId:5|6, id==5 || id==6",
+        "name=='5', applicationName:5, name=='5'"
+    })
+    public void testNumericEqualityPushedDownExactly(String expressionString, String expectedParam, String expectedResidual) {
+        // FoD filters match numeric fields exactly, so only equality checks between
+        // numeric properties and integer literals may be skipped client-side
+        var parser = new SpelExpressionParser();
+        var pushdown = QueryPushdown.split(new QueryExpression(parser.parseExpression(expressionString)), numericGenerator);
+        Assertions.assertEquals(expectedParam, pushdown.getServerSideQueryParamValue());
+        if ( expectedResidual==null ) {
+            Assertions.assertTrue(pushdown.isFullyPushedDown());
+        } else {
+            var residual = (SpelExpression)pushdown.getResidualQueryExpression().getExpression();
+            Assertions.assertEquals(((SpelExpression)parser.parseExpression(expectedResidual)).getAST().toStringAST(), residual.getAST().toStringAST());
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod.issue.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.fod.issue.helper.FoDIssueHelper.ReleaseIssueMerger;
+
+public class FoDIssueHelperTest {
+    @Test
+    void testMergeIsIndependentOfReleaseCompletionOrder() {
+        var inOrder = new ReleaseIssueMerger();
+        inOrder.add(0, issue("i1", 1, "r1", 10, 4, "SQL Injection"));
+        inOrder.add(0, issue("i2", 2, "r1", 10, 2, "XSS"));
+        inOrder.add(1, issue("i1", 3, "r2", 20, 4, "SQL Injection"));
+
+        var outOfOrder = new ReleaseIssueMerger();
+        outOfOrder.add(1, issue("i1", 3, "r2", 20, 4, "SQL Injection"));
+        outOfOrder.add(0, issue("i2", 2, "r1", 10, 2, "XSS"));
+        outOfOrder.add(0, issue("i1", 1, "r1", 10, 4, "SQL Injection"));
+
+        var expected = inOrder.getMergedIssues();
+        assertEquals(expected, outOfOrder.getMergedIssues());
+        assertEquals(2, expected.size());
+        var first = expected.get(0);
+        assertEquals("i1", first.get("instanceId").asText());
+        assertEquals(1, first.get("id").asInt());
+        assertEquals(2, first.get("foundInReleaseIds").size());
+        assertEquals(2, first.get("ids").size());
+        assertEquals("i2", expected.get(1).get("instanceId").asText());
+    }
+
+    @Test
+    void testMergeReleaseIssuesKeepsFirstRecord() {
+        var issues = JsonHelper.getObjectMapper().createArrayNode();
+        issues.add(issue("i1", 1, "r1", 10, 4, "SQL Injection"));
+        issues.add(issue("i1", 2, "r2", 20, 4, "SQL Injection"));
+        var result = FoDIssueHelper.mergeReleaseIssues(issues);
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).get("id").asInt());
+        assertEquals(2, result.get(0).get("foundInReleases").size());
+        // Input records must not be modified
+        assertFalse(issues.get(0).has("foundInReleases"));
+    }
+
+    private static ObjectNode issue(String instanceId, int id, String releaseName, int releaseId, int severity, String category) {
+        return JsonHelper.getObjectMapper().createObjectNode()
+                .put("instanceId", instanceId)
+                .put("id", id)
+                .put("vulnId", "v"+id)
+                .put("releaseName", releaseName)
+                .put("releaseId", releaseId)
+                .put("severity", severity)
+                .put("category", category);
+    }
+}
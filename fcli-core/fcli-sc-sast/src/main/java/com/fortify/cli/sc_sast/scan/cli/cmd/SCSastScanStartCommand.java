@@ -13,16 +13,11 @@
 package com.fortify.cli.sc_sast.scan.cli.cmd;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -39,6 +34,7 @@ import com.fortify.cli.sc_sast._common.output.cli.cmd.AbstractSCSastJsonNodeOutp
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobHelper;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobHelper.StatusEndpointVersion;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobType;
+import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobZipHelper;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanPayloadDescriptor;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanPayloadHelper;
 import com.fortify.cli.sc_sast.sensor_pool.cli.mixin.SCSastSensorPoolResolverMixin;
@@ -72,6 +68,7 @@ public final class SCSastScanStartCommand extends AbstractSCSastJsonNodeOutputCo
     @Option(names = {"--no-replace"}) private Boolean noReplace;
     @Option(names = {"--scan-timeout"}) private Integer scanTimeout;
     @Option(names = {"--diagnose"}) private Boolean diagnose;
+    @Option(names = {"--no-stream"}) private Boolean noStream;
     
     
     @Override
@@ -79,34 +76,35 @@ public final class SCSastScanStartCommand extends AbstractSCSastJsonNodeOutputCo
         String enableDiagnosis = String.valueOf(DebugHelper.isDebugEnabled() || Boolean.TRUE.equals(diagnose));
         var payloadDescriptor = getScanPayloadDescriptor();
         var scanArgsHelper = ScanArgsHelper.parse(scanArguments);
-        MultipartBody body = unirest.post("/rest/v2/job")
-            .multiPartContent()
-            .field("zipFile", createZipFile(payloadDescriptor, scanArgsHelper.getInputFileToZipEntryMap()), "application/zip")
-            .field("username", userName, "text/plain")
-            .field("scaVersion", payloadDescriptor.getProductVersion(), "text/plain")
-            .field("clientVersion", payloadDescriptor.getProductVersion(), "text/plain")
-            .field("jobType", payloadDescriptor.getJobType().name(), "text/plain")
-            .field("scaRuntimeArgs", scanArgsHelper.getScanArgs(), "text/plain");
-        
-        body = updateBody(body, "email", email);
-        body = updateBody(body, "buildId", payloadDescriptor.getBuildId());
-        body = updateBody(body, "pvId", getAppVersionId());
-        body = updateBody(body, "poolUuid", getSensorPoolUuid());
-        body = updateBody(body, "uploadToken", getUploadToken());
-        body = updateBody(body, "dotNetRequired", String.valueOf(payloadDescriptor.isDotNetRequired()));
-        body = updateBody(body, "dotNetFrameworkRequiredVersion", payloadDescriptor.getDotNetVersion());
-        body = updateBody(body, "requiredOs", payloadDescriptor.getRequiredOs().toString());
-        body = updateBody(body, "fprNameOnSsc", publishToAppVersionMixin.getFprFileName());
-        body = updateBody(body, "disallowReplacement", noReplace==null ? null : String.valueOf(noReplace));
-        body = updateBody(body, "scanTimeout", scanTimeout==null ? null : String.valueOf(scanTimeout));
-        body = updateBody(body, "enableDiagnosis", enableDiagnosis);
-
-        JsonNode response = body.asObject(JsonNode.class).getBody();
-        if ( !response.has("token") ) {
-            throw new FcliSimpleException("Unexpected response when submitting scan job: "+response);
+        try ( var zipHelper = new SCSastScanJobZipHelper(getZipEntries(payloadDescriptor, scanArgsHelper.getInputFileToZipEntryMap()), !Boolean.TRUE.equals(noStream)) ) {
+            MultipartBody body = zipHelper.addField(unirest.post("/rest/v2/job").multiPartContent(), "zipFile")
+                .field("username", userName, "text/plain")
+                .field("scaVersion", payloadDescriptor.getProductVersion(), "text/plain")
+                .field("clientVersion", payloadDescriptor.getProductVersion(), "text/plain")
+                .field("jobType", payloadDescriptor.getJobType().name(), "text/plain")
+                .field("scaRuntimeArgs", scanArgsHelper.getScanArgs(), "text/plain");
+            
+            body = updateBody(body, "email", email);
+            body = updateBody(body, "buildId", payloadDescriptor.getBuildId());
+            body = updateBody(body, "pvId", getAppVersionId());
+            body = updateBody(body, "poolUuid", getSensorPoolUuid());
+            body = updateBody(body, "uploadToken", getUploadToken());
+            body = updateBody(body, "dotNetRequired", String.valueOf(payloadDescriptor.isDotNetRequired()));
+            body = updateBody(body, "dotNetFrameworkRequiredVersion", payloadDescriptor.getDotNetVersion());
+            body = updateBody(body, "requiredOs", payloadDescriptor.getRequiredOs().toString());
+            body = updateBody(body, "fprNameOnSsc", publishToAppVersionMixin.getFprFileName());
+            body = updateBody(body, "disallowReplacement", noReplace==null ? null : String.valueOf(noReplace));
+            body = updateBody(body, "scanTimeout", scanTimeout==null ? null : String.valueOf(scanTimeout));
+            body = updateBody(body, "enableDiagnosis", enableDiagnosis);
+            
+            final MultipartBody finalBody = body;
+            JsonNode response = zipHelper.execute(() -> finalBody.asObject(JsonNode.class).getBody());
+            if ( !response.has("token") ) {
+                throw new FcliSimpleException("Unexpected response when submitting scan job: "+response);
+            }
+            String scanJobToken = response.get("token").asText();
+            return SCSastScanJobHelper.getScanJobDescriptor(unirest, scanJobToken, StatusEndpointVersion.v1).asJsonNode();
         }
-        String scanJobToken = response.get("token").asText();
-        return SCSastScanJobHelper.getScanJobDescriptor(unirest, scanJobToken, StatusEndpointVersion.v1).asJsonNode();
     }
 
     /**
@@ -165,34 +163,14 @@ public final class SCSastScanStartCommand extends AbstractSCSastJsonNodeOutputCo
         return StringUtils.isBlank(value) ? body : body.field(field, value, "text/plain");
     }
     
-    private File createZipFile(SCSastScanPayloadDescriptor payloadDescriptor, Map<File, String> extraFiles) {
-        try {
-            File zipFile = File.createTempFile("zip", ".zip");
-            zipFile.deleteOnExit();
-            try (FileOutputStream fout = new FileOutputStream(zipFile); ZipOutputStream zout = new ZipOutputStream(fout)) {
-                final String fileName = (payloadDescriptor.getJobType() == SCSastScanJobType.TRANSLATION_AND_SCAN_JOB) ? "translation.zip" : "session.mbs";
-                addFile( zout, fileName, payloadDescriptor.getPayloadFile());
-                
-                for (var extraFile : extraFiles.entrySet() ) {
-                    addFile(zout, extraFile.getValue(), extraFile.getKey());
-                }
-            }
-            return zipFile;
-        } catch (IOException e) {
-            throw new FcliSimpleException("Error creating job file", e);
-        }
-    }
-
-    private void addFile(ZipOutputStream zout, String fileName, File file) throws IOException {
-        try ( FileInputStream in = new FileInputStream(file)) {
-            zout.putNextEntry(new ZipEntry(fileName));
-            byte[] buffer = new byte[1024];
-            int len;
-            while ((len = in.read(buffer)) > 0) {
-                zout.write(buffer, 0, len);
-            }
-            zout.closeEntry();
+    private Map<String, File> getZipEntries(SCSastScanPayloadDescriptor payloadDescriptor, Map<File, String> extraFiles) {
+        Map<String, File> result = new LinkedHashMap<>();
+        final String fileName = (payloadDescriptor.getJobType() == SCSastScanJobType.TRANSLATION_AND_SCAN_JOB) ? "translation.zip" : "session.mbs";
+        result.put(fileName, payloadDescriptor.getPayloadFile());
+        for (var extraFile : extraFiles.entrySet() ) {
+            result.put(extraFile.getValue(), extraFile.getKey());
         }
+        return result;
     }
 
     private static final class PublishToAppVersionMixin extends AbstractSSCAppVersionResolverMixin {
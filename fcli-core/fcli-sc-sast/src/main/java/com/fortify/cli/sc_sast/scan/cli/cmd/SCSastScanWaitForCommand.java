@@ -13,8 +13,11 @@
 package com.fortify.cli.sc_sast.scan.cli.cmd;
 
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.exception.FcliBugException;
 import com.fortify.cli.common.output.cli.mixin.OutputHelperMixins;
 import com.fortify.cli.common.rest.cli.cmd.AbstractWaitForCommand;
@@ -23,6 +26,7 @@ import com.fortify.cli.sc_sast.scan.cli.mixin.SCSastScanJobResolverMixin;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobArtifactState;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobArtifactState.SCSastControllerScanJobArtifactStateIterable;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobDescriptor;
+import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobHelper;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobHelper.StatusEndpointVersion;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobState;
 import com.fortify.cli.sc_sast.scan.helper.SCSastScanJobState.SCSastControllerScanJobStateIterable;
@@ -82,6 +86,7 @@ public class SCSastScanWaitForCommand extends AbstractWaitForCommand {
         if ( sscStates!=null ) {
             return builder
                 .recordsSupplier(u->scanJobsResolver.getScanJobDescriptorJsonNodes(u, StatusEndpointVersion.v3))
+                .recordRefresher(scanJobRefresher(StatusEndpointVersion.v3))
                 .currentStateProperty("sscArtifactState")
                 .knownStates(SCSastScanJobArtifactState.getKnownStateNames())
                 .failureStates(SCSastScanJobArtifactState.getFailureStateNames())
@@ -89,6 +94,7 @@ public class SCSastScanWaitForCommand extends AbstractWaitForCommand {
         } else if ( publishStates!=null ) {
             return builder
                 .recordsSupplier(scanJobsResolver::getScanJobDescriptorJsonNodes)
+                .recordRefresher(scanJobRefresher(null))
                 .currentStateProperty("publishState")
                 .knownStates(SCSastScanJobState.getKnownStateNames())
                 .failureStates(SCSastScanJobState.getFailureStateNames())
@@ -96,6 +102,7 @@ public class SCSastScanWaitForCommand extends AbstractWaitForCommand {
         } else if ( scanStates!=null ) {
             return builder
                     .recordsSupplier(scanJobsResolver::getScanJobDescriptorJsonNodes)
+                    .recordRefresher(scanJobRefresher(null))
                     .currentStateProperty("scanState")
                     .knownStates(SCSastScanJobState.getKnownStateNames())
                     .failureStates(SCSastScanJobState.getFailureStateNames())
@@ -104,4 +111,8 @@ public class SCSastScanWaitForCommand extends AbstractWaitForCommand {
             throw new FcliBugException("Unexpected situation, please file a bug");
         }
     }
+    
+    private static final BiFunction<UnirestInstance, ObjectNode, JsonNode> scanJobRefresher(StatusEndpointVersion minEndpointVersion) {
+        return (u,r)->SCSastScanJobHelper.getScanJobDescriptor(u, r.get("jobToken").asText(), minEndpointVersion).asJsonNode();
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.sc_sast.scan.helper;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+
+import kong.unirest.ContentType;
+import kong.unirest.MultipartBody;
+
+/**
+ * Helper for adding the ScanCentral SAST job zip file, containing the scan payload and
+ * any additional files referenced from the scan arguments, to a multipart request.
+ * <p>
+ * By default, the zip file is generated on the fly by a background thread and streamed
+ * directly into the multipart request body, which is then sent using chunked transfer
+ * encoding. This avoids writing the full payload to disk a second time, and the temporary
+ * disk space this would require. If streaming is disabled, the zip file is written to a
+ * temporary file first, allowing the request to include a Content-Length header, as may
+ * be required by some servers or proxies.
+ * <p>
+ * Instances must be closed after the request has completed, to clean up any background
+ * thread or temporary file.
+ */
+public final class SCSastScanJobZipHelper implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SCSastScanJobZipHelper.class);
+    private static final String ZIP_FILE_NAME = "job.zip";
+    private static final int PIPE_BUFFER_SIZE = 1024*1024;
+    private static final int COPY_BUFFER_SIZE = 64*1024;
+    private final Map<String, File> zipEntries;
+    private final boolean streaming;
+    private final AtomicReference<Throwable> producerFailure = new AtomicReference<>();
+    private Thread producer;
+    private InputStream pipeIn;
+    private File tempFile;
+
+    /**
+     * @param zipEntries Map of zip entry names to the files to be included under those names, 
+     *        in the order in which they should be added to the zip file
+     * @param streaming Whether to stream the zip file into the request body (true), or to create
+     *        a temporary zip file before uploading (false)
+     */
+    public SCSastScanJobZipHelper(Map<String, File> zipEntries, boolean streaming) {
+        this.zipEntries = zipEntries;
+        this.streaming = streaming;
+    }
+
+    /**
+     * Add the zip file as a multipart field with the given name to the given {@link MultipartBody}.
+     */
+    public final MultipartBody addField(MultipartBody body, String fieldName) {
+        return streaming
+                ? body.field(fieldName, startStreaming(), ContentType.create("application/zip"), ZIP_FILE_NAME)
+                : body.field(fieldName, createTempFile(), "application/zip");
+    }
+
+    /**
+     * Execute the request through the given supplier. If generating the zip file failed,
+     * an exception describing the zip generation failure is thrown rather than whatever
+     * (less descriptive) exception or response the request may have resulted in.
+     */
+    public final <T> T execute(Supplier<T> requestExecutor) {
+        try {
+            var result = requestExecutor.get();
+            checkProducerFailure(null);
+            return result;
+        } catch ( RuntimeException e ) {
+            checkProducerFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public final void close() {
+        if ( pipeIn!=null ) {
+            // Unblocks the producer if it's still waiting for the request to consume data
+            try { pipeIn.close(); } catch ( IOException e ) { LOG.debug("Error closing zip stream", e); }
+        }
+        if ( producer!=null ) {
+            try {
+                producer.join(5000);
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if ( tempFile!=null && !tempFile.delete() ) {
+            LOG.debug("Unable to delete temporary file {}", tempFile);
+        }
+    }
+
+    private final File createTempFile() {
+        try {
+            tempFile = File.createTempFile("zip", ".zip");
+            tempFile.deleteOnExit();
+            try ( var out = new FileOutputStream(tempFile) ) {
+                writeZip(out);
+            }
+            return tempFile;
+        } catch (IOException e) {
+            throw new FcliSimpleException("Error creating job file", e);
+        }
+    }
+
+    private final InputStream startStreaming() {
+        try {
+            var in = new PipedInputStream(PIPE_BUFFER_SIZE);
+            var out = new PipedOutputStream(in);
+            pipeIn = new ProducerAwareInputStream(in);
+            producer = new Thread(() -> produce(out), "fcli-sc-sast-zip");
+            producer.setDaemon(true);
+            producer.start();
+            return pipeIn;
+        } catch (IOException e) {
+            throw new FcliSimpleException("Error creating job file stream", e);
+        }
+    }
+
+    private final void produce(OutputStream out) {
+        try {
+            writeZip(out);
+        } catch ( Throwable t ) {
+            producerFailure.set(t);
+        } finally {
+            // Signals end of stream to the request; in case of failure, ProducerAwareInputStream 
+            // will throw an exception instead of reporting end of stream.
+            try { out.close(); } catch ( IOException e ) { LOG.debug("Error closing zip stream", e); }
+        }
+    }
+
+    private final void writeZip(OutputStream out) throws IOException {
+        try ( var zout = new ZipOutputStream(out) ) {
+            for ( var entry : zipEntries.entrySet() ) {
+                addFile(zout, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static final void addFile(ZipOutputStream zout, String fileName, File file) throws IOException {
+        try ( var in = new FileInputStream(file) ) {
+            zout.putNextEntry(new ZipEntry(fileName));
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int len;
+            while ((len = in.read(buffer)) > 0) {
+                zout.write(buffer, 0, len);
+            }
+            zout.closeEntry();
+        }
+    }
+
+    private final void checkProducerFailure(Exception requestException) {
+        var failure = producerFailure.get();
+        if ( failure!=null ) {
+            var e = new FcliSimpleException("Error creating job file", failure);
+            if ( requestException!=null ) { e.addSuppressed(requestException); }
+            throw e;
+        }
+    }
+
+    /**
+     * {@link InputStream} that throws an exception rather than reporting end of stream
+     * if the producer failed, to prevent a truncated zip file from being submitted.
+     */
+    private final class ProducerAwareInputStream extends FilterInputStream {
+        private ProducerAwareInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return check(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return check(super.read(b, off, len));
+        }
+
+        private int check(int result) throws IOException {
+            if ( result<0 && producerFailure.get()!=null ) {
+                throw new IOException("Error creating job file", producerFailure.get());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.sc_sast.scan.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.UnirestInstance;
+
+/**
+ * Verifies that the job zip file uploaded by {@link SCSastScanJobZipHelper}, either streamed
+ * or through a temporary file, contains the same entries as the zip file produced by the
+ * original temporary file implementation of 'sc-sast scan start', using a local HTTP server
+ * that captures the uploaded multipart request.
+ */
+public class SCSastScanJobZipHelperTest {
+    @TempDir Path tempDir;
+    private HttpServer server;
+    private UnirestInstance unirest;
+    private byte[] requestBody;
+    private Headers requestHeaders;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/rest/v2/job", exchange -> {
+            requestHeaders = exchange.getRequestHeaders();
+            requestBody = exchange.getRequestBody().readAllBytes();
+            var body = "{\"token\":\"test\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(body); }
+        });
+        server.start();
+        unirest = UnirestHelper.createUnirestInstance();
+        unirest.config().defaultBaseUrl("http://127.0.0.1:"+server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopServer() {
+        unirest.close();
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testUploadedZipMatchesOriginal(boolean streaming) throws Exception {
+        var zipEntries = createZipEntries();
+        try ( var zipHelper = new SCSastScanJobZipHelper(zipEntries, streaming) ) {
+            var body = zipHelper.addField(unirest.post("/rest/v2/job").multiPartContent(), "zipFile")
+                    .field("username", "test", "text/plain");
+            var response = zipHelper.execute(()->body.asString().getBody());
+            assertEquals("{\"token\":\"test\"}", response);
+        }
+        assertEquals(readEntries(createOriginalZip(zipEntries)), readEntries(getMultipartField("zipFile")));
+        assertEquals("test", new String(getMultipartField("username"), StandardCharsets.UTF_8));
+        // Streamed uploads can't include a Content-Length header
+        if ( streaming ) {
+            assertNull(requestHeaders.getFirst("Content-Length"));
+        } else {
+            assertNotNull(requestHeaders.getFirst("Content-Length"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testMissingFile(boolean streaming) throws Exception {
+        var zipEntries = createZipEntries();
+        zipEntries.put("missing.txt", tempDir.resolve("missing.txt").toFile());
+        try ( var zipHelper = new SCSastScanJobZipHelper(zipEntries, streaming) ) {
+            var e = assertThrows(FcliSimpleException.class, ()->{
+                var body = zipHelper.addField(unirest.post("/rest/v2/job").multiPartContent(), "zipFile");
+                zipHelper.execute(()->body.asString().getBody());
+            });
+            assertEquals("Error creating job file", e.getMessage());
+        }
+    }
+
+    @Test
+    void testEmptyPayload() throws Exception {
+        var emptyFile = Files.createFile(tempDir.resolve("empty.mbs")).toFile();
+        var zipEntries = Map.of("session.mbs", emptyFile);
+        try ( var zipHelper = new SCSastScanJobZipHelper(zipEntries, true) ) {
+            var body = zipHelper.addField(unirest.post("/rest/v2/job").multiPartContent(), "zipFile");
+            zipHelper.execute(()->body.asString().getBody());
+        }
+        assertEquals(readEntries(createOriginalZip(zipEntries)), readEntries(getMultipartField("zipFile")));
+    }
+
+    private Map<String, File> createZipEntries() throws IOException {
+        var random = new Random(1);
+        var result = new LinkedHashMap<String, File>();
+        // Payload larger than the pipe buffer, to make sure that the producer blocks while uploading
+        result.put("translation.zip", createFile("payload.zip", 3*1024*1024+17, random));
+        result.put("extra/file1.txt", createFile("file1.txt", 1000, random));
+        result.put("file2.txt", createFile("file2.txt", 0, random));
+        return result;
+    }
+
+    private File createFile(String name, int size, Random random) throws IOException {
+        var bytes = new byte[size];
+        // Use limited set of byte values such that data can be compressed
+        for ( int i=0; i<size; i++ ) { bytes[i] = (byte)('a'+random.nextInt(8)); }
+        return Files.write(tempDir.resolve(name), bytes).toFile();
+    }
+
+    /**
+     * Zip file creation as originally implemented in SCSastScanStartCommand::createZipFile.
+     */
+    private static byte[] createOriginalZip(Map<String, File> zipEntries) throws IOException {
+        var bos = new ByteArrayOutputStream();
+        try ( var zout = new ZipOutputStream(bos) ) {
+            for ( var entry : zipEntries.entrySet() ) {
+                try ( var in = new FileInputStream(entry.getValue()) ) {
+                    zout.putNextEntry(new ZipEntry(entry.getKey()));
+                    byte[] buffer = new byte[1024];
+                    int len;
+                    while ((len = in.read(buffer)) > 0) {
+                        zout.write(buffer, 0, len);
+                    }
+                    zout.closeEntry();
+                }
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Read the name, compression method and contents of all zip entries; entry timestamps
+     * are ignored as these depend on when the zip file was generated.
+     */
+    private static List<String> readEntries(byte[] zip) throws IOException {
+        var result = new ArrayList<String>();
+        try ( var zin = new ZipInputStream(new ByteArrayInputStream(zip)) ) {
+            ZipEntry entry;
+            while ( (entry = zin.getNextEntry())!=null ) {
+                var contents = zin.readAllBytes();
+                result.add(entry.getName()+":"+entry.getMethod()+":"+contents.length+":"+Arrays.hashCode(contents));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the contents of the multipart field with the given name from the captured request body.
+     */
+    private byte[] getMultipartField(String name) {
+        var contentType = requestHeaders.getFirst("Content-Type");
+        var boundary = "--"+contentType.substring(contentType.indexOf("boundary=")+"boundary=".length()).split(";")[0];
+        // ISO-8859-1 maps each byte to a single character, allowing for binary-safe searching
+        var body = new String(requestBody, StandardCharsets.ISO_8859_1);
+        for ( var part : body.split(Pattern.quote(boundary)) ) {
+            var headersEnd = part.indexOf("\r\n\r\n");
+            if ( headersEnd>0 && part.substring(0, headersEnd).contains("name=\""+name+"\"") ) {
+                var contents = part.substring(headersEnd+4, part.length()-2); // Strip trailing CRLF
+                return contents.getBytes(StandardCharsets.ISO_8859_1);
+            }
+        }
+        throw new AssertionError("Multipart field "+name+" not found");
+    }
+}
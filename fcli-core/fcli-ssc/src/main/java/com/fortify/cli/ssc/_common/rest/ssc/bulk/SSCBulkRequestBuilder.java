@@ -12,34 +12,57 @@
  */
 package com.fortify.cli.ssc._common.rest.ssc.bulk;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.util.RawValue;
+import com.fortify.cli.common.cli.util.FcliExecutionContext;
+import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.exception.FcliBugException;
 import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.util.EnvHelper;
 
 import kong.unirest.Body;
 import kong.unirest.HttpRequest;
+import kong.unirest.HttpResponse;
 import kong.unirest.UnirestInstance;
 
 /**
  * This class allows for building and executing SSC bulk requests
  */
 public class SSCBulkRequestBuilder {
+    public static final String ENV_BATCH_SIZE = "FCLI_SSC_BULK_BATCH_SIZE";
+    public static final String ENV_ADAPTIVE_BATCH_SIZE = "FCLI_SSC_BULK_ADAPTIVE_BATCH_SIZE";
+    public static final String ENV_MAX_CONCURRENCY = "FCLI_SSC_BULK_MAX_CONCURRENCY";
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Shared by all bulk requests to bound the total number of threads, even if multiple
+    // bulk requests are executed at the same time; idle threads are terminated after a while.
+    private static final int MAX_BATCH_THREADS = 16;
+    private static final ThreadPoolExecutor BATCH_EXECUTOR = createBatchExecutor();
     private final ArrayNode requests = objectMapper.createArrayNode();
     private final Map<String,Integer> nameToIndexMap = new HashMap<>();
     private final Map<String, Consumer<JsonNode>> consumers = new LinkedHashMap<>();
+    private int batchSize = envInt(ENV_BATCH_SIZE, 10);
+    private boolean adaptiveBatchSize = !"false".equalsIgnoreCase(EnvHelper.env(ENV_ADAPTIVE_BATCH_SIZE));
+    private int maxConcurrency = envInt(ENV_MAX_CONCURRENCY, 4);
+    private boolean readOnly = true;
     
     /**
      * Check whether this SSCBulkRequestBuilder instance already has a request
@@ -103,6 +126,7 @@ public class SSCBulkRequestBuilder {
         ObjectNode bulkEntry = objectMapper.createObjectNode();
         bulkEntry.put("uri", uri);
         bulkEntry.put("httpVerb", request.getHttpMethod().name());
+        readOnly &= "GET".equals(request.getHttpMethod().name());
         Optional<Body> optionalBody = request.getBody();
         if ( optionalBody.isPresent() ) {
             Body body = optionalBody.get();
@@ -121,29 +145,125 @@ public class SSCBulkRequestBuilder {
         return this;
     }
     
+    /**
+     * Configure the initial number of requests to be sent in a single call to the
+     * SSC bulk endpoint. If not configured, this defaults to the value of the
+     * {@value #ENV_BATCH_SIZE} environment variable, or 10 if not set.
+     * @param batchSize Initial batch size
+     * @return Self for chaining
+     */
+    public SSCBulkRequestBuilder batchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+        return this;
+    }
+    
+    /**
+     * Configure whether batch sizes should be adjusted based on observed response
+     * times and payload sizes of previous batches. If not configured, this defaults
+     * to the value of the {@value #ENV_ADAPTIVE_BATCH_SIZE} environment variable, or
+     * true if not set.
+     * @param adaptiveBatchSize Whether to adjust batch sizes
+     * @return Self for chaining
+     */
+    public SSCBulkRequestBuilder adaptiveBatchSize(boolean adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+    
+    /**
+     * Configure the maximum number of batches that may be sent concurrently. This only
+     * applies if all requests are GET requests; bulk requests that contain any other
+     * requests are always executed sequentially as the order of such requests may matter.
+     * If not configured, this defaults to the value of the {@value #ENV_MAX_CONCURRENCY}
+     * environment variable, or 4 if not set. Batches are sent from a thread pool that is
+     * shared by all bulk requests, which runs at most {@value #MAX_BATCH_THREADS} batches
+     * at the same time.
+     * @param maxConcurrency Maximum number of concurrent batches
+     * @return Self for chaining
+     */
+    public SSCBulkRequestBuilder maxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        return this;
+    }
+    
     /**
      * Execute the bulk requests that were previously added using the 
      * {@link #request(String, String)} or {@link #request(String, String, Object)}
      * methods. To avoid gateway or read timeouts if SSC is slow to respond on
-     * large bulk requests, the requests are executed in batches of 10.
+     * large bulk requests, the requests are executed in batches. Batch sizes
+     * are adjusted based on response times and payload sizes of previous batches,
+     * and for read-only bulk requests, multiple batches may be sent concurrently.
      * 
      * @return {@link SSCBulkResponse} containing the results for each of the requests in the bulk request
      */
     public SSCBulkResponse execute(UnirestInstance unirest) {
-        int batchSize = 10;
         int totalRequests = requests.size();
         String[] indexToName = buildIndexToNameMap(totalRequests);
-        Map<String, ObjectNode> nameToResponseMap = new HashMap<>();
-        for (var batch : batches(totalRequests, batchSize)) {
-            ArrayNode batchRequests = getBatchRequests(batch.start, batch.end);
-            JsonNode batchResponse = sendBatch(unirest, batchRequests);
-            mapBatchResponses(nameToResponseMap, batchResponse, indexToName, batch.start);
+        Map<String, ObjectNode> nameToResponseMap = Collections.synchronizedMap(new HashMap<>());
+        var batchSizer = new AdaptiveBatchSizer(batchSize, adaptiveBatchSize);
+        int concurrency = readOnly ? maxConcurrency : 1;
+        if ( concurrency<=1 || totalRequests<=batchSize ) {
+            executeSequential(unirest, batchSizer, nameToResponseMap, indexToName);
+        } else {
+            executeConcurrent(unirest, batchSizer, concurrency, nameToResponseMap, indexToName);
         }
         var result = new SSCBulkResponse(nameToResponseMap);
         consumers.forEach((k, v) -> v.accept(result.data(k)));
         return result;
     }
 
+    private void executeSequential(UnirestInstance unirest, AdaptiveBatchSizer batchSizer, Map<String, ObjectNode> nameToResponseMap, String[] indexToName) {
+        int start = 0;
+        while ( start<requests.size() ) {
+            var batch = nextBatch(start, batchSizer);
+            executeBatch(unirest, batch, batchSizer, nameToResponseMap, indexToName);
+            start = batch.end;
+        }
+    }
+
+    private void executeConcurrent(UnirestInstance unirest, AdaptiveBatchSizer batchSizer, int concurrency, Map<String, ObjectNode> nameToResponseMap, String[] indexToName) {
+        var parentContext = FcliExecutionContextHolder.tryCurrentContext();
+        var completionService = new ExecutorCompletionService<Void>(BATCH_EXECUTOR);
+        var futures = new ArrayList<Future<Void>>();
+        try {
+            int start = 0;
+            int inFlight = 0;
+            while ( start<requests.size() || inFlight>0 ) {
+                // New batches are sized based on statistics of all batches completed so far
+                while ( start<requests.size() && inFlight<concurrency ) {
+                    var batch = nextBatch(start, batchSizer);
+                    futures.add(completionService.submit(() -> {
+                        executeBatch(parentContext, unirest, batch, batchSizer, nameToResponseMap, indexToName);
+                        return null;
+                    }));
+                    start = batch.end;
+                    inFlight++;
+                }
+                completionService.take().get();
+                inFlight--;
+            }
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Interrupted while executing SSC bulk request", e);
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException re ) { throw re; }
+            throw new FcliTechnicalException("Error executing SSC bulk request", e.getCause());
+        } finally {
+            // Cancel any batches still queued or running if we're exiting due to an error
+            futures.forEach(f->f.cancel(true));
+        }
+    }
+    
+    private static ThreadPoolExecutor createBatchExecutor() {
+        var result = new ThreadPoolExecutor(MAX_BATCH_THREADS, MAX_BATCH_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            var t = new Thread(r, "fcli-ssc-bulk");
+            t.setDaemon(true);
+            return t;
+        });
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
     private String[] buildIndexToNameMap(int totalRequests) {
         String[] indexToName = new String[totalRequests];
         nameToIndexMap.forEach((name, idx) -> indexToName[idx] = name);
@@ -152,11 +272,26 @@ public class SSCBulkRequestBuilder {
 
     private record Batch(int start, int end) {}
 
-    private List<Batch> batches(int totalRequests, int batchSize) {
-        return IntStream.range(0, totalRequests)
-                .filter(i -> i % batchSize == 0)
-                .mapToObj(i -> new Batch(i, Math.min(i + batchSize, totalRequests)))
-                .toList();
+    private Batch nextBatch(int start, AdaptiveBatchSizer batchSizer) {
+        return new Batch(start, Math.min(start + batchSizer.getBatchSize(), requests.size()));
+    }
+
+    private void executeBatch(FcliExecutionContext parentContext, UnirestInstance unirest, Batch batch, AdaptiveBatchSizer batchSizer, Map<String, ObjectNode> nameToResponseMap, String[] indexToName) {
+        if ( parentContext==null ) {
+            executeBatch(unirest, batch, batchSizer, nameToResponseMap, indexToName);
+        } else {
+            try ( var frame = FcliExecutionContextHolder.push(parentContext.createChild()) ) {
+                executeBatch(unirest, batch, batchSizer, nameToResponseMap, indexToName);
+            }
+        }
+    }
+
+    private void executeBatch(UnirestInstance unirest, Batch batch, AdaptiveBatchSizer batchSizer, Map<String, ObjectNode> nameToResponseMap, String[] indexToName) {
+        long startNanos = System.nanoTime();
+        var response = sendBatch(unirest, getBatchRequests(batch.start, batch.end));
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-startNanos);
+        batchSizer.record(batch.end-batch.start, durationMillis, getContentLength(response));
+        mapBatchResponses(nameToResponseMap, response.getBody().get("data"), indexToName, batch.start);
     }
 
     private ArrayNode getBatchRequests(int start, int end) {
@@ -167,11 +302,20 @@ public class SSCBulkRequestBuilder {
         return batchRequests;
     }
 
-    private JsonNode sendBatch(UnirestInstance unirest, ArrayNode batchRequests) {
+    private HttpResponse<JsonNode> sendBatch(UnirestInstance unirest, ArrayNode batchRequests) {
         var bulkRequest = objectMapper.createObjectNode();
         bulkRequest.set("requests", batchRequests);
         return unirest.post("/api/v1/bulk").body(bulkRequest)
-                .asObject(JsonNode.class).getBody().get("data");
+                .asObject(JsonNode.class);
+    }
+    
+    private static long getContentLength(HttpResponse<?> response) {
+        var contentLength = response.getHeaders().getFirst("Content-Length");
+        try {
+            return StringUtils.isBlank(contentLength) ? -1 : Long.parseLong(contentLength.trim());
+        } catch ( NumberFormatException e ) {
+            return -1;
+        }
     }
 
     private void mapBatchResponses(Map<String, ObjectNode> nameToResponseMap, JsonNode batchResponse, String[] indexToName, int batchStart) {
@@ -182,6 +326,10 @@ public class SSCBulkRequestBuilder {
         }
     }
 
+    private static int envInt(String envName, int defaultValue) {
+        return Math.max(1, EnvHelper.envInteger(envName, defaultValue));
+    }
+
     private ObjectNode getResponseBody(JsonNode rawResponse) {
         if (rawResponse == null || !rawResponse.has("responses") || !rawResponse.get("responses").isArray() || rawResponse.get("responses").isEmpty()) {
             return null;
@@ -189,6 +337,38 @@ public class SSCBulkRequestBuilder {
         return (ObjectNode) rawResponse.get("responses").get(0).get("body");
     }
 
+    /**
+     * Determines batch sizes based on the response times and (if available) payload sizes of
+     * previously executed batches, aiming for batches that complete within a reasonable time
+     * frame and don't result in excessively large responses. Batch sizes grow by at most a factor
+     * of 2 per completed batch to avoid overshooting on a single fast response. Methods are
+     * synchronized as batches may complete concurrently.
+     */
+    static final class AdaptiveBatchSizer {
+        static final int MAX_BATCH_SIZE = 100;
+        private static final long TARGET_BATCH_MILLIS = 3000;
+        private static final long TARGET_BATCH_BYTES = 8*1024*1024;
+        private final boolean adaptive;
+        private int batchSize;
+        
+        AdaptiveBatchSizer(int initialBatchSize, boolean adaptive) {
+            this.batchSize = initialBatchSize;
+            this.adaptive = adaptive;
+        }
+        
+        synchronized int getBatchSize() {
+            return batchSize;
+        }
+        
+        synchronized void record(int requestCount, long durationMillis, long payloadBytes) {
+            if ( !adaptive || requestCount<1 ) { return; }
+            long sizeByTime = durationMillis<=0 ? MAX_BATCH_SIZE : TARGET_BATCH_MILLIS*requestCount/durationMillis;
+            long sizeByPayload = payloadBytes<=0 ? MAX_BATCH_SIZE : TARGET_BATCH_BYTES*requestCount/payloadBytes;
+            long targetSize = Math.min(Math.min(sizeByTime, sizeByPayload), 2L*batchSize);
+            batchSize = (int)Math.max(1, Math.min(MAX_BATCH_SIZE, targetSize));
+        }
+    }
+
     public static final class SSCBulkResponse {
         private final Map<String, ObjectNode> nameToResponseMap;
 
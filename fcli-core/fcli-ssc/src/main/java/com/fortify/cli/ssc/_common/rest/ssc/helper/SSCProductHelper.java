@@ -17,13 +17,13 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.output.product.IProductHelper;
 import com.fortify.cli.common.output.product.IResponseMetadataCollector;
-import com.fortify.cli.common.output.transform.IInputTransformer;
+import com.fortify.cli.common.output.transform.IStreamableInputTransformer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 
 //IMPORTANT: When updating/adding any methods in this class, SSCRestCallCommand
 //also likely needs to be updated
-public class SSCProductHelper implements IProductHelper, IInputTransformer, INextPageUrlProducerSupplier, IResponseMetadataCollector
+public class SSCProductHelper implements IProductHelper, IStreamableInputTransformer, INextPageUrlProducerSupplier, IResponseMetadataCollector
 {
     public static final SSCProductHelper INSTANCE = new SSCProductHelper();
     private SSCProductHelper() {}
@@ -32,6 +32,11 @@ public class SSCProductHelper implements IProductHelper, IInputTransformer, INex
         return SSCPagingHelper.nextPageUrlProducer();
     }
     
+    @Override
+    public String getRecordsPropertyName() {
+        return "data";
+    }
+    
     @Override
     public JsonNode transformInput(JsonNode input) {
         return SSCInputTransformer.getDataOrSelf(input);
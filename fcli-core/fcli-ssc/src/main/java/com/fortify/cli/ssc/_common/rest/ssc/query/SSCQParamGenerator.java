@@ -13,26 +13,45 @@
 package com.fortify.cli.ssc._common.rest.ssc.query;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.SpelNode;
-import org.springframework.expression.spel.ast.OpAnd;
 import org.springframework.expression.spel.ast.OpEQ;
 import org.springframework.expression.spel.ast.OperatorMatches;
 
 import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
-import com.fortify.cli.common.spel.AbstractSpelNodeVisitor;
 import com.fortify.cli.common.spel.SpelNodeHelper;
+import com.fortify.cli.common.spel.query.IQueryPushdownTranslator;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryPushdown;
+import com.fortify.cli.common.spel.query.QueryPushdownTerm;
 import com.fortify.cli.common.util.JavaHelper;
 
-public final class SSCQParamGenerator implements IServerSideQueryParamValueGenerator {
+/**
+ * This class generates SSC 'q' parameter values for the conjuncts of a query expression
+ * that compare a known property against a literal value, either through equality checks
+ * or simple 'matches' expressions, the latter being translated to SSC wildcard queries if
+ * the regular expression has leading or trailing wildcards. SSC 'q' matching may differ
+ * from SpEL evaluation (for example, <code>id=='5'</code> is false in SpEL for a numeric id,
+ * whereas <code>q=id:5</code> matches, and SSC may ignore case), so these queries usually
+ * only reduce the number of records returned by SSC; the corresponding conjuncts are still
+ * evaluated client-side. The only exception are equality checks between properties
+ * registered through {@link #addNumeric(String, String)} and an integer literal, like
+ * <code>id==5</code>; as SSC matches numeric properties exactly, such conjuncts are fully
+ * handled by SSC and not evaluated again client-side.
+ */
+public final class SSCQParamGenerator implements IServerSideQueryParamValueGenerator, IQueryPushdownTranslator {
     private static final Logger LOG = LoggerFactory.getLogger(SSCQParamGenerator.class);
     private final Map<String, String> qNamesByPropertyPaths = new HashMap<>();
     private final Map<String, Function<String,String>> valueGeneratorsByPropertyPaths = new HashMap<>();
+    private final Set<String> numericPropertyPaths = new HashSet<>();
     
     public SSCQParamGenerator add(String propertyPath, String qName, Function<String,String> valueGenerator) {
         qNamesByPropertyPaths.put(propertyPath, qName);
@@ -46,86 +65,74 @@ public final class SSCQParamGenerator implements IServerSideQueryParamValueGener
         return this;
     }
     
+    /**
+     * Add a property that always holds an integer value on every record returned by SSC,
+     * like record id's. Equality checks between this property and an integer literal are
+     * translated to exact SSC queries.
+     */
+    public SSCQParamGenerator addNumeric(String propertyPath, String qName) {
+        numericPropertyPaths.add(propertyPath);
+        return add(propertyPath, qName, SSCQParamValueGenerators::plain);
+    }
+    
+    public SSCQParamGenerator addNumeric(String propertyPath) {
+        return addNumeric(propertyPath, propertyPath);
+    }
+    
     @Override
     public final String getServerSideQueryParamValue(Expression expression) {
-        return new SSCQParamSpELNodeVisitor(expression).getQParamValue();
+        return QueryPushdown.split(new QueryExpression(expression), this).getServerSideQueryParamValue();
     }
     
-    private final class SSCQParamSpELNodeVisitor extends AbstractSpelNodeVisitor {
-        private StringBuffer qParamValue = new StringBuffer();
-        
-        public SSCQParamSpELNodeVisitor(Expression expression) {
-            super(expression); visit();
-        }
-
-        public String getQParamValue() {
-            return qParamValue.isEmpty() ? null : qParamValue.toString();
-        }
-        
-        @Override
-        protected void visit(SpelNode node) {
-            LOG.trace("Visiting node: "+node);
-            JavaHelper.as(node, OpAnd.class).ifPresent(this::visitAnd);
-            JavaHelper.as(node, OpEQ.class).ifPresent(this::visitEQ);
-            JavaHelper.as(node, OperatorMatches.class).ifPresent(this::visitMatches);
-        }
-        
-        private void visitAnd(OpAnd node) {
-            LOG.trace("Processing OpAnd node: "+node);
-            visitChildren(node);
-        }
-
-        private void visitEQ(OpEQ node) {
-            var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
-            var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
-            LOG.trace("OpEQ property: {}, literal: {}", propertyName, literalString);
-            if ( propertyName!=null && literalString!=null ) {
-                addEQ(propertyName, literalString);
-            }
-        }
-        
-        private void visitMatches(OperatorMatches node) {
-            var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
-            var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
-            LOG.trace("OperatorMatches property: {}, literal: {}", propertyName, literalString);
-            if ( propertyName!=null && literalString!=null ) {
-                addMatches(propertyName, literalString);
-            }
-        }
-
-        private void addMatches(String propertyName, String pattern) {
-            String qName = qNamesByPropertyPaths.get(propertyName);
-            if ( qName == null ) { return; }
-            var hasLeadingWildcard = pattern.startsWith(".*");
-            var hasTrailingWildcard = pattern.endsWith(".*");
-            var stripped = pattern
-                    .replaceAll("^(\\.\\*)+", "")
-                    .replaceAll("(\\.\\*)+$", "");
-            // If remaining pattern has regex special chars, cannot translate to q-param
-            if ( stripped.matches(".*[.\\[\\](){}*+?^$|\\\\].*") ) {
-                LOG.trace("Skipping OperatorMatches with complex regex pattern: {}", pattern);
-                return;
-            }
-            boolean hasWildcard = hasLeadingWildcard || hasTrailingWildcard;
-            String value = hasWildcard ? "*" + stripped + "*" : stripped;
-            Function<String, String> valueGenerator = valueGeneratorsByPropertyPaths.get(propertyName);
-            addQuery(String.format("%s:%s", qName, valueGenerator.apply(value)));
-        }
+    @Override
+    public final QueryPushdownTerm translate(SpelNode conjunct) {
+        LOG.trace("Translating node: "+conjunct);
+        return JavaHelper.as(conjunct, OpEQ.class).map(this::translateEQ)
+                .or(()->JavaHelper.as(conjunct, OperatorMatches.class).map(this::translateMatches))
+                .orElse(null);
+    }
+    
+    @Override
+    public final String combine(List<String> values) {
+        return String.join("+and+", values);
+    }
 
-        private void addEQ(String propertyName, String value) {
-            String qName = qNamesByPropertyPaths.get(propertyName);
-            if ( qName!=null ) {
-                Function<String, String> valueGenerator = valueGeneratorsByPropertyPaths.get(propertyName);
-                addQuery(String.format("%s:%s", qName, valueGenerator.apply(value)));
-            }
+    private QueryPushdownTerm translateEQ(OpEQ node) {
+        var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+        var literalString = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
+        LOG.trace("OpEQ property: {}, literal: {}", propertyName, literalString);
+        if ( propertyName==null || literalString==null ) { return null; }
+        var query = getQuery(propertyName, literalString);
+        if ( query==null ) { return null; }
+        var exact = numericPropertyPaths.contains(propertyName) 
+                && SpelNodeHelper.operand(node, SpelNodeHelper::integralLiteralString).isPresent();
+        return exact ? QueryPushdownTerm.exact(query) : QueryPushdownTerm.partial(query);
+    }
+    
+    private QueryPushdownTerm translateMatches(OperatorMatches node) {
+        var propertyName = SpelNodeHelper.operand(node, SpelNodeHelper::qualifiedPropertyName).orElse(null);
+        var pattern = SpelNodeHelper.operand(node, SpelNodeHelper::literalString).orElse(null);
+        LOG.trace("OperatorMatches property: {}, literal: {}", propertyName, pattern);
+        if ( propertyName==null || pattern==null ) { return null; }
+        var hasLeadingWildcard = pattern.startsWith(".*");
+        var hasTrailingWildcard = pattern.endsWith(".*");
+        var stripped = pattern
+                .replaceAll("^(\\.\\*)+", "")
+                .replaceAll("(\\.\\*)+$", "");
+        // If remaining pattern has regex special chars, cannot translate to q-param
+        if ( stripped.matches(".*[.\\[\\](){}*+?^$|\\\\].*") ) {
+            LOG.trace("Skipping OperatorMatches with complex regex pattern: {}", pattern);
+            return null;
         }
+        boolean hasWildcard = hasLeadingWildcard || hasTrailingWildcard;
+        var query = getQuery(propertyName, hasWildcard ? "*" + stripped + "*" : stripped);
+        return query==null ? null : QueryPushdownTerm.partial(query);
+    }
 
-        private void addQuery(String query) {
-            qParamValue.append(
-                qParamValue.isEmpty()
-                    ? query
-                    : ("+and+"+query)
-            );
-        }
+    private String getQuery(String propertyName, String value) {
+        String qName = qNamesByPropertyPaths.get(propertyName);
+        if ( qName==null ) { return null; }
+        Function<String, String> valueGenerator = valueGeneratorsByPropertyPaths.get(propertyName);
+        return String.format("%s:%s", qName, valueGenerator.apply(value));
     }
 }
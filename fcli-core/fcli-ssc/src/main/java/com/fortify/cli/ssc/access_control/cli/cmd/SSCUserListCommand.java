@@ -35,7 +35,7 @@ public class SSCUserListCommand extends AbstractSSCBaseRequestOutputCommand impl
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-                .add("id", SSCQParamValueGenerators::plain)
+                .addNumeric("id")
                 .add("isLdap", SSCQParamValueGenerators::plain);
     
     @Override
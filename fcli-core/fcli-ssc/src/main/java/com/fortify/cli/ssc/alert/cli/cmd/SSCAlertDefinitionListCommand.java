@@ -35,7 +35,7 @@ public class SSCAlertDefinitionListCommand extends AbstractSSCBaseRequestOutputC
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-                .add("id", SSCQParamValueGenerators::plain)
+                .addNumeric("id")
                 .add("name", SSCQParamValueGenerators::wrapInQuotes)
                 .add("createdBy", SSCQParamValueGenerators::wrapInQuotes)
                 .add("recipientType", SSCQParamValueGenerators::wrapInQuotes)
@@ -37,7 +37,7 @@ public class SSCAlertListCommand extends AbstractSSCBaseRequestOutputCommand imp
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-                .add("id", SSCQParamValueGenerators::plain)
+                .addNumeric("id")
                 .add("alertDefinitionName", SSCQParamValueGenerators::wrapInQuotes)
                 .add("userName", SSCQParamValueGenerators::wrapInQuotes)
                 .add("recipientType", SSCQParamValueGenerators::wrapInQuotes)
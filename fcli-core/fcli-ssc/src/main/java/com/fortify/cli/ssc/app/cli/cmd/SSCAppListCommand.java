@@ -34,7 +34,7 @@ public class SSCAppListCommand extends AbstractSSCBaseRequestOutputCommand imple
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-                .add("id", SSCQParamValueGenerators::plain)
+                .addNumeric("id")
                 .add("name", SSCQParamValueGenerators::wrapInQuotes);
     
     @Override
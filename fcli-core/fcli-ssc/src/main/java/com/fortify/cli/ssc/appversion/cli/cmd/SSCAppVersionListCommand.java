@@ -39,9 +39,9 @@ public class SSCAppVersionListCommand extends AbstractSSCBaseRequestOutputComman
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-                .add("id", SSCQParamValueGenerators::plain)
+                .addNumeric("id")
                 .add("application.name", "project.name", SSCQParamValueGenerators::wrapInQuotes)
-                .add("application.id", "project.id", SSCQParamValueGenerators::plain)
+                .addNumeric("application.id", "project.id")
                 .add("name", SSCQParamValueGenerators::wrapInQuotes);
     @Mixin private SSCAppVersionBulkEmbedMixin bulkEmbedMixin;
     @Mixin private SSCAppVersionIncludeMixin includeMixin;
@@ -35,7 +35,7 @@ public class SSCAttributeDefinitionListCommand extends AbstractSSCBaseRequestOut
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-                .add("id", SSCQParamValueGenerators::plain)
+                .addNumeric("id")
                 .add("category", SSCQParamValueGenerators::wrapInQuotes)
                 .add("guid", SSCQParamValueGenerators::wrapInQuotes)
                 .add("name", SSCQParamValueGenerators::wrapInQuotes)
@@ -37,7 +37,7 @@ public class SSCReportListCommand extends AbstractSSCBaseRequestOutputCommand im
     @Mixin private SSCFetchRangeMixin fetchRangeMixin;
     @Mixin private SSCQParamMixin qParamMixin;
     @Getter private IServerSideQueryParamValueGenerator serverSideQueryParamGenerator = new SSCQParamGenerator()
-            .add("id", SSCQParamValueGenerators::plain)
+            .addNumeric("id")
             .add("name", SSCQParamValueGenerators::wrapInQuotes)
             .add("type", "reportDefinition.type", SSCQParamValueGenerators::wrapInQuotes)
             .add("template.name", "reportDefinition.name", SSCQParamValueGenerators::wrapInQuotes)
@@ -19,6 +19,7 @@ import com.fortify.cli.common.rest.cli.cmd.AbstractWaitForCommand;
 import com.fortify.cli.common.rest.wait.WaitHelper.WaitHelperBuilder;
 import com.fortify.cli.ssc._common.rest.ssc.cli.mixin.SSCUnirestInstanceSupplierMixin;
 import com.fortify.cli.ssc.report.cli.mixin.SSCReportResolverMixin;
+import com.fortify.cli.ssc.report.helper.SSCReportHelper;
 import com.fortify.cli.ssc.report.helper.SSCReportStatus;
 import com.fortify.cli.ssc.report.helper.SSCReportStatus.SSCReportStatusIterable;
 
@@ -39,6 +40,7 @@ public class SSCReportWaitForCommand extends AbstractWaitForCommand {
     protected WaitHelperBuilder configure(UnirestInstance unirest, WaitHelperBuilder builder) {
         return builder
                 .recordsSupplier(reportsResolver::getReportDescriptorJsonNodes)
+                .recordRefresher((u,r)->SSCReportHelper.getRequiredReportDescriptor(u, r.get("id").asText()).asJsonNode())
                 .currentStateProperty("status")
                 .knownStates(SSCReportStatus.getKnownStateNames())
                 .failureStates(SSCReportStatus.getFailureStateNames())
@@ -19,6 +19,7 @@ import com.fortify.cli.common.rest.cli.cmd.AbstractWaitForCommand;
 import com.fortify.cli.common.rest.wait.WaitHelper.WaitHelperBuilder;
 import com.fortify.cli.ssc._common.rest.ssc.cli.mixin.SSCUnirestInstanceSupplierMixin;
 import com.fortify.cli.ssc.system_state.cli.mixin.SSCJobResolverMixin;
+import com.fortify.cli.ssc.system_state.helper.SSCJobHelper;
 import com.fortify.cli.ssc.system_state.helper.SSCJobStatus;
 import com.fortify.cli.ssc.system_state.helper.SSCJobStatus.SSCJobStatusIterable;
 
@@ -39,6 +40,7 @@ public class SSCStateJobWaitForCommand extends AbstractWaitForCommand {
     protected WaitHelperBuilder configure(UnirestInstance unirest, WaitHelperBuilder builder) {
         return builder
                 .recordsSupplier(jobsResolver::getJobDescriptorJsonNodes)
+                .recordRefresher((u,r)->SSCJobHelper.getJobDescriptor(u, r.get("jobName").asText()).asJsonNode())
                 .currentStateProperty("state")
                 .knownStates(SSCJobStatus.getKnownStateNames())
                 .failureStates(SSCJobStatus.getFailureStateNames())
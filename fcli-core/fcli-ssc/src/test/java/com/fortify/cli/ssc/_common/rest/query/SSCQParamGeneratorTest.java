@@ -15,10 +15,14 @@ package com.fortify.cli.ssc._common.rest.query;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.SpelParseException;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryPushdown;
 import com.fortify.cli.ssc._common.rest.ssc.query.SSCQParamGenerator;
 import com.fortify.cli.ssc._common.rest.ssc.query.SSCQParamValueGenerators;
 
@@ -43,4 +47,46 @@ public class SSCQParamGeneratorTest {
             Assertions.fail(e);
         }
     }
+    
+    @ParameterizedTest
+    @CsvFileSource(resources = "/com/fortify/cli/ssc/rest/query/qparam.csv", nullValues = "null")
+    public void testConjunctsEvaluatedClientSide(String expressionString, String expectedParam) {
+        // SSC server-side matching may differ from SpEL evaluation, so the full
+        // query must still be evaluated client-side, even if pushed down
+        var queryExpression = new QueryExpression(new SpelExpressionParser().parseExpression(expressionString));
+        var pushdown = QueryPushdown.split(queryExpression, generator);
+        Assertions.assertEquals(expectedParam, pushdown.getServerSideQueryParamValue());
+        Assertions.assertFalse(pushdown.isFullyPushedDown());
+        Assertions.assertSame(queryExpression, pushdown.getResidualQueryExpression());
+    }
+    
+    private SSCQParamGenerator numericGenerator = new SSCQParamGenerator()
+            .addNumeric("id")
+            .addNumeric("application.id", "project.id")
+            .add("name", SSCQParamValueGenerators::plain);
+    
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", quoteCharacter = '"', value = {
+        "id==5, id:5, null",
+        "5==id, id:5, null",
+        "id=='5', id:5, id=='5'",
+        "id==5L && application?.id==2, id:5+and+project.id:2, null",
+        "id==5 && name=='test', id:5+and+name:test, name=='test'",
+        "name=='test' && id==5 && name.length()>0, name:test+and+id:5, name=='test' && name.length()>0",
+        "id matches '5', id:5, id matches '5'",
+        "name=='5', name:5, name=='5'"
+    })
+    public void testNumericEqualityPushedDownExactly(String expressionString, String expectedParam, String expectedResidual) {
+        // SSC matches numeric fields exactly, so only equality checks between
+        // numeric properties and integer literals may be skipped client-side
+        var parser = new SpelExpressionParser();
+        var pushdown = QueryPushdown.split(new QueryExpression(parser.parseExpression(expressionString)), numericGenerator);
+        Assertions.assertEquals(expectedParam, pushdown.getServerSideQueryParamValue());
+        if ( expectedResidual==null ) {
+            Assertions.assertTrue(pushdown.isFullyPushedDown());
+        } else {
+            var residual = (SpelExpression)pushdown.getResidualQueryExpression().getExpression();
+            Assertions.assertEquals(((SpelExpression)parser.parseExpression(expectedResidual)).getAST().toStringAST(), residual.getAST().toStringAST());
+        }
+    }
 }
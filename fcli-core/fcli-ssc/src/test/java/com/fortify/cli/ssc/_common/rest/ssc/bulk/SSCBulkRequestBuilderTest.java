@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.ssc._common.rest.ssc.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.fortify.cli.ssc._common.rest.ssc.bulk.SSCBulkRequestBuilder.AdaptiveBatchSizer;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.UnirestInstance;
+
+/**
+ * Tests for adaptive batch sizing and concurrent execution of SSC bulk requests,
+ * using a local HTTP server that mimics the SSC bulk endpoint.
+ */
+public class SSCBulkRequestBuilderTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int MAX = AdaptiveBatchSizer.MAX_BATCH_SIZE;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger batchCount = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private UnirestInstance unirest;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/v1/bulk", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            batchCount.incrementAndGet();
+            try {
+                var requests = objectMapper.readTree(exchange.getRequestBody()).get("requests");
+                var data = objectMapper.createArrayNode();
+                for ( var request : requests ) {
+                    var body = objectMapper.createObjectNode().put("uri", request.get("uri").asText());
+                    data.addObject().putArray("responses").addObject().set("body", body);
+                }
+                Thread.sleep(50);
+                var bytes = objectMapper.writeValueAsBytes(objectMapper.createObjectNode().set("data", data));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try ( var os = exchange.getResponseBody() ) { os.write(bytes); }
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.start();
+        unirest = UnirestHelper.createUnirestInstance();
+        unirest.config().defaultBaseUrl("http://127.0.0.1:"+server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopServer() {
+        unirest.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // initial, count, millis, bytes, expected
+        "10, 10, 100, -1, 20",      // Fast response: grow by at most a factor of 2
+        "10, 10, 2000, -1, 15",     // Grow to fit target duration
+        "10, 10, 6000, -1, 5",      // Slow response: shrink
+        "10, 10, 100, 16777216, 5", // Large payload: shrink
+        "10, 10, 60000, -1, 1",     // Never shrink below 1
+        "80, 80, 100, -1, "+MAX,    // Clamp to maximum batch size
+        "10, 10, 0, 0, 20",         // Unknown duration and payload size
+        "10, 0, 100, -1, 10",       // Empty batch is ignored
+    })
+    void testAdaptiveBatchSize(int initialBatchSize, int requestCount, long durationMillis, long payloadBytes, int expectedBatchSize) {
+        var sizer = new AdaptiveBatchSizer(initialBatchSize, true);
+        sizer.record(requestCount, durationMillis, payloadBytes);
+        assertEquals(expectedBatchSize, sizer.getBatchSize());
+    }
+
+    @Test
+    void testAdaptiveBatchSizeGrowsToMaximum() {
+        var sizer = new AdaptiveBatchSizer(1, true);
+        for ( int expected : new int[] {2, 4, 8, 16, 32, 64, MAX, MAX} ) {
+            sizer.record(sizer.getBatchSize(), 10, 1024);
+            assertEquals(expected, sizer.getBatchSize());
+        }
+        // Shrink again once batches become slow
+        sizer.record(sizer.getBatchSize(), 6000, 1024);
+        assertEquals(MAX/2, sizer.getBatchSize());
+    }
+
+    @Test
+    void testNonAdaptiveBatchSize() {
+        var sizer = new AdaptiveBatchSizer(10, false);
+        sizer.record(10, 60000, 16777216);
+        assertEquals(10, sizer.getBatchSize());
+    }
+
+    @Test
+    void testReadOnlyRequestsExecutedConcurrently() {
+        var builder = new SSCBulkRequestBuilder().batchSize(1).adaptiveBatchSize(false);
+        var results = addRequests(builder, 20);
+        builder.execute(unirest);
+        assertResults(results, 20);
+        assertEquals(20, batchCount.get());
+        // Default maximum concurrency is 4
+        assertTrue(maxInFlight.get()>1 && maxInFlight.get()<=4, "Unexpected concurrency: "+maxInFlight.get());
+    }
+
+    @Test
+    void testMaxConcurrency() {
+        var builder = new SSCBulkRequestBuilder().batchSize(1).adaptiveBatchSize(false).maxConcurrency(2);
+        var results = addRequests(builder, 10);
+        builder.execute(unirest);
+        assertResults(results, 10);
+        assertTrue(maxInFlight.get()<=2, "Unexpected concurrency: "+maxInFlight.get());
+    }
+
+    @Test
+    void testNonReadOnlyRequestsExecutedSequentially() {
+        var builder = new SSCBulkRequestBuilder().batchSize(1).adaptiveBatchSize(false);
+        var results = addRequests(builder, 5);
+        builder.request("delete", unirest.delete("/api/v1/items/delete"));
+        builder.execute(unirest);
+        assertResults(results, 5);
+        assertEquals(6, batchCount.get());
+        assertEquals(1, maxInFlight.get());
+    }
+
+    private JsonNode[] addRequests(SSCBulkRequestBuilder builder, int count) {
+        var results = new JsonNode[count];
+        for ( int i=0; i<count; i++ ) {
+            var idx = i;
+            builder.request("request"+i, unirest.get("/api/v1/items/"+i), r->results[idx]=r);
+        }
+        return results;
+    }
+
+    private static void assertResults(JsonNode[] results, int count) {
+        for ( int i=0; i<count; i++ ) {
+            assertTrue(results[i].get("uri").asText().endsWith("/api/v1/items/"+i), "Unexpected result: "+results[i]);
+        }
+    }
+}
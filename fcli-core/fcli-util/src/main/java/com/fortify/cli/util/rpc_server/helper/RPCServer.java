@@ -34,6 +34,7 @@ import com.fortify.cli.common.cli.util.FcliExecutionContext;
 import com.fortify.cli.common.cli.util.FcliExecutionContextHolder;
 import com.fortify.cli.common.http.ssl.trust.FcliTrustManager;
 import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.rest.unirest.config.UnirestHttpClientConfigurer;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -121,6 +122,7 @@ public final class RPCServer {
             registry.setOutputWriter(null);
             registry.getAsyncJobManager().shutdown();
             registry.getCachingListener().shutdown();
+            UnirestHttpClientConfigurer.shutdownPools();
             log.info("JSON-RPC server stopped");
         }
     }
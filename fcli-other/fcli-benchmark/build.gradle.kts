@@ -0,0 +1,30 @@
+plugins {
+    id("fcli.java-conventions")
+    id("me.champeau.jmh")
+}
+
+// JMH micro-benchmarks for fcli hot paths. All benchmark inputs are generated
+// locally, so benchmarks can be run offline through:
+//   ./gradlew :fcli-other:fcli-benchmark:jmh
+// Optionally, use -PjmhIncludes=<regex> to run only matching benchmarks, for
+// example -PjmhIncludes=RecordWriterBenchmark. Results are written to
+// build/results/jmh/results.json for comparison against a previous baseline.
+dependencies {
+    implementation(project(property("fcliCommonRef") as String))
+    implementation(project(property("fcliAviatorCommonRef") as String))
+}
+
+jmh {
+    val includesProp = project.findProperty("jmhIncludes") as String?
+    if (!includesProp.isNullOrBlank()) {
+        includes.set(includesProp.split(',').map { it.trim() })
+    }
+    warmupIterations.set(2)
+    warmup.set("2s")
+    iterations.set(3)
+    timeOnIteration.set("2s")
+    fork.set(1)
+    failOnError.set(true)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.JsonHelper;
+
+/**
+ * Generators for synthetic benchmark inputs. All data is generated locally and
+ * deterministically, so benchmark results are comparable between runs and no
+ * network access or external test data is required.
+ */
+final class BenchmarkData {
+    private static final String[] CATEGORIES = {
+        "Cross-Site Scripting", "SQL Injection", "Path Manipulation",
+        "Password Management", "Insecure Dependency", "Log Forging"
+    };
+    private static final String[] ANALYZERS = { "Dataflow", "Controlflow", "Structural", "Semantic", "Configuration" };
+
+    private BenchmarkData() {}
+
+    /** Create a record with a mix of simple, nested object and nested array properties. */
+    static ObjectNode createRecord(int index) {
+        var record = JsonHelper.getObjectMapper().createObjectNode()
+                .put("id", index)
+                .put("name", "issue-"+index)
+                .put("category", CATEGORIES[index % CATEGORIES.length])
+                .put("severity", index % 5)
+                .put("description", "Synthetic issue "+index+" with a description that is long enough to require wrapping or truncation in table output")
+                .put("suppressed", index % 7 == 0);
+        record.putObject("location")
+                .put("file", "src/main/java/com/example/module"+(index % 20)+"/Class"+index+".java")
+                .put("line", index * 3 % 1000);
+        var tags = record.putArray("tags");
+        for (int i = 0; i < index % 4; i++) {
+            tags.add("tag-"+i);
+        }
+        return record;
+    }
+
+    /** Create the given number of records through {@link #createRecord(int)}. */
+    static List<ObjectNode> createRecords(int count) {
+        var result = new ArrayList<ObjectNode>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(createRecord(i));
+        }
+        return result;
+    }
+
+    /**
+     * Create a synthetic FPR file containing an audit.fvdl with the given number of
+     * vulnerabilities, together with the minimal source archive index required by
+     * the FPR processing code.
+     */
+    static Path createSyntheticFpr(int vulnerabilityCount) throws IOException {
+        var fpr = Files.createTempFile("fcli-benchmark-", ".fpr");
+        fpr.toFile().deleteOnExit();
+        try (var zip = new ZipOutputStream(Files.newOutputStream(fpr))) {
+            zip.putNextEntry(new ZipEntry("audit.fvdl"));
+            zip.write(createFvdl(vulnerabilityCount).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("src-archive/index.xml"));
+            zip.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?><index/>".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return fpr;
+    }
+
+    private static String createFvdl(int vulnerabilityCount) {
+        var sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<FVDL>\n  <EngineData>\n    <RuleInfo>\n");
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            sb.append("      <Rule id=\"RULE-").append(i).append("\">\n")
+              .append("        <MetaInfo>\n")
+              .append("          <Group name=\"Category\">").append(CATEGORIES[i]).append("</Group>\n")
+              .append("          <Group name=\"Impact\">").append(1 + i % 5).append(".0</Group>\n")
+              .append("          <Group name=\"Probability\">").append(1 + (i * 2) % 5).append(".0</Group>\n")
+              .append("        </MetaInfo>\n")
+              .append("      </Rule>\n");
+        }
+        sb.append("    </RuleInfo>\n  </EngineData>\n  <Vulnerabilities>\n");
+        for (int i = 0; i < vulnerabilityCount; i++) {
+            int rule = i % CATEGORIES.length;
+            sb.append("    <Vulnerability>\n")
+              .append("      <ClassInfo>\n")
+              .append("        <ClassID>RULE-").append(rule).append("</ClassID>\n")
+              .append("        <Kingdom>Input Validation and Representation</Kingdom>\n")
+              .append("        <Type>").append(CATEGORIES[rule]).append("</Type>\n")
+              .append("        <AnalyzerName>").append(ANALYZERS[i % ANALYZERS.length]).append("</AnalyzerName>\n")
+              .append("        <DefaultSeverity>").append(1 + i % 5).append(".0</DefaultSeverity>\n")
+              .append("      </ClassInfo>\n")
+              .append("      <InstanceInfo>\n")
+              .append("        <InstanceID>instance-").append(i).append("</InstanceID>\n")
+              .append("        <InstanceSeverity>").append(1 + i % 5).append(".0</InstanceSeverity>\n")
+              .append("        <Confidence>").append(1 + i % 5).append(".0</Confidence>\n")
+              .append("      </InstanceInfo>\n")
+              .append("    </Vulnerability>\n");
+        }
+        return sb.append("  </Vulnerabilities>\n</FVDL>\n").toString();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.transform.flatten.FlattenTransformer;
+
+/**
+ * Benchmarks {@link FlattenTransformer} on a set of records containing nested
+ * objects and arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlattenTransformerBenchmark {
+    @Param({"true", "false"})
+    public boolean flattenNestedArrays;
+    private List<ObjectNode> records;
+    private FlattenTransformer transformer;
+
+    @Setup
+    public void setup() {
+        records = BenchmarkData.createRecords(100);
+        transformer = new FlattenTransformer(Function.identity(), ".", flattenNestedArrays);
+    }
+
+    @Benchmark
+    public void flatten(Blackhole blackhole) {
+        for (var record : records) {
+            blackhole.consume(transformer.transformObjectNode(record));
+        }
+    }
+}
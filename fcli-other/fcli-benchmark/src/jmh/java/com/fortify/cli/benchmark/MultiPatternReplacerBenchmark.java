@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fortify.cli.common.regex.MultiPatternReplacer;
+
+/**
+ * Benchmarks {@link MultiPatternReplacer#applyReplacements(String)} with a log-masking-like
+ * configuration of registered values and patterns, on input that either contains or doesn't
+ * contain any values to be replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiPatternReplacerBenchmark {
+    @Param({"10", "100"})
+    public int registeredValues;
+    @Param({"true", "false"})
+    public boolean withMatches;
+    private MultiPatternReplacer replacer;
+    private String input;
+
+    @Setup
+    public void setup() {
+        replacer = new MultiPatternReplacer();
+        for (int i = 0; i < registeredValues; i++) {
+            replacer.registerValue("secret-token-value-"+i, "<REDACTED TOKEN "+i+">");
+        }
+        replacer.registerPattern("Authorization: (?:Bearer|Basic|FortifyToken) (\\S+)", "<REDACTED AUTH>");
+        replacer.registerPattern("\"password\"\\s*:\\s*\"([^\"]+)\"", "<REDACTED PASSWORD>");
+        var sb = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            sb.append("2026-01-01 12:00:00 DEBUG Request ").append(i)
+              .append(": GET https://ssc.example.com/api/v1/projectVersions?start=").append(i * 50)
+              .append("&limit=50 Accept: application/json\n");
+            if (withMatches && i % 5 == 0) {
+                sb.append("Authorization: Bearer secret-token-value-").append(i % registeredValues).append('\n')
+                  .append("{\"user\":\"admin\",\"password\":\"p@ssw0rd").append(i).append("\"}\n");
+            }
+        }
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public String applyReplacements() {
+        return replacer.applyReplacements(input);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
+import com.fortify.cli.common.output.writer.record.RecordWriterFactory;
+import com.fortify.cli.common.output.writer.record.RecordWriterStyle;
+
+/**
+ * Benchmarks writing a set of records through each of the {@link RecordWriterFactory}
+ * record writer implementations, discarding the generated output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecordWriterBenchmark {
+    @Param({"table", "csv", "json", "yaml", "xml"})
+    public String format;
+    @Param({"1000"})
+    public int recordCount;
+    private List<ObjectNode> records;
+
+    @Setup
+    public void setup() {
+        records = BenchmarkData.createRecords(recordCount);
+    }
+
+    @Benchmark
+    public void write() {
+        var config = RecordWriterConfig.builder()
+                .writerSupplier(Writer::nullWriter)
+                .style(RecordWriterStyle.none())
+                .build();
+        try (var writer = RecordWriterFactory.valueOf(format).createWriter(config)) {
+            // Records may be modified by some writers, so we pass a copy of each record
+            for (var record : records) {
+                writer.append(record.deepCopy());
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.spel.SpelEvaluator;
+
+/**
+ * Benchmarks {@link SpelEvaluator} evaluation of typical fcli expressions on a JSON record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpelEvaluatorBenchmark {
+    @Param({
+        "name",
+        "location.file",
+        "severity > 2 && !suppressed",
+        "category.toUpperCase() + ':' + location.line"
+    })
+    public String expression;
+    private ObjectNode record;
+
+    @Setup
+    public void setup() {
+        record = BenchmarkData.createRecord(42);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return SpelEvaluator.JSON_GENERIC.evaluate(expression, record, Object.class);
+    }
+}
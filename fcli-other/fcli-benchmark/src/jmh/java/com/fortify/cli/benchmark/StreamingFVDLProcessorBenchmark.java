@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fortify.cli.aviator.fpr.processor.StreamingFVDLProcessor;
+import com.fortify.cli.aviator.util.FprHandle;
+
+/**
+ * Benchmarks {@link StreamingFVDLProcessor} parsing of the audit.fvdl file in a
+ * synthetic FPR generated by {@link BenchmarkData#createSyntheticFpr(int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StreamingFVDLProcessorBenchmark {
+    @Param({"1000", "10000"})
+    public int vulnerabilityCount;
+    private Path fpr;
+    private FprHandle fprHandle;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        fpr = BenchmarkData.createSyntheticFpr(vulnerabilityCount);
+        fprHandle = new FprHandle(fpr);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fprHandle.close();
+        Files.deleteIfExists(fpr);
+    }
+
+    @Benchmark
+    public int parse() throws Exception {
+        var processor = new StreamingFVDLProcessor(fprHandle);
+        try (var zipFile = new ZipFile(fpr.toFile())) {
+            processor.parse(zipFile, "audit.fvdl");
+        }
+        return processor.getVulnerabilities().size();
+    }
+}
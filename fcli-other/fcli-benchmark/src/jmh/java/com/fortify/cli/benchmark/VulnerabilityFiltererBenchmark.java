@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2026 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.fpr.filter.Filter;
+import com.fortify.cli.aviator.fpr.filter.FilterSet;
+import com.fortify.cli.aviator.fpr.filter.VulnerabilityFilterer;
+import com.fortify.cli.aviator.fpr.processor.StreamingFVDLProcessor;
+import com.fortify.cli.aviator.util.FprHandle;
+
+/**
+ * Benchmarks {@link VulnerabilityFilterer} query and filter set evaluation on the
+ * vulnerabilities loaded from a synthetic FPR.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VulnerabilityFiltererBenchmark {
+    @Param({"10000"})
+    public int vulnerabilityCount;
+    private List<Vulnerability> vulnerabilities;
+    private FilterSet filterSet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var fpr = BenchmarkData.createSyntheticFpr(vulnerabilityCount);
+        try (var fprHandle = new FprHandle(fpr); var zipFile = new ZipFile(fpr.toFile())) {
+            var processor = new StreamingFVDLProcessor(fprHandle);
+            processor.parse(zipFile, "audit.fvdl");
+            vulnerabilities = processor.getVulnerabilities();
+        } finally {
+            Files.deleteIfExists(fpr);
+        }
+        filterSet = new FilterSet();
+        filterSet.setTitle("Benchmark");
+        filterSet.setFilters(List.of(
+            createFilter("hide", "analyzer:configuration"),
+            createFilter("setFolder", "category:\"SQL Injection\" OR category:\"Cross-Site Scripting\""),
+            createFilter("hide", "confidence:[1.0,2.0]"),
+            createFilter("setFolder", "severity:[3.0,5.0]"),
+            createFilter("setFolder", "analyzer:dataflow")
+        ));
+    }
+
+    @Benchmark
+    public List<Vulnerability> filterQuery() {
+        return VulnerabilityFilterer.filter(vulnerabilities, "analyzer:dataflow category:\"SQL Injection\"");
+    }
+
+    @Benchmark
+    public List<Vulnerability> filterSet() {
+        return VulnerabilityFilterer.filterVulnerabilities(vulnerabilities, filterSet);
+    }
+
+    private static Filter createFilter(String action, String query) {
+        var filter = new Filter();
+        filter.setAction(action);
+        filter.setQuery(query);
+        return filter;
+    }
+}
@@ -15,6 +15,7 @@ pluginManagement {
         id("org.asciidoctor.jvm.convert") version "4.0.4"
         id("de.undercouch.download") version "5.6.0"
         id("com.google.protobuf") version "0.9.4"
+        id("me.champeau.jmh") version "0.7.3"
     }
     includeBuild("build-logic")
 }